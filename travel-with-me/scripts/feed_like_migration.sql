@@ -0,0 +1,31 @@
+-- feed_like 조인 테이블을 FeedLike 엔티티 테이블로 변경
+-- - 기존 테이블에는 PK가 없어 같은 (feed_id, member_id) 행이 중복될 수 있으므로 중복을 제거한 뒤 id와 유니크 인덱스를 추가
+-- - ddl-auto는 데이터가 있는 테이블에 auto_increment PK와 유니크 인덱스를 추가하지 못하므로 새 버전을 실행하기 전에 한 번만 실행
+-- - 실행 중에 좋아요가 추가되지 않도록 기존 애플리케이션을 종료한 상태에서 실행
+set SQL_SAFE_UPDATES = 0;
+
+create table feed_like_dedup as
+select distinct feed_id, member_id
+from feed_like
+where feed_id is not null
+  and member_id is not null;
+
+delete from feed_like;
+
+alter table feed_like
+    add column id bigint not null auto_increment primary key first,
+    modify feed_id bigint not null,
+    modify member_id bigint not null,
+    add constraint uk_feed_like_feed_member unique (feed_id, member_id);
+
+insert into feed_like (feed_id, member_id)
+select feed_id, member_id
+from feed_like_dedup;
+
+drop table feed_like_dedup;
+
+-- 기존 cancelLike는 좋아요 수만 줄이고 행을 삭제하지 않았으므로 남아 있는 행 기준으로 좋아요 수를 다시 계산
+update feed f
+set f.like_count = (select count(*) from feed_like fl where fl.feed_id = f.id);
+
+set SQL_SAFE_UPDATES = 1;
@@ -0,0 +1,4 @@
+-- Matching의 @Version을 제거한 뒤 남은 version 컬럼 삭제
+-- - ddl-auto는 매핑하지 않는 컬럼을 삭제하지 않으며, not null 컬럼이 남아 있으면 새 매칭 신청 insert가 실패
+-- - 새 버전을 실행하기 전에 한 번만 실행, 컬럼이 없으면 생략
+alter table matching drop column version;
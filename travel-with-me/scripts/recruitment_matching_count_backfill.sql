@@ -0,0 +1,27 @@
+-- recruitment의 매칭 상태별 인원 수를 matching 테이블 기준으로 다시 계산하고, 더 이상 매핑하지 않는 version 컬럼 삭제
+-- - 컬럼 추가 전부터 있던 모집글은 인원 수가 0이고, 감소는 0에서 멈추므로 기존 매칭의 상태가 바뀌면 값이 계속 어긋남
+-- - 실행 중인 서버의 매칭 요청을 덮어쓰지 않도록 기존 애플리케이션을 종료한 상태에서 새 버전 실행 전에 한 번만 실행
+-- - ddl-auto로 인원 수 컬럼이 먼저 추가되어 있어야 하므로, 컬럼이 없으면 아래 alter를 먼저 실행
+--   alter table recruitment add column requested_count bigint not null default 0,
+--       add column approved_count bigint not null default 0,
+--       add column rejected_count bigint not null default 0,
+--       add column cancelled_count bigint not null default 0;
+set SQL_SAFE_UPDATES = 0;
+
+update recruitment r
+    left join (select m.recruitment_id,
+                      sum(m.status = 'REQUEST') as requested_count,
+                      sum(m.status = 'APPROVE') as approved_count,
+                      sum(m.status = 'REJECT')  as rejected_count,
+                      sum(m.status = 'CANCEL')  as cancelled_count
+               from matching m
+               group by m.recruitment_id) c on c.recruitment_id = r.id
+set r.requested_count = coalesce(c.requested_count, 0),
+    r.approved_count  = coalesce(c.approved_count, 0),
+    r.rejected_count  = coalesce(c.rejected_count, 0),
+    r.cancelled_count = coalesce(c.cancelled_count, 0);
+
+-- @Version을 제거한 뒤 남은 컬럼, 이미 삭제했다면 생략
+alter table recruitment drop column version;
+
+set SQL_SAFE_UPDATES = 1;
@@ -0,0 +1,10 @@
+-- tag.usage_count 컬럼 추가 전부터 있던 태그의 사용 수를 feed_tag 기준으로 다시 계산
+-- - 실행 중인 서버의 커밋 후 증가/감소를 덮어쓰지 않도록 기존 애플리케이션을 종료한 상태에서 새 버전 실행 전에 한 번만 실행
+-- - ddl-auto로 usage_count 컬럼이 먼저 추가되어 있어야 하므로, 컬럼이 없으면 아래 alter를 먼저 실행
+--   alter table tag add column usage_count bigint default 0 not null;
+set SQL_SAFE_UPDATES = 0;
+
+update tag t
+set t.usage_count = (select count(*) from feed_tag ft where ft.tag_id = t.id);
+
+set SQL_SAFE_UPDATES = 1;
@@ -3,6 +3,7 @@ package com.frog.travelwithme.domain.buddy.controller;
 import com.frog.travelwithme.domain.buddy.service.MatchingService;
 import com.frog.travelwithme.global.dto.MessageResponseDto;
 import com.frog.travelwithme.global.enums.EnumCollection;
+import com.frog.travelwithme.global.redis.IdempotencyService;
 import com.frog.travelwithme.global.security.auth.userdetails.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,43 +30,63 @@ import javax.validation.constraints.Positive;
 public class MatchingController {
 
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final MatchingService matchingService;
 
+    private final IdempotencyService idempotencyService;
+
     @PostMapping("/{recruitment-id}/matching/request")
     public ResponseEntity requestMatching(@Positive @PathVariable("recruitment-id") Long recruitmentsId,
-                                          @AuthenticationPrincipal CustomUserDetails user) {
+                                          @AuthenticationPrincipal CustomUserDetails user,
+                                          @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 
         String email = user.getEmail();
-        EnumCollection.ResponseBody response = matchingService.requestMatchingByEmail(recruitmentsId, email);
+        String scope = "Matching:request:" + recruitmentsId + ":" + email;
+        EnumCollection.ResponseBody response = idempotencyService.execute(scope, idempotencyKey,
+                EnumCollection.ResponseBody.class,
+                () -> matchingService.requestMatchingByEmail(recruitmentsId, email));
         return new ResponseEntity<>(new MessageResponseDto(response.getDescription()), HttpStatus.OK);
     }
 
     @PostMapping("/{recruitment-id}/matching/cancel")
     public ResponseEntity cancelMatching(@Positive @PathVariable("recruitment-id") Long recruitmentsId,
-                                         @AuthenticationPrincipal CustomUserDetails user) {
+                                         @AuthenticationPrincipal CustomUserDetails user,
+                                         @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 
         String email = user.getEmail();
-        EnumCollection.ResponseBody response = matchingService.cancelMatchingByEmail(recruitmentsId, email);
+        String scope = "Matching:cancel:" + recruitmentsId + ":" + email;
+        EnumCollection.ResponseBody response = idempotencyService.execute(scope, idempotencyKey,
+                EnumCollection.ResponseBody.class,
+                () -> matchingService.cancelMatchingByEmail(recruitmentsId, email));
         return new ResponseEntity<>(new MessageResponseDto(response.getDescription()), HttpStatus.OK);
     }
 
     @PostMapping("/{recruitment-id}/matching/{matching-id}/approve")
     public ResponseEntity approveMatching(@Positive @PathVariable("recruitment-id") Long recruitmentsId,
                                           @Positive @PathVariable("matching-id") Long matchingId,
-                                          @AuthenticationPrincipal CustomUserDetails user) {
+                                          @AuthenticationPrincipal CustomUserDetails user,
+                                          @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 
         String email = user.getEmail();
-        EnumCollection.ResponseBody response = matchingService.approveMatchingByEmail(recruitmentsId, email, matchingId);
+        String scope = "Matching:approve:" + recruitmentsId + ":" + matchingId + ":" + email;
+        EnumCollection.ResponseBody response = idempotencyService.execute(scope, idempotencyKey,
+                EnumCollection.ResponseBody.class,
+                () -> matchingService.approveMatchingByEmail(recruitmentsId, email, matchingId));
         return new ResponseEntity<>(new MessageResponseDto(response.getDescription()), HttpStatus.OK);
     }
 
     @PostMapping("/{recruitment-id}/matching/{matching-id}/reject")
     public ResponseEntity rejectMatching(@Positive @PathVariable("recruitment-id") Long recruitmentsId,
                                           @Positive @PathVariable("matching-id") Long matchingId,
-                                          @AuthenticationPrincipal CustomUserDetails user) {
+                                          @AuthenticationPrincipal CustomUserDetails user,
+                                          @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 
         String email = user.getEmail();
-        EnumCollection.ResponseBody response = matchingService.rejectMatchingByEmail(recruitmentsId, email, matchingId);
+        String scope = "Matching:reject:" + recruitmentsId + ":" + matchingId + ":" + email;
+        EnumCollection.ResponseBody response = idempotencyService.execute(scope, idempotencyKey,
+                EnumCollection.ResponseBody.class,
+                () -> matchingService.rejectMatchingByEmail(recruitmentsId, email, matchingId));
         return new ResponseEntity<>(new MessageResponseDto(response.getDescription()), HttpStatus.OK);
     }
 }
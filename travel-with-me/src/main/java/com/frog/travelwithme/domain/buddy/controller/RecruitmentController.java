@@ -2,6 +2,8 @@ package com.frog.travelwithme.domain.buddy.controller;
 
 import com.frog.travelwithme.domain.buddy.controller.dto.BuddyDto;
 import com.frog.travelwithme.domain.buddy.service.RecruitmentService;
+import com.frog.travelwithme.domain.buddy.service.dto.RecruitmentSearchCondition;
+import com.frog.travelwithme.global.dto.PagelessMultiResponseDto;
 import com.frog.travelwithme.global.dto.SingleResponseDto;
 import com.frog.travelwithme.global.security.auth.userdetails.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +18,8 @@ import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import java.util.List;
 
+import static com.frog.travelwithme.global.enums.EnumCollection.RecruitmentStatus;
+
 /**
  * 작성자: 이재혁
  * 버전 정보: 1.0.0
@@ -64,6 +68,21 @@ public class RecruitmentController {
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
+    @GetMapping
+    public ResponseEntity getRecruitments(@RequestParam(required = false) Long lastRecruitmentId,
+                                          @RequestParam(required = false) String travelNationality,
+                                          @RequestParam(required = false) String travelStartDate,
+                                          @RequestParam(required = false) String travelEndDate,
+                                          @RequestParam(defaultValue = "IN_PROGRESS") RecruitmentStatus recruitmentStatus) {
+
+        RecruitmentSearchCondition condition = RecruitmentSearchCondition.of(
+                travelNationality, travelStartDate, travelEndDate, recruitmentStatus
+        );
+        List<BuddyDto.RecruitmentGetResponse> responseList = recruitmentService.findAll(lastRecruitmentId, condition);
+
+        return new ResponseEntity<>(new PagelessMultiResponseDto<>(responseList), HttpStatus.OK);
+    }
+
 //    TODO : 댓글, 매칭관련 작업이 끝나면 조회 반환 작성하기
 //    @GetMapping("/{recruitment-id}")
 //    public ResponseEntity getRecruitment(@Positive @PathVariable("recruitment-id") Long recruitmentId,
@@ -76,18 +95,20 @@ public class RecruitmentController {
 //    }
 
     @GetMapping("/{recruitment-id}/matching-request-member-list")
-    public ResponseEntity getMatchingRequestMemberList(@Positive @PathVariable("recruitment-id") Long recruitmentsId) {
+    public ResponseEntity getMatchingRequestMemberList(@Positive @PathVariable("recruitment-id") Long recruitmentsId,
+                                                       @RequestParam(required = false) Long lastMatchingId) {
 
         List<BuddyDto.MatchingMemberResponse> response =
-                recruitmentService.getMatchingRequestMemberList(recruitmentsId);
+                recruitmentService.getMatchingRequestMemberList(recruitmentsId, lastMatchingId);
         return new ResponseEntity<>(new SingleResponseDto<>(response), HttpStatus.OK);
     }
 
     @GetMapping("/{recruitment-id}/matching-approved-member-list")
-    public ResponseEntity getMatchingApprovedMemberList(@Positive @PathVariable("recruitment-id") Long recruitmentsId) {
+    public ResponseEntity getMatchingApprovedMemberList(@Positive @PathVariable("recruitment-id") Long recruitmentsId,
+                                                        @RequestParam(required = false) Long lastMatchingId) {
 
         List<BuddyDto.MatchingMemberResponse> response =
-                recruitmentService.getMatchingApprovedMemberList(recruitmentsId);
+                recruitmentService.getMatchingApprovedMemberList(recruitmentsId, lastMatchingId);
         return new ResponseEntity<>(new SingleResponseDto<>(response), HttpStatus.OK);
     }
 
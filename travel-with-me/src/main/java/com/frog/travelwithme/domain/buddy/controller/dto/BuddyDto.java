@@ -1,5 +1,6 @@
 package com.frog.travelwithme.domain.buddy.controller.dto;
 
+import com.querydsl.core.annotations.QueryProjection;
 import lombok.*;
 
 import javax.validation.constraints.NotNull;
@@ -94,6 +95,8 @@ public class BuddyDto {
         private LocalDate travelEndDate;
         private Long viewCount;
         private Long commentCount;
+        private Long requestedCount;
+        private Long approvedCount;
         private String nickname;
         private String memberImage;
         private LocalDateTime createdAt;
@@ -102,12 +105,20 @@ public class BuddyDto {
     }
 
     @Getter
-    @Builder
-    @AllArgsConstructor
     @NoArgsConstructor(access = AccessLevel.PROTECTED)
     public static class MatchingMemberResponse {
         private Long id;
         private String nickname;
         private String image;
+        private Long matchingId;
+
+        @Builder
+        @QueryProjection
+        public MatchingMemberResponse(Long id, String nickname, String image, Long matchingId) {
+            this.id = id;
+            this.nickname = nickname;
+            this.image = image;
+            this.matchingId = matchingId;
+        }
     }
 }
@@ -8,12 +8,22 @@ import javax.persistence.*;
 import static com.frog.travelwithme.global.enums.EnumCollection.*;
 
 /**
+ * Matching 설명: 동행 매칭 신청
+ * - 모집글별 상태별 신청 회원 목록을 id keyset으로 조회하므로 (recruitment_id, status, id) 인덱스 사용
+ * - 회원은 모집글마다 한 건만 신청할 수 있도록 (member_id, recruitment_id) 유니크 제약 사용
+ * - 상태 변경은 MatchingRepository.compareAndSetStatus의 조건부 update로만 수행하며, 행 잠금으로 동시 변경 중 하나만 반영
+ * - 배포 전에 더 이상 매핑하지 않는 version 컬럼을 scripts/matching_version_column_drop.sql로 삭제
  * 작성자: 이재혁
  * 버전 정보: 1.0.0
  * 작성일자: 2023/04/11
  **/
 
 @Entity
+@Table(name = "matching", indexes = {
+        @Index(name = "idx_matching_recruitment_status_id", columnList = "recruitment_id, status, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_matching_member_recruitment", columnNames = {"member_id", "recruitment_id"})
+})
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
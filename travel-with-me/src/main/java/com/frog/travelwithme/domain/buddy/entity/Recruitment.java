@@ -15,12 +15,25 @@ import java.util.List;
 import java.util.Optional;
 
 /**
+ * Recruitment 설명: 동행 모집글
+ * - 목록 검색은 국가, 모집 상태 동등 조건 후 id 내림차순 keyset 페이지네이션으로 조회하므로 (조건 컬럼, id) 복합 인덱스 사용
+ * - 만료 처리는 모집 상태, 여행 시작일로 조회하므로 (recruitment_status, travel_start_date) 인덱스 사용
+ * - 매칭 상태별 인원 수를 직접 보관하여 목록/상세 조회 시 matching 테이블을 조회하지 않음
+ * - 인원 수는 RecruitmentRepository.changeMatchingCount의 원자적 update로만 변경하여
+ *   서로 다른 회원의 매칭 요청이 충돌하지 않고, 엔티티 저장 시 덮어쓰지 않도록 updatable = false
+ * - 기존 모집글의 인원 수는 배포 시 scripts/recruitment_matching_count_backfill.sql로 한 번만 다시 계산
  * 작성자: 이재혁
  * 버전 정보: 1.0.0
  * 작성일자: 2023/04/11
  **/
 
 @Entity
+@Table(name = "recruitment", indexes = {
+        @Index(name = "idx_recruitment_nationality_status_id",
+                columnList = "travel_nationality, recruitment_status, id"),
+        @Index(name = "idx_recruitment_status_id", columnList = "recruitment_status, id"),
+        @Index(name = "idx_recruitment_status_start_date", columnList = "recruitment_status, travel_start_date")
+})
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -36,9 +49,10 @@ public class Recruitment extends BaseTimeEntity {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String content;
 
-    @Column(length = 100, nullable = false)
+    @Column(name = "travel_nationality", length = 100, nullable = false)
     private String travelNationality;
 
+    @Column(name = "travel_start_date")
     private LocalDateTime travelStartDate;
 
     private LocalDateTime travelEndDate;
@@ -47,10 +61,22 @@ public class Recruitment extends BaseTimeEntity {
 
     private long commentCount;
 
+    @Column(updatable = false)
+    private long requestedCount;
+
+    @Column(updatable = false)
+    private long approvedCount;
+
+    @Column(updatable = false)
+    private long rejectedCount;
+
+    @Column(updatable = false)
+    private long cancelledCount;
+
     @Embedded
     private DeletionEntity deletionEntity;
 
-    @Column(length = 100, nullable = false)
+    @Column(name = "recruitment_status", length = 100, nullable = false)
     @Enumerated(EnumType.STRING)
     RecruitmentStatus recruitmentStatus;
 
@@ -1,6 +1,5 @@
 package com.frog.travelwithme.domain.buddy.mapper;
 
-import com.frog.travelwithme.domain.buddy.entity.Matching;
 import com.frog.travelwithme.domain.buddy.entity.Recruitment;
 import com.frog.travelwithme.domain.common.DeletionEntity;
 import com.frog.travelwithme.domain.buddy.controller.dto.BuddyDto;
@@ -28,7 +27,7 @@ public interface RecruitmentMapper {
         }
         String travelStartDate = recruitmentPostDto.getTravelStartDate();
         String travelEndDate = recruitmentPostDto.getTravelEndDate();
-        DeletionEntity deletionEntity = new DeletionEntity();
+        DeletionEntity deletionEntity = new DeletionEntity(false, null);
 
         return Recruitment.builder()
                 .title(recruitmentPostDto.getTitle())
@@ -98,34 +97,25 @@ public interface RecruitmentMapper {
                 .travelEndDate(TimeUtils.localDateTimeToLocalDate(travelEndDate))
                 .viewCount(recruitment.getViewCount())
                 .commentCount(recruitment.getCommentCount())
+                .requestedCount(recruitment.getRequestedCount())
+                .approvedCount(recruitment.getApprovedCount())
                 .nickname(recruitment.getMember().getNickname())
                 .memberImage(recruitment.getMember().getImage())
+                .createdAt(recruitment.getCreatedAt())
                 .build();
     }
 
-    default BuddyDto.MatchingMemberResponse toMatchingMemberResponseBuddyDto(Matching matching) {
-        if(matching == null) {
+    default List<BuddyDto.RecruitmentGetResponse> toGetResponseRecruitmentBuddyDtoList(List<Recruitment> recruitments) {
+        if (recruitments == null) {
             return null;
         }
 
-        return BuddyDto.MatchingMemberResponse.builder()
-                .id(matching.getMember().getId())
-                .nickname(matching.getMember().getNickname())
-                .image(matching.getMember().getImage())
-                .build();
-    }
-
-    default List<BuddyDto.MatchingMemberResponse> toMatchingMemberResponseBuddyDtoList(List<Matching> matchingList) {
-        if(matchingList == null) {
-            return null;
-        }
-
-        List<BuddyDto.MatchingMemberResponse> matchingMemberResponseList = new ArrayList<>();
+        List<BuddyDto.RecruitmentGetResponse> recruitmentGetResponseList = new ArrayList<>();
 
-        for (Matching matching : matchingList) {
-            matchingMemberResponseList.add(this.toMatchingMemberResponseBuddyDto(matching));
+        for (Recruitment recruitment : recruitments) {
+            recruitmentGetResponseList.add(this.toGetResponseRecruitmentBuddyDto(recruitment));
         }
-        return matchingMemberResponseList;
+        return recruitmentGetResponseList;
     }
 
 }
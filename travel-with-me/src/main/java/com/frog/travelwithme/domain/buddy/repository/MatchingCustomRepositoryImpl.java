@@ -1,17 +1,23 @@
 package com.frog.travelwithme.domain.buddy.repository;
 
+import com.frog.travelwithme.domain.buddy.controller.dto.BuddyDto;
+import com.frog.travelwithme.domain.buddy.controller.dto.QBuddyDto_MatchingMemberResponse;
 import com.frog.travelwithme.domain.buddy.entity.Matching;
 import com.frog.travelwithme.domain.buddy.entity.QMatching;
 import com.frog.travelwithme.domain.buddy.entity.Recruitment;
 import com.frog.travelwithme.domain.member.entity.Member;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import static com.frog.travelwithme.domain.buddy.entity.QMatching.*;
 import static com.frog.travelwithme.domain.buddy.entity.QRecruitment.*;
+import static com.frog.travelwithme.domain.member.entity.QMember.member;
+import static com.frog.travelwithme.global.enums.EnumCollection.MatchingStatus;
 
 /**
  * 작성자: 이재혁
@@ -23,6 +29,8 @@ import static com.frog.travelwithme.domain.buddy.entity.QRecruitment.*;
 @RequiredArgsConstructor
 public class MatchingCustomRepositoryImpl implements MatchingCustomRepository {
 
+    private static final int PAGE_SIZE = 20;
+
     private final JPAQueryFactory queryFactory;
 
 
@@ -51,4 +59,49 @@ public class MatchingCustomRepositoryImpl implements MatchingCustomRepository {
                 )
                 .fetchOne());
     }
+
+    // 상태가 expectedStatus일 때만 변경, 먼저 변경한 트랜잭션이 커밋할 때까지 행 잠금을 유지하므로 한 요청만 성공
+    @Override
+    public boolean compareAndSetStatus(Long matchingId, MatchingStatus expectedStatus, MatchingStatus status) {
+        long updatedCount = queryFactory
+                .update(matching)
+                .set(matching.status, status)
+                .where(
+                        matching.id.eq(matchingId),
+                        matching.status.eq(expectedStatus)
+                )
+                .execute();
+
+        return updatedCount == 1;
+    }
+
+    // 신청 순서(id 오름차순) keyset 페이지네이션, 엔티티 없이 응답 Dto로 바로 조회
+    @Override
+    public List<BuddyDto.MatchingMemberResponse> findMatchingMembers(Long recruitmentId, MatchingStatus status,
+                                                                     Long lastMatchingId) {
+        return queryFactory
+                .select(new QBuddyDto_MatchingMemberResponse(
+                        member.id,
+                        member.nickname,
+                        member.image,
+                        matching.id
+                ))
+                .from(matching)
+                .join(matching.member, member)
+                .where(
+                        matching.recruitment.id.eq(recruitmentId),
+                        matching.status.eq(status),
+                        gtMatchingId(lastMatchingId)
+                )
+                .orderBy(matching.id.asc())
+                .limit(PAGE_SIZE)
+                .fetch();
+    }
+
+    private BooleanExpression gtMatchingId(Long lastMatchingId) {
+        if (lastMatchingId == null) {
+            return null;
+        }
+        return matching.id.gt(lastMatchingId);
+    }
 }
@@ -2,8 +2,10 @@ package com.frog.travelwithme.domain.buddy.repository;
 
 
 import com.frog.travelwithme.domain.buddy.entity.Recruitment;
+import com.frog.travelwithme.domain.buddy.service.dto.RecruitmentSearchCondition;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import static com.frog.travelwithme.global.enums.EnumCollection.*;
 
@@ -14,5 +16,11 @@ import static com.frog.travelwithme.global.enums.EnumCollection.*;
  **/
 
 public interface RecruitmentCustomRepository {
-    Optional<Recruitment> findRecruitmentByIdAndMatchingStatus(Long id, MatchingStatus status);
+    List<Recruitment> findAll(Long lastRecruitmentId, RecruitmentSearchCondition condition);
+
+    List<Long> findExpiredRecruitmentIds(LocalDateTime expiredBefore, int size);
+
+    long endRecruitments(List<Long> recruitmentIds, LocalDateTime now);
+
+    long changeMatchingCount(Long recruitmentId, MatchingStatus before, MatchingStatus after);
 }
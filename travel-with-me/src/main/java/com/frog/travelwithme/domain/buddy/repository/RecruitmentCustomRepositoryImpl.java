@@ -1,13 +1,18 @@
 package com.frog.travelwithme.domain.buddy.repository;
 
 import com.frog.travelwithme.domain.buddy.entity.Recruitment;
+import com.frog.travelwithme.domain.buddy.service.dto.RecruitmentSearchCondition;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
-import static com.frog.travelwithme.domain.buddy.entity.QMatching.*;
 import static com.frog.travelwithme.domain.member.entity.QMember.*;
 import static com.frog.travelwithme.domain.buddy.entity.QRecruitment.*;
 import static com.frog.travelwithme.global.enums.EnumCollection.*;
@@ -22,20 +27,133 @@ import static com.frog.travelwithme.global.enums.EnumCollection.*;
 @RequiredArgsConstructor
 public class RecruitmentCustomRepositoryImpl implements RecruitmentCustomRepository {
 
+    private static final int PAGE_SIZE = 20;
+
     private final JPAQueryFactory queryFactory;
 
+    // id 내림차순 keyset 페이지네이션, 작성자는 ToOne이므로 limit과 함께 fetch join
     @Override
-    public Optional<Recruitment> findRecruitmentByIdAndMatchingStatus(Long id, MatchingStatus status) {
+    public List<Recruitment> findAll(Long lastRecruitmentId, RecruitmentSearchCondition condition) {
+        return queryFactory
+                .selectFrom(recruitment)
+                .join(recruitment.member, member).fetchJoin()
+                .where(
+                        ltRecruitmentId(lastRecruitmentId),
+                        eqTravelNationality(condition.getTravelNationality()),
+                        eqRecruitmentStatus(condition.getRecruitmentStatus()),
+                        loeTravelStartDate(condition.getTravelEndDate()),
+                        goeTravelEndDate(condition.getTravelStartDate()),
+                        notDeleted()
+                )
+                .orderBy(recruitment.id.desc())
+                .limit(PAGE_SIZE)
+                .fetch();
+    }
 
-        return Optional.ofNullable(queryFactory
-                .select(recruitment)
+    // 여행 시작일이 지난 모집중 글, (recruitment_status, travel_start_date) 인덱스 범위 조회
+    @Override
+    public List<Long> findExpiredRecruitmentIds(LocalDateTime expiredBefore, int size) {
+        return queryFactory
+                .select(recruitment.id)
                 .from(recruitment)
-                .leftJoin(recruitment.matchingList, matching).fetchJoin()
-                .leftJoin(matching.member, member).fetchJoin()
                 .where(
-                        recruitment.id.eq(id),
-                        matching.status.eq(status)
+                        recruitment.recruitmentStatus.eq(RecruitmentStatus.IN_PROGRESS),
+                        recruitment.travelStartDate.lt(expiredBefore)
                 )
-                .fetchOne());
+                .limit(size)
+                .fetch();
+    }
+
+    // 영속성 컨텍스트를 거치지 않는 bulk update, 조회 후 다른 요청이 먼저 종료한 글은 건너뜀
+    @Override
+    public long endRecruitments(List<Long> recruitmentIds, LocalDateTime now) {
+        if (recruitmentIds.isEmpty()) {
+            return 0;
+        }
+
+        return queryFactory
+                .update(recruitment)
+                .set(recruitment.recruitmentStatus, RecruitmentStatus.END)
+                .set(recruitment.lastModifiedAt, now)
+                .where(
+                        recruitment.id.in(recruitmentIds),
+                        recruitment.recruitmentStatus.eq(RecruitmentStatus.IN_PROGRESS)
+                )
+                .execute();
+    }
+
+    // 매칭 상태가 바뀌면 이전 상태 인원 수를 줄이고 새 상태 인원 수를 늘림, 새 매칭이면 before는 null
+    // 현재 값을 읽지 않고 컬럼 값 기준으로 갱신하므로 같은 모집글의 동시 요청도 갱신이 유실되지 않음
+    @Override
+    public long changeMatchingCount(Long recruitmentId, MatchingStatus before, MatchingStatus after) {
+        JPAUpdateClause updateClause = queryFactory
+                .update(recruitment)
+                .where(recruitment.id.eq(recruitmentId));
+        if (before != null) {
+            NumberPath<Long> beforeCount = matchingCount(before);
+            updateClause.set(beforeCount, new CaseBuilder()
+                    .when(beforeCount.gt(0L)).then(beforeCount.subtract(1L))
+                    .otherwise(0L));
+        }
+        NumberPath<Long> afterCount = matchingCount(after);
+
+        return updateClause
+                .set(afterCount, afterCount.add(1L))
+                .execute();
+    }
+
+    private NumberPath<Long> matchingCount(MatchingStatus status) {
+        switch (status) {
+            case REQUEST:
+                return recruitment.requestedCount;
+            case APPROVE:
+                return recruitment.approvedCount;
+            case REJECT:
+                return recruitment.rejectedCount;
+            default:
+                return recruitment.cancelledCount;
+        }
+    }
+
+    private BooleanExpression ltRecruitmentId(Long lastRecruitmentId) {
+        if (lastRecruitmentId == null) {
+            return null;
+        }
+        return recruitment.id.lt(lastRecruitmentId);
+    }
+
+    private BooleanExpression eqTravelNationality(String travelNationality) {
+        if (travelNationality == null) {
+            return null;
+        }
+        return recruitment.travelNationality.eq(travelNationality);
+    }
+
+    private BooleanExpression eqRecruitmentStatus(RecruitmentStatus recruitmentStatus) {
+        if (recruitmentStatus == null) {
+            return null;
+        }
+        return recruitment.recruitmentStatus.eq(recruitmentStatus);
+    }
+
+    // 검색 종료일 이전에 여행이 시작하고, 검색 시작일 이후에 여행이 끝나면 기간이 겹침
+    private BooleanExpression loeTravelStartDate(LocalDateTime travelEndDate) {
+        if (travelEndDate == null) {
+            return null;
+        }
+        return recruitment.travelStartDate.loe(travelEndDate);
+    }
+
+    private BooleanExpression goeTravelEndDate(LocalDateTime travelStartDate) {
+        if (travelStartDate == null) {
+            return null;
+        }
+        return recruitment.travelEndDate.goe(travelStartDate);
+    }
+
+    // 기존 모집글은 is_deleted가 null로 저장되어 있으므로 null도 삭제되지 않은 글로 취급
+    private BooleanExpression notDeleted() {
+        return recruitment.deletionEntity.isDeleted.isNull()
+                .or(recruitment.deletionEntity.isDeleted.isFalse());
     }
 }
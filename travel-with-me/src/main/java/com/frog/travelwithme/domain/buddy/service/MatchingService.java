@@ -2,6 +2,7 @@ package com.frog.travelwithme.domain.buddy.service;
 
 import com.frog.travelwithme.domain.buddy.entity.Matching;
 import com.frog.travelwithme.domain.buddy.repository.MatchingRepository;
+import com.frog.travelwithme.domain.buddy.repository.RecruitmentRepository;
 import com.frog.travelwithme.domain.member.entity.Member;
 import com.frog.travelwithme.domain.member.service.MemberService;
 import com.frog.travelwithme.domain.buddy.entity.Recruitment;
@@ -9,6 +10,7 @@ import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ExceptionCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,10 @@ import static com.frog.travelwithme.global.enums.EnumCollection.MatchingStatus;
 import static com.frog.travelwithme.global.enums.EnumCollection.ResponseBody;
 
 /**
+ * MatchingService 설명: 동행 매칭 신청, 취소, 승인, 거절
+ * - 신규 신청은 (member_id, recruitment_id) 유니크 제약으로 중복 신청을 막음
+ * - 상태 변경은 이전 상태를 조건으로 갱신하여 동시에 들어온 요청 중 하나만 반영
+ * - 모집글의 상태별 인원 수는 원자적 update로 갱신하여 다른 회원의 요청과 충돌하지 않음
  * 작성자: 이재혁
  * 버전 정보: 1.0.0
  * 작성일자: 2023/04/11
@@ -31,6 +37,8 @@ public class MatchingService {
 
     private final MatchingRepository matchingRepository;
 
+    private final RecruitmentRepository recruitmentRepository;
+
     private final RecruitmentService recruitmentService;
 
     private final MemberService memberService;
@@ -88,33 +96,45 @@ public class MatchingService {
 
     private ResponseBody approveMatching(Matching matching) {
         this.checkPossibleToApproveMatching(matching);
-        matching.approve();
+        this.updateMatchingByStatus(matching, MatchingStatus.APPROVE);
         return ResponseBody.APPROVE_MATCHING;
     }
 
     private ResponseBody rejectMatching(Matching matching) {
         this.checkPossibleToRejectMatching(matching);
-        matching.reject();
+        this.updateMatchingByStatus(matching, MatchingStatus.REJECT);
         return ResponseBody.REJECT_MATCHING;
     }
 
+    // 동시에 같은 신청이 들어오면 먼저 저장한 요청만 성공하고 나머지는 유니크 제약 위반
+    // 매칭 insert의 FK 검사가 모집글 행에 공유 락을 잡으므로, 인원 수를 먼저 갱신하여 배타 락부터 잡음
+    // (insert 후 갱신하면 다른 회원의 동시 신청과 공유 락 -> 배타 락 승격을 서로 기다리는 데드락 발생)
     private void createMatching(Recruitment recruitment, Member member) {
+        recruitmentRepository.changeMatchingCount(recruitment.getId(), null, MatchingStatus.REQUEST);
         Matching matching = new Matching(MatchingStatus.REQUEST);
         matching.addMember(member);
         matching.addRecruitment(recruitment);
+        try {
+            matchingRepository.saveAndFlush(matching);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("MatchingService.createMatching exception occur " +
+                    "recruitmentId: {}, memberId: {}", recruitment.getId(), member.getId());
+            throw new BusinessLogicException(ExceptionCode.MATCHING_DUPLICATE_REQUEST);
+        }
         recruitment.addMatching(matching);
     }
 
+    // 이전 상태를 조건으로 갱신하여 동시에 들어온 상태 변경 중 하나만 반영
+    // 영속 엔티티의 상태를 바꾸면 같은 행을 한 번 더 update 하므로 엔티티는 변경하지 않음
+    // 모집글의 매칭 상태별 인원 수도 같은 트랜잭션에서 갱신
     private void updateMatchingByStatus(Matching matching, MatchingStatus status) {
-        if(status.equals(MatchingStatus.REQUEST)) {
-            matching.request();
-        } else if (status.equals(MatchingStatus.APPROVE)) {
-            matching.approve();
-        } else if (status.equals(MatchingStatus.REJECT)) {
-            matching.reject();
-        } else if (status.equals(MatchingStatus.CANCEL)) {
-            matching.cancel();
+        MatchingStatus beforeStatus = matching.getStatus();
+        if (!matchingRepository.compareAndSetStatus(matching.getId(), beforeStatus, status)) {
+            log.debug("MatchingService.updateMatchingByStatus exception occur " +
+                    "matchingId: {}, beforeStatus: {}, status: {}", matching.getId(), beforeStatus, status);
+            throw new BusinessLogicException(ExceptionCode.CONCURRENT_MODIFICATION);
         }
+        recruitmentRepository.changeMatchingCount(matching.getRecruitment().getId(), beforeStatus, status);
     }
 
     private void checkPossibleToRequestMatching(Matching matching) {
@@ -0,0 +1,113 @@
+package com.frog.travelwithme.domain.buddy.service;
+
+import com.frog.travelwithme.global.redis.RedisLockService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * RecruitmentExpiryScheduler 설명: 여행 시작일이 지난 모집중 동행 모집글을 주기적으로 모집 종료 처리
+ * - 여행 시작일은 종료일보다 늦을 수 없으므로 시작일이 지났으면 종료일 기준으로도 만료된 글을 모두 포함
+ * - Redis 락을 잡은 서버 한 곳에서만 실행하고, 락 만료 시간 안에 끝나도록 한 번에 처리할 chunk 수를 제한
+ * - recruitment.expiry: 실행 소요 시간, recruitment.expiry.rows: 종료 처리한 모집글 수
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/15
+ **/
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "recruitment.expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class RecruitmentExpiryScheduler {
+
+    private static final String EXPIRY_LOCK_KEY = "RecruitmentExpiryLock";
+    private static final Duration LOCK_LEASE_TIME = Duration.ofMinutes(5);
+    private static final int MAX_CHUNKS_PER_RUN = 100;
+
+    private final RecruitmentExpiryService recruitmentExpiryService;
+    private final RedisLockService redisLockService;
+    private final int chunkSize;
+    private final Timer expiryTimer;
+    private final Counter expiredCounter;
+
+    public RecruitmentExpiryScheduler(RecruitmentExpiryService recruitmentExpiryService,
+                                      RedisLockService redisLockService,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${recruitment.expiry.chunk-size:1000}") int chunkSize) {
+        this.recruitmentExpiryService = recruitmentExpiryService;
+        this.redisLockService = redisLockService;
+        this.chunkSize = chunkSize;
+        this.expiryTimer = Timer.builder("recruitment.expiry")
+                .description("동행 모집글 만료 처리 소요 시간")
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("recruitment.expiry.rows")
+                .description("모집 종료 처리한 동행 모집글 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${recruitment.expiry.delay-millis:600000}")
+    public void expire() {
+        Optional<String> lockToken;
+        try {
+            lockToken = redisLockService.tryLock(EXPIRY_LOCK_KEY, LOCK_LEASE_TIME);
+        } catch (DataAccessException e) {
+            log.warn("RecruitmentExpiryScheduler.expire redis exception occur", e);
+            return;
+        }
+        if (lockToken.isEmpty()) {
+            return;
+        }
+
+        try {
+            long startNanos = System.nanoTime();
+            long expiredCount = this.expireChunks(LocalDate.now().atStartOfDay());
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+            expiryTimer.record(elapsed);
+            expiredCounter.increment(expiredCount);
+            if (expiredCount > 0) {
+                log.info("RecruitmentExpiryScheduler.expire rows : {}, elapsedMillis : {}",
+                        expiredCount, elapsed.toMillis());
+            }
+        } finally {
+            this.unlock(lockToken.get());
+        }
+    }
+
+    // 처리한 글은 조회 조건에서 빠지므로 chunk보다 적게 처리될 때까지 반복
+    private long expireChunks(LocalDateTime expiredBefore) {
+        long expiredCount = 0;
+        for (int i = 0; i < MAX_CHUNKS_PER_RUN; i++) {
+            long chunkExpiredCount;
+            try {
+                chunkExpiredCount = recruitmentExpiryService.expire(expiredBefore, chunkSize);
+            } catch (RuntimeException e) {
+                log.warn("RecruitmentExpiryScheduler.expireChunks exception occur expiredCount : {}", expiredCount, e);
+                break;
+            }
+            expiredCount += chunkExpiredCount;
+            if (chunkExpiredCount < chunkSize) {
+                break;
+            }
+        }
+
+        return expiredCount;
+    }
+
+    private void unlock(String lockToken) {
+        try {
+            redisLockService.unlock(EXPIRY_LOCK_KEY, lockToken);
+        } catch (DataAccessException e) {
+            log.warn("RecruitmentExpiryScheduler.unlock redis exception occur", e);
+        }
+    }
+}
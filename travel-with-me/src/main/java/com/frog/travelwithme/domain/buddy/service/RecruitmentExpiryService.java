@@ -0,0 +1,31 @@
+package com.frog.travelwithme.domain.buddy.service;
+
+import com.frog.travelwithme.domain.buddy.repository.RecruitmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * RecruitmentExpiryService 설명: 여행 시작일이 지난 동행 모집글을 모집 종료로 변경
+ * - 한 번 호출에 최대 chunkSize개를 bulk update하고, 호출마다 별도 트랜잭션으로 커밋하여 락 유지 시간을 짧게 유지
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/15
+ **/
+@Service
+@RequiredArgsConstructor
+public class RecruitmentExpiryService {
+
+    private final RecruitmentRepository recruitmentRepository;
+
+    // 종료 처리한 모집글 수 반환
+    @Transactional
+    public long expire(LocalDateTime expiredBefore, int chunkSize) {
+        List<Long> recruitmentIds = recruitmentRepository.findExpiredRecruitmentIds(expiredBefore, chunkSize);
+
+        return recruitmentRepository.endRecruitments(recruitmentIds, LocalDateTime.now());
+    }
+}
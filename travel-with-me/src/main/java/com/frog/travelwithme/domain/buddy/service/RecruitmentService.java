@@ -5,7 +5,9 @@ package com.frog.travelwithme.domain.buddy.service;
 import com.frog.travelwithme.domain.buddy.mapper.RecruitmentMapper;
 import com.frog.travelwithme.domain.buddy.controller.dto.BuddyDto;
 import com.frog.travelwithme.domain.buddy.entity.Recruitment;
+import com.frog.travelwithme.domain.buddy.repository.MatchingRepository;
 import com.frog.travelwithme.domain.buddy.repository.RecruitmentRepository;
+import com.frog.travelwithme.domain.buddy.service.dto.RecruitmentSearchCondition;
 import com.frog.travelwithme.domain.member.entity.Member;
 import com.frog.travelwithme.domain.member.service.MemberService;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
@@ -33,6 +35,8 @@ public class RecruitmentService {
 
     private final RecruitmentRepository recruitmentRepository;
 
+    private final MatchingRepository matchingRepository;
+
     private final MemberService memberService;
 
     private final RecruitmentMapper recruitmentMapper;
@@ -56,6 +60,12 @@ public class RecruitmentService {
         this.deleteRecruitment(findRecruitment);
     }
 
+    @Transactional(readOnly = true)
+    public List<BuddyDto.RecruitmentGetResponse> findAll(Long lastRecruitmentId, RecruitmentSearchCondition condition) {
+        List<Recruitment> recruitments = recruitmentRepository.findAll(lastRecruitmentId, condition);
+        return recruitmentMapper.toGetResponseRecruitmentBuddyDtoList(recruitments);
+    }
+
 //    TODO : 댓글, 매칭관련 작업이 끝나면 조회 반환 작성하기
 //    public RecruitmentDto.GetResponse findRecruitment(Long recruitmentId, String email) {
 //
@@ -66,16 +76,14 @@ public class RecruitmentService {
 //        return null;
 //    }
 
-    public List<BuddyDto.MatchingMemberResponse> getMatchingRequestMemberList(Long recruitmentId) {
-        Recruitment recruitment =
-                this.findRecruitmentByIdAndMatchingStatusAndCheckExpired(recruitmentId, MatchingStatus.REQUEST);
-        return recruitmentMapper.toMatchingMemberResponseBuddyDtoList(recruitment.getMatchingList());
+    @Transactional(readOnly = true)
+    public List<BuddyDto.MatchingMemberResponse> getMatchingRequestMemberList(Long recruitmentId, Long lastMatchingId) {
+        return this.getMatchingMemberList(recruitmentId, MatchingStatus.REQUEST, lastMatchingId);
     }
 
-    public List<BuddyDto.MatchingMemberResponse> getMatchingApprovedMemberList(Long recruitmentId) {
-        Recruitment recruitment =
-                this.findRecruitmentByIdAndMatchingStatusAndCheckExpired(recruitmentId, MatchingStatus.APPROVE);
-        return recruitmentMapper.toMatchingMemberResponseBuddyDtoList(recruitment.getMatchingList());
+    @Transactional(readOnly = true)
+    public List<BuddyDto.MatchingMemberResponse> getMatchingApprovedMemberList(Long recruitmentId, Long lastMatchingId) {
+        return this.getMatchingMemberList(recruitmentId, MatchingStatus.APPROVE, lastMatchingId);
     }
 
     @Transactional(readOnly = true)
@@ -86,23 +94,6 @@ public class RecruitmentService {
         });
     }
 
-    @Transactional(readOnly = true)
-    public Recruitment findRecruitmentByIdAndMatchingStatusAndCheckExpired(Long id, MatchingStatus status) {
-        Recruitment recruitment = this.findRecruitmentByIdAndMatchingStatus(id, status);
-        this.checkExpiredRecruitment(recruitment);
-        return recruitment;
-    }
-
-    @Transactional(readOnly = true)
-    public Recruitment findRecruitmentByIdAndMatchingStatus(Long id, MatchingStatus status) {
-        return recruitmentRepository.findRecruitmentByIdAndMatchingStatus(id, status)
-                .orElseThrow(() -> {
-                    log.debug("RecruitmentService.findRecruitmentByIdAndMatchingStatus exception occur " +
-                            "id: {}, MatchingStatus: {}", id, status);
-                    throw new BusinessLogicException(ExceptionCode.RECRUITMENT_MATCHING_REQUEST_MEMBER_NOT_FOUND);
-                });
-    }
-
     @Transactional(readOnly = true)
     public Recruitment findRecruitmentByIdAndCheckExpired(Long recruitmentId) {
         Recruitment recruitment = this.findRecruitmentById(recruitmentId);
@@ -136,6 +127,19 @@ public class RecruitmentService {
         }
     }
 
+    // 모집글 존재/만료 여부만 확인하고 회원 목록은 matching 테이블에서 페이지 단위로 조회
+    private List<BuddyDto.MatchingMemberResponse> getMatchingMemberList(Long recruitmentId, MatchingStatus status,
+                                                                        Long lastMatchingId) {
+        Recruitment recruitment = recruitmentRepository.findById(recruitmentId).orElseThrow(() -> {
+            log.debug("RecruitmentService.getMatchingMemberList exception occur " +
+                    "id: {}, MatchingStatus: {}", recruitmentId, status);
+            throw new BusinessLogicException(ExceptionCode.RECRUITMENT_MATCHING_REQUEST_MEMBER_NOT_FOUND);
+        });
+        this.checkExpiredRecruitment(recruitment);
+
+        return matchingRepository.findMatchingMembers(recruitmentId, status, lastMatchingId);
+    }
+
     private BuddyDto.RecruitmentPostResponse createRecruitment(BuddyDto.RecruitmentPost recruitmentPostDto,
                                                                Member member) {
 
@@ -0,0 +1,41 @@
+package com.frog.travelwithme.domain.buddy.service.dto;
+
+import com.frog.travelwithme.global.utils.TimeUtils;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.RecruitmentStatus;
+
+/**
+ * RecruitmentSearchCondition 설명: 동행 모집글 목록 검색 조건, null인 조건은 검색에서 제외
+ * - travelStartDate ~ travelEndDate 기간과 여행 기간이 하루라도 겹치는 모집글을 검색
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/14
+ **/
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecruitmentSearchCondition {
+
+    private String travelNationality;
+    private LocalDateTime travelStartDate;
+    private LocalDateTime travelEndDate;
+    private RecruitmentStatus recruitmentStatus;
+
+    public static RecruitmentSearchCondition of(String travelNationality, String travelStartDate,
+                                                String travelEndDate, RecruitmentStatus recruitmentStatus) {
+        return RecruitmentSearchCondition.builder()
+                .travelNationality(travelNationality)
+                .travelStartDate(travelStartDate == null ? null : TimeUtils.stringToLocalDateTime(travelStartDate))
+                .travelEndDate(travelEndDate == null ? null : TimeUtils.stringToLocalDateTime(travelEndDate))
+                .recruitmentStatus(recruitmentStatus)
+                .build();
+    }
+}
@@ -8,6 +8,7 @@ import com.frog.travelwithme.global.dto.MessageResponseDto;
 import com.frog.travelwithme.global.dto.PagelessMultiResponseDto;
 import com.frog.travelwithme.global.dto.SingleResponseDto;
 import com.frog.travelwithme.global.enums.EnumCollection;
+import com.frog.travelwithme.global.enums.EnumCollection.ImageVariant;
 import com.frog.travelwithme.global.security.auth.userdetails.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -18,6 +19,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import javax.validation.Valid;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * 작성자: 김찬빈
@@ -43,17 +45,21 @@ public class FeedController {
 
     @GetMapping("/{feed-id}")
     public ResponseEntity getFeed(@PathVariable("feed-id") Long feedId,
+                                  @RequestParam(defaultValue = "ORIGINAL") ImageVariant imageSize,
                                   @AuthenticationPrincipal CustomUserDetails user) {
-        FeedDto.Response response = feedService.findFeedById(user.getEmail(), feedId);
+        FeedDto.Response response = feedService.findFeedById(user.getEmail(), feedId)
+                .withImageVariant(imageSize);
 
         return new ResponseEntity<>(new SingleResponseDto<>(response), HttpStatus.OK);
     }
 
     @GetMapping
     public ResponseEntity getAllFeed(@RequestParam(required = false) Long lastFeedId,
+                                     @RequestParam(defaultValue = "ORIGINAL") ImageVariant imageSize,
                                      @AuthenticationPrincipal CustomUserDetails user) {
         // TODO: 팔로잉, 관심사 태그 기반 검색 알고리즘 고민
-        List<FeedDto.Response> responseList = feedService.findAll(lastFeedId, user.getEmail());
+        List<FeedDto.Response> responseList = this.withImageVariant(
+                feedService.findAll(lastFeedId, user.getEmail()), imageSize);
 
         return new ResponseEntity<>(new PagelessMultiResponseDto<>(responseList), HttpStatus.OK);
     }
@@ -61,9 +67,10 @@ public class FeedController {
     @GetMapping("/nicknames")
     public ResponseEntity getAllByNickname(@RequestParam(required = false) Long lastFeedId,
                                            @RequestParam String nickname,
+                                           @RequestParam(defaultValue = "ORIGINAL") ImageVariant imageSize,
                                            @AuthenticationPrincipal CustomUserDetails user) {
-        List<FeedDto.Response> responseList = feedService.findAllByNickname(
-                lastFeedId, nickname, user.getEmail());
+        List<FeedDto.Response> responseList = this.withImageVariant(
+                feedService.findAllByNickname(lastFeedId, nickname, user.getEmail()), imageSize);
 
         return new ResponseEntity<>(new PagelessMultiResponseDto<>(responseList), HttpStatus.OK);
     }
@@ -71,9 +78,10 @@ public class FeedController {
     @GetMapping("/tagnames")
     public ResponseEntity getAllByTagName(@RequestParam(required = false) Long lastFeedId,
                                           @RequestParam String tagName,
+                                          @RequestParam(defaultValue = "ORIGINAL") ImageVariant imageSize,
                                           @AuthenticationPrincipal CustomUserDetails user) {
-        List<FeedDto.Response> responseList = feedService.findAllByTagName(
-                lastFeedId, tagName, user.getEmail());
+        List<FeedDto.Response> responseList = this.withImageVariant(
+                feedService.findAllByTagName(lastFeedId, tagName, user.getEmail()), imageSize);
 
         return new ResponseEntity<>(new PagelessMultiResponseDto<>(responseList), HttpStatus.OK);
     }
@@ -134,4 +142,10 @@ public class FeedController {
     public ResponseEntity deleteComment() {
         return new ResponseEntity(HttpStatus.OK);
     }
+
+    private List<FeedDto.Response> withImageVariant(List<FeedDto.Response> responseList, ImageVariant imageSize) {
+        return responseList.stream()
+                .map(response -> response.withImageVariant(imageSize))
+                .collect(Collectors.toList());
+    }
 }
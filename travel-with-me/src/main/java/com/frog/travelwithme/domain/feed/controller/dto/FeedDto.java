@@ -1,11 +1,15 @@
 package com.frog.travelwithme.domain.feed.controller.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.frog.travelwithme.global.enums.EnumCollection.ImageVariant;
 import lombok.*;
 
 import javax.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 작성자: 김찬빈
@@ -37,7 +41,7 @@ public class FeedDto {
     }
 
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     @AllArgsConstructor
     @NoArgsConstructor(access = AccessLevel.PROTECTED)
     public static class Response {
@@ -52,9 +56,27 @@ public class FeedDto {
         boolean writer;
         @JsonProperty("isLiked")
         boolean liked;
+        @JsonProperty("isFollowing")
+        boolean following;
         LocalDateTime createdAt;
         List<String> tags;
         List<String> imageUrls;
+        @JsonIgnore
+        Map<String, Map<ImageVariant, String>> imageVariantUrls;
+
+        // 리사이즈 이미지가 없으면 원본 이미지 url 유지
+        public Response withImageVariant(ImageVariant imageVariant) {
+            if (!imageVariant.isResized() || imageVariantUrls == null || imageVariantUrls.isEmpty()) {
+                return this;
+            }
+
+            return this.toBuilder()
+                    .imageUrls(imageUrls.stream()
+                            .map(imageUrl -> imageVariantUrls.getOrDefault(imageUrl, Map.of())
+                                    .getOrDefault(imageVariant, imageUrl))
+                            .collect(Collectors.toList()))
+                    .build();
+        }
     }
 
     @Getter
@@ -3,13 +3,14 @@ package com.frog.travelwithme.domain.feed.entity;
 import com.frog.travelwithme.domain.common.BaseTimeEntity;
 import com.frog.travelwithme.domain.feed.controller.dto.FeedDto;
 import com.frog.travelwithme.domain.member.entity.Member;
+import com.frog.travelwithme.global.enums.EnumCollection.ImageVariant;
+import com.frog.travelwithme.global.utils.ImageVariantUrlsConverter;
 import com.frog.travelwithme.global.utils.StringListConverter;
 import lombok.*;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotEmpty;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Feed 설명: 피드 관리
@@ -31,6 +32,11 @@ public class Feed extends BaseTimeEntity {
     @Convert(converter = StringListConverter.class)
     private List<String> imageUrls = new ArrayList<>();
 
+    // 원본 이미지 url -> 리사이즈 이미지 url
+    @Column(columnDefinition = "TEXT")
+    @Convert(converter = ImageVariantUrlsConverter.class)
+    private Map<String, Map<ImageVariant, String>> imageVariantUrls = new HashMap<>();
+
     private String contents;
 
     private Long commentCount = 0L;
@@ -50,12 +56,6 @@ public class Feed extends BaseTimeEntity {
             inverseJoinColumns = @JoinColumn(name = "tag_id"))
     private Set<Tag> tags = new LinkedHashSet<>();
 
-    @ManyToMany
-    @JoinTable(name = "feed_like",
-            joinColumns = @JoinColumn(name = "feed_id"),
-            inverseJoinColumns = @JoinColumn(name = "member_id"))
-    private List<Member> likedMembers = new ArrayList<>();
-
     @Builder
     public Feed(String contents, String location, Member member, List<String> imageUrls) {
         this.contents = contents;
@@ -71,31 +71,16 @@ public class Feed extends BaseTimeEntity {
                 .ifPresent(updateLocation -> this.location = updateLocation);
     }
 
-    public void addTags(Set<Tag> tags) {
-        this.tags.addAll(tags);
-    }
-
-    public void addLike(Member member) {
-        this.likedMembers.add(member);
-        this.likeCount += 1;
-    }
+    public Set<Tag> addTags(Set<Tag> tags) {
+        Set<Long> tagIds = new HashSet<>();
+        this.tags.forEach(tag -> tagIds.add(tag.getId()));
+        Set<Tag> addedTags = new LinkedHashSet<>();
+        tags.stream()
+                .filter(tag -> tag.getId() == null || tagIds.add(tag.getId()))
+                .forEach(addedTags::add);
+        this.tags.addAll(addedTags);
 
-    public void removeLike(String email) {
-        this.likedMembers.stream()
-                .map(Member::getEmail)
-                .collect(Collectors.toList())
-                .remove(email);
-        this.likeCount -= 1;
-    }
-
-    public boolean isLikedByMember(String email) {
-        if (this.likedMembers.isEmpty()) {
-            return false;
-        }
-        return this.likedMembers.stream()
-                .map(Member::getEmail)
-                .collect(Collectors.toList())
-                .contains(email);
+        return addedTags;
     }
 
     public void addImageUrl(String imageUrl) {
@@ -105,10 +90,38 @@ public class Feed extends BaseTimeEntity {
         this.imageUrls.add(imageUrl);
     }
 
+    public void addImage(String imageUrl, Map<ImageVariant, String> variantUrls) {
+        this.addImageUrl(imageUrl);
+        if (!variantUrls.isEmpty()) {
+            if (this.imageVariantUrls == null) {
+                this.imageVariantUrls = new HashMap<>();
+            }
+            this.imageVariantUrls.put(imageUrl, new EnumMap<>(variantUrls));
+        }
+    }
+
     public void removeImageUrl(String imageUrl) {
         this.imageUrls.remove(imageUrl);
     }
 
+    // 원본 이미지와 함께 삭제된 리사이즈 이미지 url 반환
+    public List<String> removeImage(String imageUrl) {
+        this.removeImageUrl(imageUrl);
+        Map<ImageVariant, String> removedVariantUrls = this.imageVariantUrls == null
+                ? null : this.imageVariantUrls.remove(imageUrl);
+
+        return removedVariantUrls == null ? new ArrayList<>() : new ArrayList<>(removedVariantUrls.values());
+    }
+
+    public List<String> getAllImageUrls() {
+        List<String> allImageUrls = new ArrayList<>(this.imageUrls);
+        if (this.imageVariantUrls != null) {
+            this.imageVariantUrls.values().forEach(variantUrls -> allImageUrls.addAll(variantUrls.values()));
+        }
+
+        return allImageUrls;
+    }
+
     public boolean isImageUrlsSizeOne() {
         return this.imageUrls.size() == 1;
     }
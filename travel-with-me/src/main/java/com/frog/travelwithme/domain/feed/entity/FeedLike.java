@@ -0,0 +1,40 @@
+package com.frog.travelwithme.domain.feed.entity;
+
+import com.frog.travelwithme.domain.member.entity.Member;
+import lombok.*;
+
+import javax.persistence.*;
+
+/**
+ * FeedLike 설명: 피드 좋아요 관리, (feed_id, member_id) 유니크 인덱스로 좋아요 여부 조회
+ * - 기존 feed_like 조인 테이블은 배포 전에 scripts/feed_like_migration.sql로 중복 제거 후 id와 유니크 인덱스 추가
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/12
+ **/
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "feed_like",
+        uniqueConstraints = @UniqueConstraint(name = "uk_feed_like_feed_member",
+                columnNames = {"feed_id", "member_id"}))
+public class FeedLike {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "feed_id", nullable = false)
+    private Feed feed;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    @Builder
+    public FeedLike(Feed feed, Member member) {
+        this.feed = feed;
+        this.member = member;
+    }
+}
@@ -1,6 +1,7 @@
 package com.frog.travelwithme.domain.feed.entity;
 
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import javax.persistence.*;
 import java.util.LinkedHashSet;
@@ -23,6 +24,12 @@ public class Tag {
     @Column(unique = true, updatable = false)
     private String name;
 
+    // 태그가 달린 피드 수, 피드에 태그가 추가/삭제될 때 일괄 갱신하고 0 미만으로 내려가지 않음
+    // 컬럼 추가 전부터 있던 태그는 배포 시 scripts/tag_usage_count_backfill.sql로 한 번만 다시 계산
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long usageCount = 0L;
+
     @ManyToMany(mappedBy = "tags")
     private Set<Feed> feeds = new LinkedHashSet<>();
 
@@ -30,4 +37,11 @@ public class Tag {
     public Tag(String name) {
         this.name = name;
     }
+
+    // 캐시된 id, 이름으로 조회 없이 연관관계만 맺기 위한 엔티티 참조
+    public static Tag reference(Long id, String name) {
+        Tag tag = new Tag(name);
+        tag.id = id;
+        return tag;
+    }
 }
@@ -3,6 +3,7 @@ package com.frog.travelwithme.domain.feed.mapper;
 import com.frog.travelwithme.domain.feed.controller.dto.FeedDto;
 import com.frog.travelwithme.domain.feed.entity.Feed;
 import com.frog.travelwithme.domain.feed.entity.Tag;
+import com.frog.travelwithme.domain.feed.service.dto.FeedViewerRelation;
 import com.frog.travelwithme.domain.member.entity.Member;
 import org.mapstruct.*;
 
@@ -29,14 +30,17 @@ public interface FeedMapper {
     @Mapping(target = "profileImage", source = "feed.member.image")
     @Mapping(target = "tags", source = "feed.tags", qualifiedByName = "convertTagNamesFromTags")
     @Mapping(target = "writer", expression = "java(feed.getMember().getEmail().equals(email))")
-    @Mapping(target = "liked", expression = "java(!feed.getLikedMembers().isEmpty() && " +
-            "feed.getLikedMembers().stream().map(Member::getEmail)" +
-            ".collect(java.util.stream.Collectors.toList()).contains(email))")
+    @Mapping(target = "liked", source = "liked")
+    @Mapping(target = "following", source = "following")
     @Mapping(target = "nickname", expression = "java(feed.getMember().getNickname())")
-    FeedDto.Response toResponse(Feed feed, String email);
-
-    default List<FeedDto.Response> toResponseList(List<Feed> feedList, String email) {
-        return feedList.stream().map(feed -> toResponse(feed, email)).collect(Collectors.toList());
+    FeedDto.Response toResponse(Feed feed, String email, boolean liked, boolean following);
+
+    // 작성자는 피드와 함께 fetch join 되어 있고, 요청자 기준 여부는 미리 조회한 집합에서 확인
+    default List<FeedDto.Response> toResponseList(List<Feed> feedList, String email, FeedViewerRelation relation) {
+        return feedList.stream()
+                .map(feed -> toResponse(feed, email, relation.isLiked(feed.getId()),
+                        relation.isFollowing(feed.getMember().getEmail())))
+                .collect(Collectors.toList());
     }
 
     @Named("convertTagNamesFromTags")
@@ -2,7 +2,10 @@ package com.frog.travelwithme.domain.feed.repository;
 
 import com.frog.travelwithme.domain.feed.entity.Feed;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * 작성자: 김찬빈
@@ -16,4 +19,14 @@ public interface FeedCustomRepository {
     List<Feed> findAllByNickname(Long lastFeedId, String nickname, String email);
 
     List<Feed> findAllByTagName(Long lastFeedId, String tagName, String email);
+
+    List<Feed> findAllByIdIn(List<Long> feedIds);
+
+    List<Long> findRecentFeedIds(int size);
+
+    List<Long> findExistFeedIds(Collection<Long> feedIds);
+
+    Optional<String> findWriterEmailById(Long feedId);
+
+    void increaseLikeCounts(Map<Long, Long> likeCountDeltas);
 }
@@ -4,9 +4,11 @@ import com.frog.travelwithme.domain.feed.entity.Feed;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static com.frog.travelwithme.domain.feed.entity.QFeed.feed;
 import static com.frog.travelwithme.domain.feed.entity.QTag.tag;
@@ -21,52 +23,118 @@ import static com.frog.travelwithme.domain.member.entity.QMember.member;
 @RequiredArgsConstructor
 public class FeedCustomRepositoryImpl implements FeedCustomRepository {
 
+    private static final int PAGE_SIZE = 20;
+
     private final JPAQueryFactory jpaQueryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public List<Feed> findAll(Long lastFeedId, String email) {
-        int pageSize = 20;
-
-        return jpaQueryFactory
-                .selectFrom(feed)
-                .leftJoin(feed.member, member).fetchJoin()
-                .leftJoin(feed.tags, tag).fetchJoin()
+        List<Long> feedIds = jpaQueryFactory
+                .select(feed.id)
+                .from(feed)
                 .where(ltFeedId(lastFeedId))
                 .orderBy(feed.id.desc())
-                .limit(pageSize)
+                .limit(PAGE_SIZE)
                 .fetch();
+
+        return this.findAllByIdIn(feedIds);
     }
 
     @Override
     public List<Feed> findAllByNickname(Long lastFeedId, String nickname, String email) {
-        int pageSize = 20;
-
-        return jpaQueryFactory
-                .selectFrom(feed)
-                .leftJoin(feed.member, member).fetchJoin()
-                .leftJoin(feed.tags, tag).fetchJoin()
+        List<Long> feedIds = jpaQueryFactory
+                .select(feed.id)
+                .from(feed)
+                .join(feed.member, member)
                 .where(ltFeedId(lastFeedId))
                 .where(member.nickname.eq(nickname))
                 .orderBy(feed.id.desc())
-                .limit(pageSize)
+                .limit(PAGE_SIZE)
                 .fetch();
+
+        return this.findAllByIdIn(feedIds);
     }
 
     @Override
     public List<Feed> findAllByTagName(Long lastFeedId, String tagName, String email) {
-        int pageSize = 20;
+        List<Long> feedIds = jpaQueryFactory
+                .select(feed.id)
+                .from(feed)
+                .join(feed.tags, tag)
+                .where(ltFeedId(lastFeedId))
+                .where(tag.name.eq(tagName))
+                .orderBy(feed.id.desc())
+                .limit(PAGE_SIZE)
+                .fetch();
+
+        return this.findAllByIdIn(feedIds);
+    }
+
+    // 1차 쿼리로 찾은 id 목록만 member, tags와 함께 fetch join (컬렉션 fetch join 시 limit 사용 금지)
+    @Override
+    public List<Feed> findAllByIdIn(List<Long> feedIds) {
+        if (feedIds.isEmpty()) {
+            return Collections.emptyList();
+        }
 
         return jpaQueryFactory
                 .selectFrom(feed)
+                .distinct()
                 .leftJoin(feed.member, member).fetchJoin()
                 .leftJoin(feed.tags, tag).fetchJoin()
-                .where(ltFeedId(lastFeedId))
-                .where(tag.name.eq(tagName))
+                .where(feed.id.in(feedIds))
                 .orderBy(feed.id.desc())
-                .limit(pageSize)
                 .fetch();
     }
 
+    @Override
+    public List<Long> findRecentFeedIds(int size) {
+        return jpaQueryFactory
+                .select(feed.id)
+                .from(feed)
+                .orderBy(feed.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findExistFeedIds(Collection<Long> feedIds) {
+        if (feedIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return jpaQueryFactory
+                .select(feed.id)
+                .from(feed)
+                .where(feed.id.in(feedIds))
+                .fetch();
+    }
+
+    // 작성자 확인에 필요한 email만 조회하여 엔티티를 영속성 컨텍스트에 올리지 않음
+    @Override
+    public Optional<String> findWriterEmailById(Long feedId) {
+        return Optional.ofNullable(jpaQueryFactory
+                .select(member.email)
+                .from(feed)
+                .join(feed.member, member)
+                .where(feed.id.eq(feedId))
+                .fetchOne());
+    }
+
+    // 좋아요 수 변경분을 batch update로 한 번에 반영, like_count = like_count + ? 로 갱신 유실 방지
+    @Override
+    public void increaseLikeCounts(Map<Long, Long> likeCountDeltas) {
+        if (likeCountDeltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = likeCountDeltas.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .collect(Collectors.toList());
+
+        jdbcTemplate.batchUpdate("update feed set like_count = like_count + ? where id = ?", batchArgs);
+    }
+
     private BooleanExpression ltFeedId(Long lastFeedId) {
         if (lastFeedId == null) {
             return null;
@@ -0,0 +1,26 @@
+package com.frog.travelwithme.domain.feed.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/12
+ **/
+public interface FeedLikeCustomRepository {
+
+    List<Long> findLikedFeedIds(List<Long> feedIds, String email);
+
+    long deleteAllByFeedId(Long feedId);
+
+    Map<String, Long> findMemberIdsByEmails(Collection<String> emails);
+
+    Set<Long> findLikedMemberIds(Long feedId, Collection<Long> memberIds);
+
+    void insertFeedLikes(Long feedId, Collection<Long> memberIds);
+
+    long deleteByFeedIdAndMemberIds(Long feedId, Collection<Long> memberIds);
+}
@@ -0,0 +1,103 @@
+package com.frog.travelwithme.domain.feed.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.frog.travelwithme.domain.feed.entity.QFeedLike.feedLike;
+import static com.frog.travelwithme.domain.member.entity.QMember.member;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/12
+ **/
+@Repository
+@RequiredArgsConstructor
+public class FeedLikeCustomRepositoryImpl implements FeedLikeCustomRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 피드 목록 중 요청자가 좋아요한 피드 id를 한 번의 쿼리로 조회
+    @Override
+    public List<Long> findLikedFeedIds(List<Long> feedIds, String email) {
+        if (feedIds.isEmpty() || email == null) {
+            return Collections.emptyList();
+        }
+
+        return jpaQueryFactory
+                .select(feedLike.feed.id)
+                .from(feedLike)
+                .join(feedLike.member, member)
+                .where(feedLike.feed.id.in(feedIds))
+                .where(member.email.eq(email))
+                .fetch();
+    }
+
+    @Override
+    public long deleteAllByFeedId(Long feedId) {
+        return jpaQueryFactory
+                .delete(feedLike)
+                .where(feedLike.feed.id.eq(feedId))
+                .execute();
+    }
+
+    @Override
+    public Map<String, Long> findMemberIdsByEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        return jpaQueryFactory
+                .select(member.email, member.id)
+                .from(member)
+                .where(member.email.in(emails))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(member.email), tuple -> tuple.get(member.id)));
+    }
+
+    @Override
+    public Set<Long> findLikedMemberIds(Long feedId, Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        return new HashSet<>(jpaQueryFactory
+                .select(feedLike.member.id)
+                .from(feedLike)
+                .where(feedLike.feed.id.eq(feedId))
+                .where(feedLike.member.id.in(memberIds))
+                .fetch());
+    }
+
+    @Override
+    public void insertFeedLikes(Long feedId, Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = memberIds.stream()
+                .map(memberId -> new Object[]{feedId, memberId})
+                .collect(Collectors.toList());
+
+        jdbcTemplate.batchUpdate("insert into feed_like (feed_id, member_id) values (?, ?)", batchArgs);
+    }
+
+    @Override
+    public long deleteByFeedIdAndMemberIds(Long feedId, Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return 0;
+        }
+
+        return jpaQueryFactory
+                .delete(feedLike)
+                .where(feedLike.feed.id.eq(feedId))
+                .where(feedLike.member.id.in(memberIds))
+                .execute();
+    }
+}
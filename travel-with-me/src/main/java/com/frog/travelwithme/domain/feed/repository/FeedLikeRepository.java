@@ -0,0 +1,13 @@
+package com.frog.travelwithme.domain.feed.repository;
+
+import com.frog.travelwithme.domain.feed.entity.FeedLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/12
+ **/
+public interface FeedLikeRepository extends JpaRepository<FeedLike, Long>, FeedLikeCustomRepository {
+    boolean existsByFeedIdAndMemberEmail(Long feedId, String email);
+}
@@ -1,7 +1,9 @@
 package com.frog.travelwithme.domain.feed.repository;
 
 import com.frog.travelwithme.domain.feed.controller.dto.TagDto;
+import com.frog.travelwithme.domain.feed.entity.Tag;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -12,4 +14,12 @@ import java.util.List;
 public interface TagCustomRepository {
 
     List<TagDto.Response> findTagsStartWith(String tagName, int size);
+
+    void insertIgnoringDuplicates(List<String> tagNames);
+
+    List<Tag> findAllByNameInForShare(Collection<String> tagNames);
+
+    long increaseUsageCounts(Collection<Long> tagIds, long delta);
+
+    List<TagDto.Response> findAllUsageCounts();
 }
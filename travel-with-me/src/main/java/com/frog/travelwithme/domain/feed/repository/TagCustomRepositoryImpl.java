@@ -2,48 +2,103 @@ package com.frog.travelwithme.domain.feed.repository;
 
 import com.frog.travelwithme.domain.feed.controller.dto.QTagDto_Response;
 import com.frog.travelwithme.domain.feed.controller.dto.TagDto;
-import com.frog.travelwithme.domain.feed.entity.QTag;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
+import com.frog.travelwithme.domain.feed.entity.Tag;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
-import static com.frog.travelwithme.domain.feed.entity.QFeed.feed;
 import static com.frog.travelwithme.domain.feed.entity.QTag.tag;
-import static com.querydsl.core.types.ExpressionUtils.count;
 
 /**
  * 작성자: 김찬빈
  * 버전 정보: 1.0.0
  * 작성일자: 2023/05/03
  **/
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class TagCustomRepositoryImpl implements TagCustomRepository {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public List<TagDto.Response> findTagsStartWith(String tagName, int size) {
-        QTag subTag = new QTag("subTag");
-        return jpaQueryFactory.select(
-                        new QTagDto_Response(
-                                tag.name,
-                                Expressions.as(
-                                        JPAExpressions.select(count(subTag))
-                                                .from(subTag)
-                                                .where(subTag.eq(tag))
-                                                .join(tag.feeds, feed)
-                                                .groupBy(subTag.id),
-                                        "count"
-                                )))
+        return jpaQueryFactory
+                .select(new QTagDto_Response(tag.name, tag.usageCount))
                 .from(tag)
                 .where(tag.name.startsWith(tagName))
+                .orderBy(tag.usageCount.desc(), tag.name.asc())
                 .limit(size)
-                .orderBy()
                 .fetch();
     }
+
+    // 여러 태그를 한 번의 multi-row insert로 저장, 동시에 저장된 태그가 있으면 한 건씩 저장하며 중복은 무시
+    // 데드락을 피하려면 호출하는 쪽에서 이름 순으로 정렬해 전달, 잠금 실패는 트랜잭션이 롤백되므로 호출한 트랜잭션 단위로 재시도
+    @Override
+    public void insertIgnoringDuplicates(List<String> tagNames) {
+        if (tagNames.isEmpty()) {
+            return;
+        }
+        String values = String.join(", ", Collections.nCopies(tagNames.size(), "(?)"));
+        try {
+            jdbcTemplate.update("insert into tag (name) values " + values, tagNames.toArray());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("TagCustomRepositoryImpl.insertIgnoringDuplicates retry one by one tagNames : {}", tagNames);
+            tagNames.forEach(this::insertIgnoringDuplicate);
+        }
+    }
+
+    // 잠금 읽기로 다른 트랜잭션이 방금 커밋한 태그까지 조회
+    @Override
+    public List<Tag> findAllByNameInForShare(Collection<String> tagNames) {
+        if (tagNames.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return jpaQueryFactory
+                .selectFrom(tag)
+                .where(tag.name.in(tagNames))
+                .setLockMode(LockModeType.PESSIMISTIC_READ)
+                .fetch();
+    }
+
+    @Override
+    public long increaseUsageCounts(Collection<Long> tagIds, long delta) {
+        if (tagIds.isEmpty()) {
+            return 0;
+        }
+
+        // 감소할 때는 사용 횟수가 음수가 되는 태그는 갱신하지 않음
+        return jpaQueryFactory
+                .update(tag)
+                .set(tag.usageCount, tag.usageCount.add(delta))
+                .where(tag.id.in(tagIds),
+                        delta < 0 ? tag.usageCount.goe(-delta) : null)
+                .execute();
+    }
+
+    @Override
+    public List<TagDto.Response> findAllUsageCounts() {
+        return jpaQueryFactory
+                .select(new QTagDto_Response(tag.name, tag.usageCount))
+                .from(tag)
+                .fetch();
+    }
+
+    private void insertIgnoringDuplicate(String tagName) {
+        try {
+            jdbcTemplate.update("insert into tag (name) values (?)", tagName);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("TagCustomRepositoryImpl.insertIgnoringDuplicate already exists tagName : {}", tagName);
+        }
+    }
 }
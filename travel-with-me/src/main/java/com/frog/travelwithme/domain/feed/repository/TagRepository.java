@@ -3,7 +3,8 @@ package com.frog.travelwithme.domain.feed.repository;
 import com.frog.travelwithme.domain.feed.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 작성자: 김찬빈
@@ -11,5 +12,5 @@ import java.util.Optional;
  * 작성일자: 2023/05/03
  **/
 public interface TagRepository extends JpaRepository<Tag, Long>, TagCustomRepository {
-    Optional<Tag> findByName(String tagName);
+    List<Tag> findAllByNameIn(Collection<String> tagNames);
 }
@@ -0,0 +1,310 @@
+package com.frog.travelwithme.domain.feed.service;
+
+import com.frog.travelwithme.domain.common.like.service.LikeService;
+import com.frog.travelwithme.domain.feed.controller.dto.FeedDto.Response;
+import com.frog.travelwithme.domain.feed.repository.FeedLikeRepository;
+import com.frog.travelwithme.domain.feed.service.dto.FeedLikeDelta;
+import com.frog.travelwithme.global.enums.EnumCollection.ResponseBody;
+import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.global.exception.ExceptionCode;
+import com.frog.travelwithme.global.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * FeedLikeBufferService 설명: 피드 좋아요/좋아요 취소를 Redis에 먼저 기록하는 write-behind 버퍼
+ * - 피드별 추가/취소 회원 email set과 좋아요 수 변경분을 Lua 스크립트로 원자적으로 갱신
+ * - 쌓인 변경분은 FeedLikeFlushScheduler가 주기적으로 DB에 일괄 반영
+ * - 반영할 변경분은 피드별 inflight key로 RENAME하고, DB 커밋 후에만 삭제
+ *   (반영 도중 서버가 종료되어도 lease가 만료되면 다른 실행이 inflight를 다시 반영)
+ * - 반영이 끝날 때마다 피드별 version을 올리고, 좋아요/취소 스크립트는 DB 조회 전에 읽은 version이
+ *   바뀌었으면 DB 좋아요 여부를 다시 조회하여 판단
+ * - 조회 시 아직 반영되지 않은 변경분(inflight 포함)을 응답에 덮어씀
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/15
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedLikeBufferService implements LikeService {
+
+    private static final String ADDED_KEY_PREFIX = "FeedLikeAdded:";
+    private static final String REMOVED_KEY_PREFIX = "FeedLikeRemoved:";
+    private static final String DELTA_KEY_PREFIX = "FeedLikeDelta:";
+    private static final String INFLIGHT_ADDED_KEY_PREFIX = "FeedLikeInflightAdded:";
+    private static final String INFLIGHT_REMOVED_KEY_PREFIX = "FeedLikeInflightRemoved:";
+    private static final String INFLIGHT_DELTA_KEY_PREFIX = "FeedLikeInflightDelta:";
+    private static final String VERSION_KEY_PREFIX = "FeedLikeVersion:";
+    private static final String DIRTY_KEY = "FeedLikeDirty";
+    // member: feedId, score: inflight lease 만료 시각(epoch millis)
+    private static final String INFLIGHT_KEY = "FeedLikeInflight";
+    private static final long INFLIGHT_LEASE_MILLIS = 60_000;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long VERSION_CHANGED = -1;
+    // 피드별 pipeline 결과 수: inflight delta, 추가, 취소 / delta, 추가, 취소
+    private static final int PENDING_RESULT_SIZE = 6;
+
+    // KEYS: added, removed, delta, dirty, inflightAdded, inflightRemoved, version
+    // ARGV: email, feedId, DB 좋아요 여부, DB 조회 전 version
+    // inflight에 있는 변경분이 DB보다 최신이므로 DB 좋아요 여부보다 우선
+    private static final RedisScript<Long> LIKE_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[7]) or '0') ~= ARGV[4] then return -1 end " +
+            "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then return 0 end " +
+            "if redis.call('SREM', KEYS[2], ARGV[1]) == 0 then " +
+            "  local liked = ARGV[3] == '1' " +
+            "  if redis.call('SISMEMBER', KEYS[5], ARGV[1]) == 1 then liked = true " +
+            "  elseif redis.call('SISMEMBER', KEYS[6], ARGV[1]) == 1 then liked = false end " +
+            "  if liked then return 0 end " +
+            "  redis.call('SADD', KEYS[1], ARGV[1]) " +
+            "end " +
+            "redis.call('INCR', KEYS[3]) " +
+            "redis.call('SADD', KEYS[4], ARGV[2]) " +
+            "return 1", Long.class);
+
+    // KEYS: added, removed, delta, dirty, inflightAdded, inflightRemoved, version
+    // ARGV: email, feedId, DB 좋아요 여부, DB 조회 전 version
+    private static final RedisScript<Long> CANCEL_LIKE_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[7]) or '0') ~= ARGV[4] then return -1 end " +
+            "if redis.call('SREM', KEYS[1], ARGV[1]) == 0 then " +
+            "  if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then return 0 end " +
+            "  local liked = ARGV[3] == '1' " +
+            "  if redis.call('SISMEMBER', KEYS[5], ARGV[1]) == 1 then liked = true " +
+            "  elseif redis.call('SISMEMBER', KEYS[6], ARGV[1]) == 1 then liked = false end " +
+            "  if not liked then return 0 end " +
+            "  redis.call('SADD', KEYS[2], ARGV[1]) " +
+            "end " +
+            "redis.call('DECR', KEYS[3]) " +
+            "redis.call('SADD', KEYS[4], ARGV[2]) " +
+            "return 1", Long.class);
+
+    // 아직 반영 중인 inflight가 있으면 순서가 뒤바뀌지 않도록 다음 실행으로 미룸
+    // KEYS: added, removed, delta, inflightAdded, inflightRemoved, inflightDelta, inflight, dirty
+    // ARGV: feedId, lease 만료 시각 / 결과: [] 또는 [delta, 추가 회원 수, 추가 회원..., 취소 회원...]
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('ZSCORE', KEYS[7], ARGV[1]) then " +
+            "  redis.call('SADD', KEYS[8], ARGV[1]) " +
+            "  return {} " +
+            "end " +
+            "local moved = false " +
+            "for i = 1, 3 do " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then " +
+            "    redis.call('RENAME', KEYS[i], KEYS[i + 3]) " +
+            "    moved = true " +
+            "  end " +
+            "end " +
+            "if not moved then return {} end " +
+            "redis.call('ZADD', KEYS[7], ARGV[2], ARGV[1]) " +
+            "local added = redis.call('SMEMBERS', KEYS[4]) " +
+            "local removed = redis.call('SMEMBERS', KEYS[5]) " +
+            "local result = {redis.call('GET', KEYS[6]) or '0', tostring(#added)} " +
+            "for _, email in ipairs(added) do table.insert(result, email) end " +
+            "for _, email in ipairs(removed) do table.insert(result, email) end " +
+            "return result", List.class);
+
+    // lease가 만료된 inflight를 다시 가져감, 다른 서버가 먼저 가져갔으면 []
+    // KEYS: inflightAdded, inflightRemoved, inflightDelta, inflight / ARGV: feedId, 현재 시각, lease 만료 시각
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local lease = redis.call('ZSCORE', KEYS[4], ARGV[1]) " +
+            "if not lease or tonumber(lease) > tonumber(ARGV[2]) then return {} end " +
+            "redis.call('ZADD', KEYS[4], ARGV[3], ARGV[1]) " +
+            "local added = redis.call('SMEMBERS', KEYS[1]) " +
+            "local removed = redis.call('SMEMBERS', KEYS[2]) " +
+            "local result = {redis.call('GET', KEYS[3]) or '0', tostring(#added)} " +
+            "for _, email in ipairs(added) do table.insert(result, email) end " +
+            "for _, email in ipairs(removed) do table.insert(result, email) end " +
+            "return result", List.class);
+
+    // DB 커밋 후 inflight를 삭제하고 version을 올려 그 사이 DB를 조회한 좋아요/취소 요청이 다시 확인하도록 함
+    // KEYS: inflightAdded, inflightRemoved, inflightDelta, inflight, version / ARGV: feedId
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1], KEYS[2], KEYS[3]) " +
+            "redis.call('ZREM', KEYS[4], ARGV[1]) " +
+            "redis.call('INCR', KEYS[5]) " +
+            "redis.call('EXPIRE', KEYS[5], 86400) " +
+            "return 1", Long.class);
+
+    private final RedisService redisService;
+    private final FeedLikeRepository feedLikeRepository;
+
+    @Override
+    public ResponseBody doLike(String email, long feedId) {
+        if (this.executeWithVersion(LIKE_SCRIPT, email, feedId) == 0) {
+            log.debug("FeedLikeBufferService.doLike exception occur email : {}, feedId : {}", email, feedId);
+            throw new BusinessLogicException(ExceptionCode.ALREADY_LIKED_FEED);
+        }
+
+        return ResponseBody.SUCCESS_FEED_LIKE;
+    }
+
+    @Override
+    public ResponseBody cancelLike(String email, long feedId) {
+        if (this.executeWithVersion(CANCEL_LIKE_SCRIPT, email, feedId) == 0) {
+            log.debug("FeedLikeBufferService.cancelLike exception occur email : {}, feedId : {}", email, feedId);
+            throw new BusinessLogicException(ExceptionCode.UNABLE_TO_CANCEL_LIKE);
+        }
+
+        return ResponseBody.SUCCESS_CANCEL_FEED_LIKE;
+    }
+
+    public Response applyPendingLikes(Response response, String email) {
+        return this.applyPendingLikes(List.of(response), email).get(0);
+    }
+
+    // 아직 DB에 반영되지 않은 좋아요 수와 요청자의 좋아요 여부를 응답에 덮어씀
+    // 반영 중이거나 반영에 실패하여 lease를 기다리는 inflight 변경분을 먼저, 그 뒤에 새 변경분을 적용
+    public List<Response> applyPendingLikes(List<Response> responses, String email) {
+        if (responses.isEmpty()) {
+            return responses;
+        }
+        List<Object> results;
+        try {
+            results = redisService.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    for (Response response : responses) {
+                        String member = String.valueOf(email);
+                        operations.opsForValue().get(INFLIGHT_DELTA_KEY_PREFIX + response.getId());
+                        operations.opsForSet().isMember(INFLIGHT_ADDED_KEY_PREFIX + response.getId(), member);
+                        operations.opsForSet().isMember(INFLIGHT_REMOVED_KEY_PREFIX + response.getId(), member);
+                        operations.opsForValue().get(DELTA_KEY_PREFIX + response.getId());
+                        operations.opsForSet().isMember(ADDED_KEY_PREFIX + response.getId(), member);
+                        operations.opsForSet().isMember(REMOVED_KEY_PREFIX + response.getId(), member);
+                    }
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("FeedLikeBufferService.applyPendingLikes redis exception occur", e);
+            return responses;
+        }
+
+        List<Response> appliedResponses = new ArrayList<>();
+        for (int i = 0; i < responses.size(); i++) {
+            Response response = responses.get(i);
+            int offset = i * PENDING_RESULT_SIZE;
+            boolean liked = this.applyPendingLiked(response.isLiked(), results, offset);
+            liked = this.applyPendingLiked(liked, results, offset + 3);
+            long likeCount = response.getLikeCount()
+                    + this.toDelta(results.get(offset)) + this.toDelta(results.get(offset + 3));
+            appliedResponses.add(response.toBuilder()
+                    .likeCount(Math.max(likeCount, 0))
+                    .liked(liked)
+                    .build());
+        }
+
+        return appliedResponses;
+    }
+
+    // results[offset]: delta, [offset + 1]: 추가 여부, [offset + 2]: 취소 여부
+    private boolean applyPendingLiked(boolean liked, List<Object> results, int offset) {
+        boolean added = Boolean.TRUE.equals(results.get(offset + 1));
+        boolean removed = Boolean.TRUE.equals(results.get(offset + 2));
+
+        return added || (liked && !removed);
+    }
+
+    private long toDelta(Object delta) {
+        return delta == null ? 0 : Long.parseLong(delta.toString());
+    }
+
+    public List<FeedLikeDelta> drain(int maxFeedCount) {
+        List<FeedLikeDelta> feedLikeDeltas = new ArrayList<>();
+        String leaseExpiredAt = String.valueOf(System.currentTimeMillis() + INFLIGHT_LEASE_MILLIS);
+        for (String feedId : redisService.popSetValues(DIRTY_KEY, maxFeedCount)) {
+            long id = Long.parseLong(feedId);
+            List<?> result = redisService.executeScript(DRAIN_SCRIPT, List.of(
+                    ADDED_KEY_PREFIX + id, REMOVED_KEY_PREFIX + id, DELTA_KEY_PREFIX + id,
+                    INFLIGHT_ADDED_KEY_PREFIX + id, INFLIGHT_REMOVED_KEY_PREFIX + id, INFLIGHT_DELTA_KEY_PREFIX + id,
+                    INFLIGHT_KEY, DIRTY_KEY), feedId, leaseExpiredAt);
+            this.toFeedLikeDelta(id, result).ifPresent(feedLikeDeltas::add);
+        }
+
+        return feedLikeDeltas;
+    }
+
+    // 반영 도중 종료된 실행이 남긴 inflight 변경분을 다시 가져옴
+    public List<FeedLikeDelta> claimExpiredInflight(int maxFeedCount) {
+        long now = System.currentTimeMillis();
+        String leaseExpiredAt = String.valueOf(now + INFLIGHT_LEASE_MILLIS);
+        List<FeedLikeDelta> feedLikeDeltas = new ArrayList<>();
+        for (String feedId : redisService.getZSetReverseRangeByScore(INFLIGHT_KEY, now, maxFeedCount)) {
+            long id = Long.parseLong(feedId);
+            List<?> result = redisService.executeScript(CLAIM_SCRIPT, List.of(
+                    INFLIGHT_ADDED_KEY_PREFIX + id, INFLIGHT_REMOVED_KEY_PREFIX + id,
+                    INFLIGHT_DELTA_KEY_PREFIX + id, INFLIGHT_KEY), feedId, String.valueOf(now), leaseExpiredAt);
+            this.toFeedLikeDelta(id, result).ifPresent(feedLikeDeltas::add);
+        }
+
+        return feedLikeDeltas;
+    }
+
+    // DB 트랜잭션이 커밋된 후에만 호출
+    public void complete(List<FeedLikeDelta> feedLikeDeltas) {
+        for (FeedLikeDelta feedLikeDelta : feedLikeDeltas) {
+            long id = feedLikeDelta.getFeedId();
+            redisService.executeScript(COMPLETE_SCRIPT, List.of(
+                    INFLIGHT_ADDED_KEY_PREFIX + id, INFLIGHT_REMOVED_KEY_PREFIX + id, INFLIGHT_DELTA_KEY_PREFIX + id,
+                    INFLIGHT_KEY, VERSION_KEY_PREFIX + id), String.valueOf(id));
+        }
+    }
+
+    // 반영에 실패한 inflight의 lease를 만료시켜 다음 실행이 바로 다시 가져가도록 함
+    public void release(List<FeedLikeDelta> feedLikeDeltas) {
+        feedLikeDeltas.forEach(feedLikeDelta ->
+                redisService.addZSetValue(INFLIGHT_KEY, String.valueOf(feedLikeDelta.getFeedId()), 0));
+    }
+
+    public long getBacklogSize() {
+        return redisService.getSetSize(DIRTY_KEY);
+    }
+
+    // DB 조회 전에 version을 읽고, 스크립트 실행 전에 반영이 끝나 version이 바뀌었으면 DB를 다시 조회
+    private long executeWithVersion(RedisScript<Long> script, String email, long feedId) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            String version = redisService.getValues(VERSION_KEY_PREFIX + feedId);
+            Long result = redisService.executeScript(script, List.of(
+                    ADDED_KEY_PREFIX + feedId, REMOVED_KEY_PREFIX + feedId, DELTA_KEY_PREFIX + feedId, DIRTY_KEY,
+                    INFLIGHT_ADDED_KEY_PREFIX + feedId, INFLIGHT_REMOVED_KEY_PREFIX + feedId,
+                    VERSION_KEY_PREFIX + feedId),
+                    email, String.valueOf(feedId), this.isLikedInDatabase(feedId, email),
+                    "false".equals(version) ? "0" : version);
+            if (result == null || result != VERSION_CHANGED) {
+                return result == null ? 0 : result;
+            }
+        }
+        log.debug("FeedLikeBufferService.executeWithVersion exception occur email : {}, feedId : {}", email, feedId);
+        throw new BusinessLogicException(ExceptionCode.CONCURRENT_MODIFICATION);
+    }
+
+    private String isLikedInDatabase(long feedId, String email) {
+        return feedLikeRepository.existsByFeedIdAndMemberEmail(feedId, email) ? "1" : "0";
+    }
+
+    private Optional<FeedLikeDelta> toFeedLikeDelta(long feedId, List<?> result) {
+        if (result == null || result.isEmpty()) {
+            return Optional.empty();
+        }
+        List<String> values = result.stream().map(String::valueOf).collect(Collectors.toList());
+        int addedCount = Integer.parseInt(values.get(1));
+
+        return Optional.of(FeedLikeDelta.builder()
+                .feedId(feedId)
+                .delta(Long.parseLong(values.get(0)))
+                .addedEmails(new LinkedHashSet<>(values.subList(2, 2 + addedCount)))
+                .removedEmails(new LinkedHashSet<>(values.subList(2 + addedCount, values.size())))
+                .build());
+    }
+}
@@ -0,0 +1,100 @@
+package com.frog.travelwithme.domain.feed.service;
+
+import com.frog.travelwithme.domain.feed.service.dto.FeedLikeDelta;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * FeedLikeFlushScheduler 설명: 좋아요 write-behind 버퍼를 주기적으로 DB에 반영
+ * - 매 실행마다 lease가 만료된 inflight(반영 도중 종료된 실행의 변경분)를 먼저 다시 반영하므로
+ *   서버 재시작 후 첫 실행에서 남은 inflight도 반영됨
+ * - DB 반영이 실패하면 inflight를 그대로 두고 lease만 만료시켜 다음 실행에서 재시도
+ * - feed.like.backlog: 반영 대기 중인 피드 수, feed.like.flush: 반영 소요 시간
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/15
+ **/
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "feed.like.flush.enabled", havingValue = "true", matchIfMissing = true)
+public class FeedLikeFlushScheduler {
+
+    private static final int FLUSH_FEED_COUNT = 500;
+
+    private final FeedLikeBufferService feedLikeBufferService;
+    private final FeedLikeFlushService feedLikeFlushService;
+    private final Timer flushTimer;
+
+    public FeedLikeFlushScheduler(FeedLikeBufferService feedLikeBufferService,
+                                  FeedLikeFlushService feedLikeFlushService,
+                                  MeterRegistry meterRegistry) {
+        this.feedLikeBufferService = feedLikeBufferService;
+        this.feedLikeFlushService = feedLikeFlushService;
+        this.flushTimer = Timer.builder("feed.like.flush")
+                .description("좋아요 변경분 DB 반영 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("feed.like.backlog", this, FeedLikeFlushScheduler::getBacklogSize)
+                .description("DB 반영 대기 중인 피드 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${feed.like.flush.delay-millis:3000}")
+    public void flush() {
+        List<FeedLikeDelta> feedLikeDeltas;
+        try {
+            feedLikeDeltas = new ArrayList<>(feedLikeBufferService.claimExpiredInflight(FLUSH_FEED_COUNT));
+            feedLikeDeltas.addAll(feedLikeBufferService.drain(FLUSH_FEED_COUNT));
+        } catch (DataAccessException e) {
+            log.warn("FeedLikeFlushScheduler.flush redis exception occur", e);
+            return;
+        }
+        if (feedLikeDeltas.isEmpty()) {
+            return;
+        }
+
+        flushTimer.record(() -> {
+            try {
+                feedLikeFlushService.flush(feedLikeDeltas);
+            } catch (RuntimeException e) {
+                log.warn("FeedLikeFlushScheduler.flush exception occur feedCount : {}", feedLikeDeltas.size(), e);
+                this.releaseInflight(feedLikeDeltas);
+                return;
+            }
+            this.completeInflight(feedLikeDeltas);
+        });
+    }
+
+    // 삭제에 실패해도 lease 만료 후 다시 반영되며, 반영은 행 기준이라 중복 반영되지 않음
+    private void completeInflight(List<FeedLikeDelta> feedLikeDeltas) {
+        try {
+            feedLikeBufferService.complete(feedLikeDeltas);
+        } catch (DataAccessException e) {
+            log.warn("FeedLikeFlushScheduler.completeInflight redis exception occur", e);
+        }
+    }
+
+    private void releaseInflight(List<FeedLikeDelta> feedLikeDeltas) {
+        try {
+            feedLikeBufferService.release(feedLikeDeltas);
+        } catch (DataAccessException e) {
+            log.warn("FeedLikeFlushScheduler.releaseInflight redis exception occur", e);
+        }
+    }
+
+    private double getBacklogSize() {
+        try {
+            return feedLikeBufferService.getBacklogSize();
+        } catch (DataAccessException e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.frog.travelwithme.domain.feed.service;
+
+import com.frog.travelwithme.domain.feed.repository.FeedLikeRepository;
+import com.frog.travelwithme.domain.feed.repository.FeedRepository;
+import com.frog.travelwithme.domain.feed.service.dto.FeedLikeDelta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * FeedLikeFlushService 설명: Redis에 쌓인 좋아요 변경분을 feed_like, feed.like_count에 일괄 반영
+ * - 좋아요 수는 실제로 추가/삭제된 feed_like 행 수로 계산하여 행과 항상 일치
+ * - Redis에 기록된 변경분은 요청 의도로만 사용하고, 실제 반영 여부는 이 트랜잭션에서 행을 다시 확인하여 결정
+ *   (같은 변경분을 다시 반영해도 이미 있는 행은 추가하지 않고 없는 행은 삭제되지 않으므로 좋아요 수가 바뀌지 않음)
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/15
+ **/
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class FeedLikeFlushService {
+
+    private final FeedRepository feedRepository;
+    private final FeedLikeRepository feedLikeRepository;
+    private final FeedTimelineCacheService feedTimelineCacheService;
+
+    public void flush(List<FeedLikeDelta> feedLikeDeltas) {
+        Set<Long> existFeedIds = new HashSet<>(feedRepository.findExistFeedIds(feedLikeDeltas.stream()
+                .map(FeedLikeDelta::getFeedId)
+                .collect(Collectors.toList())));
+        Set<String> emails = new HashSet<>();
+        feedLikeDeltas.forEach(feedLikeDelta -> {
+            emails.addAll(feedLikeDelta.getAddedEmails());
+            emails.addAll(feedLikeDelta.getRemovedEmails());
+        });
+        Map<String, Long> memberIdByEmail = feedLikeRepository.findMemberIdsByEmails(emails);
+
+        Map<Long, Long> likeCountDeltas = new HashMap<>();
+        for (FeedLikeDelta feedLikeDelta : feedLikeDeltas) {
+            Long feedId = feedLikeDelta.getFeedId();
+            if (!existFeedIds.contains(feedId)) {
+                log.debug("FeedLikeFlushService.flush skip deleted feed feedId : {}", feedId);
+                continue;
+            }
+            long removedCount = feedLikeRepository.deleteByFeedIdAndMemberIds(
+                    feedId, this.toMemberIds(feedLikeDelta.getRemovedEmails(), memberIdByEmail));
+            Set<Long> addedMemberIds = this.toMemberIds(feedLikeDelta.getAddedEmails(), memberIdByEmail);
+            addedMemberIds.removeAll(feedLikeRepository.findLikedMemberIds(feedId, addedMemberIds));
+            feedLikeRepository.insertFeedLikes(feedId, addedMemberIds);
+
+            long likeCountDelta = addedMemberIds.size() - removedCount;
+            if (likeCountDelta != 0) {
+                likeCountDeltas.put(feedId, likeCountDelta);
+            }
+            feedTimelineCacheService.evictFeed(feedId);
+        }
+        feedRepository.increaseLikeCounts(likeCountDeltas);
+    }
+
+    private Set<Long> toMemberIds(Set<String> emails, Map<String, Long> memberIdByEmail) {
+        return emails.stream()
+                .map(memberIdByEmail::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+}
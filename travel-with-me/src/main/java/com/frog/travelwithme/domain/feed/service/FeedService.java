@@ -6,22 +6,29 @@ import com.frog.travelwithme.domain.feed.controller.dto.FeedDto.Response;
 import com.frog.travelwithme.domain.feed.entity.Feed;
 import com.frog.travelwithme.domain.feed.entity.Tag;
 import com.frog.travelwithme.domain.feed.mapper.FeedMapper;
+import com.frog.travelwithme.domain.feed.repository.FeedLikeRepository;
 import com.frog.travelwithme.domain.feed.repository.FeedRepository;
+import com.frog.travelwithme.domain.feed.service.dto.FeedViewerRelation;
 import com.frog.travelwithme.domain.member.entity.Member;
 import com.frog.travelwithme.domain.member.service.MemberService;
 import com.frog.travelwithme.global.enums.EnumCollection.ResponseBody;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ExceptionCode;
 import com.frog.travelwithme.global.file.FileUploadService;
+import com.frog.travelwithme.global.file.dto.UploadedImage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.frog.travelwithme.global.enums.EnumCollection.AwsS3Path.FEEDIMAGE;
 
@@ -36,23 +43,40 @@ import static com.frog.travelwithme.global.enums.EnumCollection.AwsS3Path.FEEDIM
 @RequiredArgsConstructor
 public class FeedService implements LikeService {
 
+    private static final int LOCK_FAILURE_MAX_ATTEMPTS = 3;
+
     private final FeedRepository feedRepository;
+    private final FeedLikeRepository feedLikeRepository;
     private final MemberService memberService;
     private final TagService tagService;
     private final FeedMapper feedMapper;
     private final FileUploadService fileUploadService;
+    private final FeedTimelineCacheService feedTimelineCacheService;
+    private final FeedLikeBufferService feedLikeBufferService;
+    private final FeedViewerRelationService feedViewerRelationService;
+    private final TransactionTemplate transactionTemplate;
 
+    // 이미지 업로드 동안 DB 커넥션을 잡지 않도록 업로드를 먼저 끝낸 뒤 피드 저장만 트랜잭션으로 실행
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Response postFeed(String email, FeedDto.Post postDto, List<MultipartFile> multipartFiles) {
-        Member saveMember = memberService.findMember(email);
-        Feed feed = feedMapper.postDtoToFeed(postDto, saveMember);
-        this.addTags(postDto.getTags(), feed);
-        List<String> addedImageUrls = this.uploadFeedImages(multipartFiles, feed);
+        List<UploadedImage> uploadedImages = fileUploadService.uploadAll(multipartFiles, FEEDIMAGE);
+        List<String> addedImageUrls = this.getAllUrls(uploadedImages);
         try {
-            Feed saveFeed = feedRepository.save(feed);
-            return feedMapper.toResponse(saveFeed, email);
+            return this.executeWithLockRetry(status -> {
+                Member saveMember = memberService.findMember(email);
+                Feed feed = feedMapper.postDtoToFeed(postDto, saveMember);
+                this.addTags(postDto.getTags(), feed);
+                this.addFeedImages(uploadedImages, feed);
+                Feed saveFeed = feedRepository.save(feed);
+                feedTimelineCacheService.addFeed(saveFeed);
+                return feedMapper.toResponse(saveFeed, email, false, false);
+            });
+        } catch (BusinessLogicException e) {
+            addedImageUrls.forEach(fileUploadService::remove);
+            throw e;
         } catch (Exception e) {
             addedImageUrls.forEach(fileUploadService::remove);
-            log.debug("FeedService.postFeed exception occur feed = {}", feed.toString());
+            log.debug("FeedService.postFeed exception occur email : {}, imageUrls : {}", email, addedImageUrls);
             throw new BusinessLogicException(ExceptionCode.UNABLE_TO_SAVE_FEED);
         }
     }
@@ -64,75 +88,102 @@ public class FeedService implements LikeService {
 
     @Transactional(readOnly = true)
     public Response findFeedById(String email, long feedId) {
-        return feedMapper.toResponse(this.findFeed(feedId), email);
+        Response response = this.toResponse(this.findFeed(feedId), email);
+
+        return feedLikeBufferService.applyPendingLikes(response, email);
     }
 
     @Transactional(readOnly = true)
     public List<Response> findAll(Long lastFeedId, String email) {
-        List<Feed> feedList = feedRepository.findAll(lastFeedId, email);
+        List<Response> responses = feedTimelineCacheService.findTimeline(lastFeedId, email)
+                .orElseGet(() -> {
+                    List<Feed> feedList = feedRepository.findAll(lastFeedId, email);
+                    return this.toResponseList(feedList, email);
+                });
 
-        return feedMapper.toResponseList(feedList, email);
+        return feedLikeBufferService.applyPendingLikes(responses, email);
     }
 
     @Transactional(readOnly = true)
     public List<Response> findAllByNickname(Long lastFeedId, String nickname, String email) {
         List<Feed> feedList = feedRepository.findAllByNickname(lastFeedId, nickname, email);
+        List<Response> responses = this.toResponseList(feedList, email);
 
-        return feedMapper.toResponseList(feedList, email);
+        return feedLikeBufferService.applyPendingLikes(responses, email);
     }
 
     @Transactional(readOnly = true)
     public List<Response> findAllByTagName(Long lastFeedId, String tagName, String email) {
         List<Feed> feedList = feedRepository.findAllByTagName(lastFeedId, tagName, email);
+        List<Response> responses = this.toResponseList(feedList, email);
 
-        return feedMapper.toResponseList(feedList, email);
+        return feedLikeBufferService.applyPendingLikes(responses, email);
     }
 
+    // 존재하지 않는 피드나 작성자가 아닌 요청은 이미지를 업로드하기 전에 거절
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Response updateFeed(String email, long feedId, FeedDto.Patch patchDto, List<MultipartFile> multipartFiles) {
-        Feed saveFeed = this.findFeed(feedId);
-        this.checkWriter(email, saveFeed.getMember().getEmail());
-        FeedDto.InternalPatch internalPatchDto = feedMapper.toInternalDto(patchDto);
-        saveFeed.updateFeedData(internalPatchDto);
-        this.addTags(internalPatchDto.getTags(), saveFeed);
-        this.uploadFeedImages(multipartFiles, saveFeed);
-        this.removeFeedImages(internalPatchDto.getRemoveImageUrls(), saveFeed);
+        this.checkWriter(email, this.findWriterEmail(feedId));
+        List<UploadedImage> uploadedImages = fileUploadService.uploadAll(multipartFiles, FEEDIMAGE);
+        List<String> addedImageUrls = this.getAllUrls(uploadedImages);
+        try {
+            return this.executeWithLockRetry(status -> {
+                Feed saveFeed = this.findFeed(feedId);
+                FeedDto.InternalPatch internalPatchDto = feedMapper.toInternalDto(patchDto);
+                saveFeed.updateFeedData(internalPatchDto);
+                this.addTags(internalPatchDto.getTags(), saveFeed);
+                this.addFeedImages(uploadedImages, saveFeed);
+                this.removeFeedImages(internalPatchDto.getRemoveImageUrls(), saveFeed);
+                feedTimelineCacheService.evictFeed(feedId);
+
+                Response response = this.toResponse(saveFeed, email);
 
-        return feedMapper.toResponse(saveFeed, email);
+                return feedLikeBufferService.applyPendingLikes(response, email);
+            });
+        } catch (RuntimeException e) {
+            addedImageUrls.forEach(fileUploadService::remove);
+            throw e;
+        }
     }
 
     public void deleteFeed(String email, long feedId) {
         Feed saveFeed = this.findFeed(feedId);
         String writerEmail = saveFeed.getMember().getEmail();
         this.checkWriter(email, writerEmail);
-        List<String> currentImageUrls = saveFeed.getImageUrls();
+        List<String> currentImageUrls = saveFeed.getAllImageUrls();
+        tagService.decreaseUsageCounts(saveFeed.getTags());
+        feedLikeRepository.deleteAllByFeedId(feedId);
         feedRepository.deleteById(feedId);
+        feedTimelineCacheService.removeFeed(feedId);
         currentImageUrls.forEach(fileUploadService::remove);
     }
-    // TODO: Redis 캐시 사용 고려
 
     @Override
     public ResponseBody doLike(String email, long feedId) {
-        Feed feed = this.findFeed(feedId);
-        if (!feed.isLikedByMember(email)) {
-            feed.addLike(memberService.findMember(email));
-        } else {
-            log.debug("FeedService.doLike exception occur email : {}, feedId : {}", email, feedId);
-            throw new BusinessLogicException(ExceptionCode.ALREADY_LIKED_FEED);
-        }
-        return ResponseBody.SUCCESS_FEED_LIKE;
+        this.findFeed(feedId);
+
+        return feedLikeBufferService.doLike(email, feedId);
     }
-    // TODO: Redis 캐시 사용 고려
 
     @Override
     public ResponseBody cancelLike(String email, long feedId) {
-        Feed feed = this.findFeed(feedId);
-        if (feed.isLikedByMember(email)) {
-            feed.removeLike(email);
-        } else {
-            log.debug("FeedService.cancelLike exception occur email : {}, feedId : {}", email, feedId);
-            throw new BusinessLogicException(ExceptionCode.UNABLE_TO_CANCEL_LIKE);
+        this.findFeed(feedId);
+
+        return feedLikeBufferService.cancelLike(email, feedId);
+    }
+
+    // 겹치는 태그를 동시에 저장하다 데드락이나 잠금 대기 시간 초과로 트랜잭션이 롤백되면 트랜잭션 전체를 다시 실행
+    private <T> T executeWithLockRetry(TransactionCallback<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(action);
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= LOCK_FAILURE_MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("FeedService.executeWithLockRetry retry attempt : {}, message : {}", attempt, e.getMessage());
+            }
         }
-        return ResponseBody.SUCCESS_CANCEL_FEED_LIKE;
     }
 
     private void checkWriter(String email, String writerEmail) {
@@ -151,24 +202,42 @@ public class FeedService implements LikeService {
                 });
     }
 
+    private String findWriterEmail(Long feedId) {
+        return feedRepository.findWriterEmailById(feedId)
+                .orElseThrow(() -> {
+                    log.debug("FeedService.findWriterEmail exception occur feedId : {}", feedId);
+                    throw new BusinessLogicException(ExceptionCode.FEED_NOT_FOUND);
+                });
+    }
+
+    private Response toResponse(Feed feed, String email) {
+        FeedViewerRelation relation = feedViewerRelationService.findRelation(List.of(feed), email);
+
+        return feedMapper.toResponse(feed, email, relation.isLiked(feed.getId()),
+                relation.isFollowing(feed.getMember().getEmail()));
+    }
+
+    private List<Response> toResponseList(List<Feed> feedList, String email) {
+        return feedMapper.toResponseList(feedList, email, feedViewerRelationService.findRelation(feedList, email));
+    }
+
     private void addTags(List<String> tags, Feed saveFeed) {
         if (tags != null) {
             Set<Tag> saveTags = tagService.findOrCreateTagsByName(tags);
-            saveFeed.addTags(saveTags);
+            Set<Tag> addedTags = saveFeed.addTags(saveTags);
+            tagService.increaseUsageCounts(addedTags);
         }
     }
 
-    private List<String> uploadFeedImages(List<MultipartFile> multipartFiles, Feed saveFeed) {
-        List<String> addedImageUrls = new ArrayList<>();
-        if (multipartFiles != null) {
-            multipartFiles.forEach(multipartFile -> {
-                String imageUrl = fileUploadService.upload(multipartFile, FEEDIMAGE);
-                saveFeed.addImageUrl(imageUrl);
-                addedImageUrls.add(imageUrl);
-            });
-        }
+    private void addFeedImages(List<UploadedImage> uploadedImages, Feed feed) {
+        uploadedImages.forEach(uploadedImage ->
+                feed.addImage(uploadedImage.getOriginalUrl(), uploadedImage.getVariantUrls()));
+    }
 
-        return addedImageUrls;
+    private List<String> getAllUrls(List<UploadedImage> uploadedImages) {
+        return uploadedImages.stream()
+                .flatMap(uploadedImage -> uploadedImage.getAllUrls().stream())
+                .collect(Collectors.toList());
     }
 
     private void removeFeedImages(List<String> removeImageUrls, Feed feed) {
@@ -182,7 +251,7 @@ public class FeedService implements LikeService {
             }
             for (String imageUrl : removeImageUrls) {
                 fileUploadService.remove(imageUrl);
-                feed.removeImageUrl(imageUrl);
+                feed.removeImage(imageUrl).forEach(fileUploadService::remove);
             }
         }
     }
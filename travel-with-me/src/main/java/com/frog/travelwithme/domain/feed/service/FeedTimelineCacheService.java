@@ -0,0 +1,273 @@
+package com.frog.travelwithme.domain.feed.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frog.travelwithme.domain.feed.controller.dto.FeedDto.Response;
+import com.frog.travelwithme.domain.feed.entity.Feed;
+import com.frog.travelwithme.domain.feed.entity.Tag;
+import com.frog.travelwithme.domain.feed.repository.FeedRepository;
+import com.frog.travelwithme.domain.feed.service.dto.FeedViewerRelation;
+import com.frog.travelwithme.domain.member.entity.Member;
+import com.frog.travelwithme.domain.member.repository.MemberRepository;
+import com.frog.travelwithme.global.enums.EnumCollection.ImageVariant;
+import com.frog.travelwithme.global.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * FeedTimelineCacheService 설명: 홈 타임라인(GET /feeds) Redis 캐시
+ * - 최신 피드 id를 sorted set(score = id)에, 피드별 응답 필드를 hash에 저장
+ * - 좋아요 여부, 작성자 여부, 팔로우 여부는 캐시에 저장하지 않고 조회 시점에 요청자 기준으로 덮어씀
+ * - 작성자 닉네임, 프로필 이미지는 회원 정보 변경이 바로 반영되도록 캐시하지 않고 조회 시점에 작성자 email로 한 번에 조회
+ * - 캐시 쓰기는 트랜잭션 커밋 이후에만 반영
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/10
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedTimelineCacheService {
+
+    private static final String TIMELINE_KEY = "FeedTimeline";
+    // sorted set에 floor 이상의 id를 가진 피드는 모두 존재, 0이면 전체 피드가 캐시되어 있음
+    private static final String TIMELINE_FLOOR_KEY = "FeedTimelineFloor";
+    private static final String FEED_HASH_PREFIX = "FeedTimeline:";
+    private static final long COMPLETE_FLOOR = 0L;
+    private static final int TIMELINE_SIZE = 500;
+    private static final int PAGE_SIZE = 20;
+    private static final Duration TIMELINE_FLOOR_DURATION = Duration.ofHours(1);
+    private static final Duration FEED_HASH_DURATION = Duration.ofMinutes(10);
+    private static final TypeReference<List<String>> STRING_LIST_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<Map<String, Map<ImageVariant, String>>> IMAGE_VARIANT_URLS_TYPE =
+            new TypeReference<>() {
+            };
+
+    private final RedisService redisService;
+    private final FeedRepository feedRepository;
+    private final FeedViewerRelationService feedViewerRelationService;
+    private final MemberRepository memberRepository;
+    private final ObjectMapper objectMapper;
+
+    public Optional<List<Response>> findTimeline(Long lastFeedId, String email) {
+        try {
+            String floor = redisService.getValues(TIMELINE_FLOOR_KEY);
+            if (!redisService.checkExistsValue(floor)) {
+                this.warmUp();
+                return Optional.empty();
+            }
+
+            double maxFeedId = lastFeedId == null ? Double.POSITIVE_INFINITY : lastFeedId - 1;
+            List<Long> feedIds = redisService.getZSetReverseRangeByScore(TIMELINE_KEY, maxFeedId, PAGE_SIZE)
+                    .stream()
+                    .map(Long::valueOf)
+                    .collect(Collectors.toList());
+            if (feedIds.size() < PAGE_SIZE && Long.parseLong(floor) != COMPLETE_FLOOR) {
+                return Optional.empty();
+            }
+
+            return this.findResponses(feedIds, email);
+        } catch (DataAccessException e) {
+            log.warn("FeedTimelineCacheService.findTimeline redis exception occur lastFeedId : {}", lastFeedId, e);
+            return Optional.empty();
+        }
+    }
+
+    public void addFeed(Feed feed) {
+        Map<String, String> feedHash = this.toFeedHash(feed);
+        long feedId = feed.getId();
+        this.afterCommit(() -> {
+            redisService.setHashOps(FEED_HASH_PREFIX + feedId, feedHash, FEED_HASH_DURATION);
+            String floor = redisService.getValues(TIMELINE_FLOOR_KEY);
+            if (!redisService.checkExistsValue(floor)) {
+                return;
+            }
+            redisService.addZSetValue(TIMELINE_KEY, String.valueOf(feedId), feedId);
+            if (redisService.getZSetSize(TIMELINE_KEY) > TIMELINE_SIZE) {
+                redisService.trimZSet(TIMELINE_KEY, TIMELINE_SIZE);
+                redisService.getZSetMinScore(TIMELINE_KEY).ifPresent(minFeedId ->
+                        redisService.setValues(TIMELINE_FLOOR_KEY,
+                                String.valueOf(minFeedId.longValue()), TIMELINE_FLOOR_DURATION));
+            }
+        });
+    }
+
+    public void evictFeed(long feedId) {
+        this.afterCommit(() -> redisService.deleteValues(FEED_HASH_PREFIX + feedId));
+    }
+
+    public void removeFeed(long feedId) {
+        this.afterCommit(() -> {
+            redisService.removeZSetValue(TIMELINE_KEY, String.valueOf(feedId));
+            redisService.deleteValues(FEED_HASH_PREFIX + feedId);
+        });
+    }
+
+    private void warmUp() {
+        List<Long> recentFeedIds = feedRepository.findRecentFeedIds(TIMELINE_SIZE);
+        long floor = recentFeedIds.size() < TIMELINE_SIZE
+                ? COMPLETE_FLOOR : recentFeedIds.get(recentFeedIds.size() - 1);
+        Map<String, Double> timeline = recentFeedIds.stream()
+                .collect(Collectors.toMap(String::valueOf, Long::doubleValue));
+        this.afterCommit(() -> {
+            redisService.deleteValues(TIMELINE_KEY);
+            if (!timeline.isEmpty()) {
+                redisService.addZSetValues(TIMELINE_KEY, timeline);
+            }
+            redisService.setValues(TIMELINE_FLOOR_KEY, String.valueOf(floor), TIMELINE_FLOOR_DURATION);
+        });
+    }
+
+    private Optional<List<Response>> findResponses(List<Long> feedIds, String email) {
+        List<Map<Object, Object>> feedHashes = redisService.getHashOpsEntries(
+                feedIds.stream().map(feedId -> FEED_HASH_PREFIX + feedId).collect(Collectors.toList()));
+        Map<Long, Map<Object, Object>> feedHashById = new HashMap<>();
+        List<Long> missedFeedIds = new ArrayList<>();
+        for (int i = 0; i < feedIds.size(); i++) {
+            if (feedHashes.get(i).isEmpty()) {
+                missedFeedIds.add(feedIds.get(i));
+            } else {
+                feedHashById.put(feedIds.get(i), feedHashes.get(i));
+            }
+        }
+
+        if (!missedFeedIds.isEmpty()) {
+            List<Feed> missedFeeds = feedRepository.findAllByIdIn(missedFeedIds);
+            if (missedFeeds.size() != missedFeedIds.size()) {
+                // 캐시에는 있지만 삭제된 피드가 섞여 있으면 sorted set을 정리하고 DB에서 조회
+                Set<Long> existFeedIds = missedFeeds.stream().map(Feed::getId).collect(Collectors.toSet());
+                missedFeedIds.stream()
+                        .filter(feedId -> !existFeedIds.contains(feedId))
+                        .forEach(this::removeFeed);
+                return Optional.empty();
+            }
+            for (Feed missedFeed : missedFeeds) {
+                Map<String, String> feedHash = this.toFeedHash(missedFeed);
+                feedHashById.put(missedFeed.getId(), new HashMap<>(feedHash));
+                this.afterCommit(() -> redisService.setHashOps(
+                        FEED_HASH_PREFIX + missedFeed.getId(), feedHash, FEED_HASH_DURATION));
+            }
+        }
+
+        Set<String> writerEmails = feedHashById.values().stream()
+                .map(feedHash -> (String) feedHash.get("writerEmail"))
+                .collect(Collectors.toSet());
+        Map<String, Member> writerByEmail = memberRepository.findAllByEmailIn(writerEmails).stream()
+                .collect(Collectors.toMap(Member::getEmail, Function.identity()));
+        if (writerByEmail.size() != writerEmails.size()) {
+            // 작성자를 찾을 수 없는 피드가 섞여 있으면 DB에서 조회
+            return Optional.empty();
+        }
+        FeedViewerRelation relation = feedViewerRelationService.findRelation(feedIds, writerEmails, email);
+
+        return Optional.of(feedIds.stream()
+                .map(feedId -> {
+                    Map<Object, Object> feedHash = feedHashById.get(feedId);
+                    Member writer = writerByEmail.get((String) feedHash.get("writerEmail"));
+                    return this.toResponse(feedHash, writer, relation, email);
+                })
+                .collect(Collectors.toList()));
+    }
+
+    private Map<String, String> toFeedHash(Feed feed) {
+        Map<String, String> feedHash = new HashMap<>();
+        feedHash.put("id", String.valueOf(feed.getId()));
+        feedHash.put("writerEmail", feed.getMember().getEmail());
+        feedHash.put("likeCount", String.valueOf(feed.getLikeCount()));
+        feedHash.put("commentCount", String.valueOf(feed.getCommentCount()));
+        feedHash.put("tags", this.writeList(feed.getTags().stream().map(Tag::getName).collect(Collectors.toList())));
+        feedHash.put("imageUrls", this.writeList(feed.getImageUrls()));
+        feedHash.put("imageVariantUrls", this.writeValue(
+                feed.getImageVariantUrls() == null ? Collections.emptyMap() : feed.getImageVariantUrls()));
+        Optional.ofNullable(feed.getContents()).ifPresent(contents -> feedHash.put("contents", contents));
+        Optional.ofNullable(feed.getLocation()).ifPresent(location -> feedHash.put("location", location));
+        Optional.ofNullable(feed.getCreatedAt())
+                .ifPresent(createdAt -> feedHash.put("createdAt", createdAt.toString()));
+
+        return feedHash;
+    }
+
+    private Response toResponse(Map<Object, Object> feedHash, Member writer, FeedViewerRelation relation,
+                                String email) {
+        Long feedId = Long.valueOf((String) feedHash.get("id"));
+        String writerEmail = (String) feedHash.get("writerEmail");
+        String createdAt = (String) feedHash.get("createdAt");
+        String imageVariantUrls = (String) feedHash.get("imageVariantUrls");
+
+        return Response.builder()
+                .id(feedId)
+                .nickname(writer.getNickname())
+                .profileImage(writer.getImage())
+                .contents((String) feedHash.get("contents"))
+                .location((String) feedHash.get("location"))
+                .likeCount(Long.parseLong((String) feedHash.get("likeCount")))
+                .commentCount(Long.parseLong((String) feedHash.get("commentCount")))
+                .writer(writerEmail.equals(email))
+                .liked(relation.isLiked(feedId))
+                .following(relation.isFollowing(writerEmail))
+                .createdAt(createdAt == null ? null : LocalDateTime.parse(createdAt))
+                .tags(this.readList((String) feedHash.get("tags")))
+                .imageUrls(this.readList((String) feedHash.get("imageUrls")))
+                .imageVariantUrls(imageVariantUrls == null
+                        ? Collections.emptyMap() : this.readValue(imageVariantUrls, IMAGE_VARIANT_URLS_TYPE))
+                .build();
+    }
+
+    private String writeList(List<String> values) {
+        return this.writeValue(values == null ? Collections.emptyList() : values);
+    }
+
+    private List<String> readList(String json) {
+        return this.readValue(json, STRING_LIST_TYPE);
+    }
+
+    private String writeValue(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T readValue(String json, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 롤백된 트랜잭션의 데이터가 캐시에 남지 않도록 커밋 이후 실행, 캐시 실패는 요청을 실패시키지 않음
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runQuietly(task);
+                }
+            });
+        } else {
+            this.runQuietly(task);
+        }
+    }
+
+    private void runQuietly(Runnable task) {
+        try {
+            task.run();
+        } catch (DataAccessException e) {
+            log.warn("FeedTimelineCacheService redis exception occur", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.frog.travelwithme.domain.feed.service;
+
+import com.frog.travelwithme.domain.feed.entity.Feed;
+import com.frog.travelwithme.domain.feed.repository.FeedLikeRepository;
+import com.frog.travelwithme.domain.feed.service.dto.FeedViewerRelation;
+import com.frog.travelwithme.domain.member.repository.FollowRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * FeedViewerRelationService 설명: 피드 목록의 요청자 기준 좋아요, 작성자 팔로우 여부를 일괄 조회
+ * - 피드 수와 관계없이 좋아요 id 집합, 팔로우 email 집합 두 번의 쿼리로 조회
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/05
+ **/
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class FeedViewerRelationService {
+
+    private final FeedLikeRepository feedLikeRepository;
+    private final FollowRepository followRepository;
+
+    public FeedViewerRelation findRelation(List<Feed> feedList, String email) {
+        List<Long> feedIds = feedList.stream()
+                .map(Feed::getId)
+                .collect(Collectors.toList());
+        Set<String> writerEmails = feedList.stream()
+                .map(feed -> feed.getMember().getEmail())
+                .collect(Collectors.toSet());
+
+        return this.findRelation(feedIds, writerEmails, email);
+    }
+
+    public FeedViewerRelation findRelation(List<Long> feedIds, Collection<String> writerEmails, String email) {
+        if (email == null || feedIds.isEmpty()) {
+            return FeedViewerRelation.empty();
+        }
+        Set<String> otherWriterEmails = writerEmails.stream()
+                .filter(writerEmail -> !writerEmail.equals(email))
+                .collect(Collectors.toSet());
+
+        return FeedViewerRelation.builder()
+                .likedFeedIds(new HashSet<>(feedLikeRepository.findLikedFeedIds(feedIds, email)))
+                .followingWriterEmails(new HashSet<>(followRepository.findFollowingEmails(email, otherWriterEmails)))
+                .build();
+    }
+}
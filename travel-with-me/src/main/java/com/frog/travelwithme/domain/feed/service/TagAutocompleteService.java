@@ -0,0 +1,142 @@
+package com.frog.travelwithme.domain.feed.service;
+
+import com.frog.travelwithme.domain.feed.controller.dto.TagDto;
+import com.frog.travelwithme.domain.feed.repository.TagRepository;
+import com.frog.travelwithme.global.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * TagAutocompleteService 설명: 태그 자동완성 Redis 접두사 인덱스
+ * - 태그 이름의 접두사(최대 10자)마다 sorted set(score = 사용 횟수)을 두어 접두사 조회를 순위 조회 한 번으로 처리
+ * - 사용 횟수 변경은 트랜잭션 커밋 이후 반영, 서버 시작 시 DB 기준으로 재구성
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/18
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TagAutocompleteService {
+
+    private static final String PREFIX_KEY_PREFIX = "TagPrefix:";
+    private static final String READY_KEY = "TagAutocompleteReady";
+    private static final int MAX_PREFIX_LENGTH = 10;
+    // 최대 길이보다 긴 검색어는 최대 길이 접두사의 상위 후보 중에서 걸러냄
+    private static final int LONG_PREFIX_CANDIDATE_SIZE = 200;
+
+    private final RedisService redisService;
+    private final TagRepository tagRepository;
+
+    public Optional<List<TagDto.Response>> findTagsStartWith(String tagName, int size) {
+        if (tagName == null || tagName.isEmpty() || size <= 0) {
+            return Optional.empty();
+        }
+        try {
+            if (!redisService.checkExistsValue(redisService.getValues(READY_KEY))) {
+                return Optional.empty();
+            }
+            boolean longPrefix = tagName.length() > MAX_PREFIX_LENGTH;
+            String key = PREFIX_KEY_PREFIX + tagName.substring(0, Math.min(tagName.length(), MAX_PREFIX_LENGTH));
+            Map<String, Double> usageCounts = redisService.getZSetReverseRangeWithScores(
+                    key, 0, (longPrefix ? LONG_PREFIX_CANDIDATE_SIZE : size) - 1);
+            List<TagDto.Response> responses = usageCounts.entrySet().stream()
+                    .filter(entry -> !longPrefix || entry.getKey().startsWith(tagName))
+                    .limit(size)
+                    .map(entry -> new TagDto.Response(entry.getKey(), entry.getValue().longValue()))
+                    .collect(Collectors.toList());
+
+            return responses.isEmpty() ? Optional.empty() : Optional.of(responses);
+        } catch (DataAccessException e) {
+            log.warn("TagAutocompleteService.findTagsStartWith redis exception occur tagName : {}", tagName, e);
+            return Optional.empty();
+        }
+    }
+
+    public void changeUsageCounts(Collection<String> tagNames, long delta) {
+        if (tagNames.isEmpty() || delta == 0) {
+            return;
+        }
+        List<String> changedTagNames = new ArrayList<>(tagNames);
+        Runnable task = () -> this.incrementUsageCounts(changedTagNames, delta);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            List<TagDto.Response> usageCounts = tagRepository.findAllUsageCounts();
+            redisService.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    for (TagDto.Response usageCount : usageCounts) {
+                        for (String prefixKey : getPrefixKeys(usageCount.getName())) {
+                            if (usageCount.getCount() > 0) {
+                                operations.opsForZSet().add(prefixKey, usageCount.getName(), usageCount.getCount());
+                            } else {
+                                operations.opsForZSet().remove(prefixKey, usageCount.getName());
+                            }
+                        }
+                    }
+                    return null;
+                }
+            });
+            redisService.setValues(READY_KEY, "true");
+            log.info("TagAutocompleteService.rebuild tagCount : {}", usageCounts.size());
+        } catch (DataAccessException e) {
+            log.warn("TagAutocompleteService.rebuild exception occur", e);
+        }
+    }
+
+    private void incrementUsageCounts(List<String> tagNames, long delta) {
+        try {
+            redisService.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    for (String tagName : tagNames) {
+                        for (String prefixKey : getPrefixKeys(tagName)) {
+                            operations.opsForZSet().incrementScore(prefixKey, tagName, delta);
+                            if (delta < 0) {
+                                operations.opsForZSet().removeRangeByScore(prefixKey, Double.NEGATIVE_INFINITY, 0);
+                            }
+                        }
+                    }
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("TagAutocompleteService.incrementUsageCounts redis exception occur tagNames : {}", tagNames, e);
+        }
+    }
+
+    private List<String> getPrefixKeys(String tagName) {
+        List<String> prefixKeys = new ArrayList<>();
+        for (int length = 1; length <= Math.min(tagName.length(), MAX_PREFIX_LENGTH); length++) {
+            prefixKeys.add(PREFIX_KEY_PREFIX + tagName.substring(0, length));
+        }
+
+        return prefixKeys;
+    }
+}
@@ -7,10 +7,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.LinkedHashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -19,27 +19,102 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TagService {
 
+    private static final int TAG_ID_CACHE_SIZE = 10_000;
+
     private final TagRepository tagRepository;
+    private final TagAutocompleteService tagAutocompleteService;
+
+    // 태그 이름 -> id LRU 캐시, 태그는 이름 변경/삭제가 없으므로 커밋된 태그만 저장
+    private final Map<String, Long> tagIdCache = Collections.synchronizedMap(
+            new LinkedHashMap<String, Long>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                    return size() > TAG_ID_CACHE_SIZE;
+                }
+            });
 
     @Transactional(readOnly = true)
     public List<TagDto.Response> findTagsStartWith(String tagName, int size) {
-        return tagRepository.findTagsStartWith(tagName, size);
+        return tagAutocompleteService.findTagsStartWith(tagName, size)
+                .orElseGet(() -> tagRepository.findTagsStartWith(tagName, size));
+    }
+
+    public void increaseUsageCounts(Set<Tag> tags) {
+        this.changeUsageCounts(tags, 1);
+    }
+
+    public void decreaseUsageCounts(Set<Tag> tags) {
+        this.changeUsageCounts(tags, -1);
     }
 
     public Set<Tag> findOrCreateTagsByName(List<String> tagNames) {
-        return tagNames.stream()
-                .map(this::findOrCreateTag)
+        List<String> distinctTagNames = tagNames.stream()
+                .distinct()
+                .collect(Collectors.toList());
+        Map<String, Tag> tagByName = new HashMap<>();
+        List<String> missedTagNames = new ArrayList<>();
+        for (String tagName : distinctTagNames) {
+            Long tagId = tagIdCache.get(tagName);
+            if (tagId != null) {
+                tagByName.put(tagName, Tag.reference(tagId, tagName));
+            } else {
+                missedTagNames.add(tagName);
+            }
+        }
+
+        if (!missedTagNames.isEmpty()) {
+            List<Tag> missedTags = new ArrayList<>(tagRepository.findAllByNameIn(missedTagNames));
+            missedTags.forEach(tag -> tagByName.put(tag.getName(), tag));
+            List<String> createTagNames = missedTagNames.stream()
+                    .filter(tagName -> !tagByName.containsKey(tagName))
+                    .collect(Collectors.toList());
+            if (!createTagNames.isEmpty()) {
+                List<Tag> createdTags = this.createTags(createTagNames);
+                createdTags.forEach(tag -> tagByName.put(tag.getName(), tag));
+                missedTags.addAll(createdTags);
+            }
+            this.cacheTagIds(missedTags);
+        }
+
+        return distinctTagNames.stream()
+                .map(tagByName::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
-    private Tag findOrCreateTag(String tagName) {
-        return tagRepository.findByName(tagName)
-                .orElseGet(() -> this.createTag(tagName)
-        );
+    private void changeUsageCounts(Set<Tag> tags, long delta) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        tagRepository.increaseUsageCounts(
+                tags.stream().map(Tag::getId).collect(Collectors.toList()), delta);
+        tagAutocompleteService.changeUsageCounts(
+                tags.stream().map(Tag::getName).collect(Collectors.toList()), delta);
+    }
+
+    // 겹치는 태그를 다른 순서로 저장하는 트랜잭션끼리 유니크 인덱스 잠금을 엇갈려 잡지 않도록 이름 순으로 저장
+    private List<Tag> createTags(List<String> tagNames) {
+        List<String> sortedTagNames = tagNames.stream()
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+        tagRepository.insertIgnoringDuplicates(sortedTagNames);
+        return tagRepository.findAllByNameInForShare(sortedTagNames);
     }
 
-    private Tag createTag(String tagNae) {
-        Tag tag = Tag.builder().name(tagNae).build();
-        return tagRepository.save(tag);
+    // 롤백된 트랜잭션의 태그 id가 캐시에 남지 않도록 커밋 이후 저장
+    private void cacheTagIds(List<Tag> tags) {
+        Map<String, Long> tagIds = tags.stream()
+                .collect(Collectors.toMap(Tag::getName, Tag::getId, (first, second) -> first));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tagIdCache.putAll(tagIds);
+                }
+            });
+        } else {
+            tagIdCache.putAll(tagIds);
+        }
     }
 }
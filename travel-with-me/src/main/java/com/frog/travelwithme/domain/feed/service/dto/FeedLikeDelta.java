@@ -0,0 +1,31 @@
+package com.frog.travelwithme.domain.feed.service.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * FeedLikeDelta 설명: Redis에 쌓인 피드 한 건의 미반영 좋아요 변경분
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/15
+ **/
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FeedLikeDelta {
+
+    private Long feedId;
+    private long delta;
+    private Set<String> addedEmails;
+    private Set<String> removedEmails;
+
+    public boolean isEmpty() {
+        return delta == 0 && addedEmails.isEmpty() && removedEmails.isEmpty();
+    }
+}
@@ -0,0 +1,38 @@
+package com.frog.travelwithme.domain.feed.service.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * FeedViewerRelation 설명: 피드 목록 한 페이지에 대한 요청자 기준 좋아요, 작성자 팔로우 여부
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/05
+ **/
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FeedViewerRelation {
+
+    private Set<Long> likedFeedIds;
+    private Set<String> followingWriterEmails;
+
+    public static FeedViewerRelation empty() {
+        return new FeedViewerRelation(Collections.emptySet(), Collections.emptySet());
+    }
+
+    public boolean isLiked(Long feedId) {
+        return likedFeedIds.contains(feedId);
+    }
+
+    public boolean isFollowing(String writerEmail) {
+        return followingWriterEmails.contains(writerEmail);
+    }
+}
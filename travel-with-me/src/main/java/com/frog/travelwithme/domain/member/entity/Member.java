@@ -1,7 +1,6 @@
 package com.frog.travelwithme.domain.member.entity;
 
 import com.frog.travelwithme.domain.common.BaseTimeEntity;
-import com.frog.travelwithme.domain.feed.entity.Feed;
 import com.frog.travelwithme.domain.member.controller.dto.MemberDto;
 import com.frog.travelwithme.global.enums.EnumCollection.Gender;
 import com.frog.travelwithme.global.enums.EnumCollection.Nation;
@@ -71,9 +70,6 @@ public class Member extends BaseTimeEntity {
     @Column(nullable = false)
     private OAuthStatus oauthstatus;
 
-    @ManyToMany(mappedBy = "likedMembers")
-    private List<Feed> likedFeeds = new ArrayList<>();
-
     @ManyToMany
     @JoinTable(name = "member_interest",
             joinColumns = @JoinColumn(name = "member_id"),
@@ -0,0 +1,13 @@
+package com.frog.travelwithme.domain.member.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/05
+ **/
+public interface FollowCustomRepository {
+    List<String> findFollowingEmails(String followerEmail, Collection<String> followingEmails);
+}
@@ -0,0 +1,43 @@
+package com.frog.travelwithme.domain.member.repository;
+
+import com.frog.travelwithme.domain.member.entity.QMember;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static com.frog.travelwithme.domain.member.entity.QFollow.follow;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/05
+ **/
+@Repository
+@RequiredArgsConstructor
+public class FollowCustomRepositoryImpl implements FollowCustomRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    // 회원 목록 중 요청자가 팔로우한 회원 email을 한 번의 쿼리로 조회
+    @Override
+    public List<String> findFollowingEmails(String followerEmail, Collection<String> followingEmails) {
+        if (followerEmail == null || followingEmails.isEmpty()) {
+            return Collections.emptyList();
+        }
+        QMember follower = new QMember("follower");
+        QMember following = new QMember("following");
+
+        return jpaQueryFactory
+                .select(following.email)
+                .from(follow)
+                .join(follow.follower, follower)
+                .join(follow.following, following)
+                .where(follower.email.eq(followerEmail))
+                .where(following.email.in(followingEmails))
+                .fetch();
+    }
+}
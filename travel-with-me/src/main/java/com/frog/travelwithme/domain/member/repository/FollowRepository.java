@@ -11,6 +11,6 @@ import java.util.Optional;
  * 버전 정보: 1.0.0
  * 작성일자: 2023/06/02
  **/
-public interface FollowRepository extends JpaRepository<Follow, Long> {
+public interface FollowRepository extends JpaRepository<Follow, Long>, FollowCustomRepository {
     Optional<Follow> findByFollowerIdAndFollowingId(Long followerId, Long followingId);
 }
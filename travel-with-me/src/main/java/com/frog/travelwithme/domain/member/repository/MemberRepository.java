@@ -3,6 +3,8 @@ package com.frog.travelwithme.domain.member.repository;
 import com.frog.travelwithme.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,6 +15,8 @@ import java.util.Optional;
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
 
+    List<Member> findAllByEmailIn(Collection<String> emails);
+
     void deleteByEmail(String email);
 
     Optional<Member> findByNickname(String nickname);
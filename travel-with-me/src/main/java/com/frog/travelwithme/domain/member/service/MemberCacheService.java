@@ -0,0 +1,119 @@
+package com.frog.travelwithme.domain.member.service;
+
+import com.frog.travelwithme.domain.member.service.dto.CachedMember;
+import com.frog.travelwithme.global.redis.RedisCacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * MemberCacheService 설명: email, id로 회원 id를 찾는 Redis 캐시
+ * - email -> id 매핑은 회원이 삭제될 때만 바뀌므로 회원 정보 수정 시에는 삭제하지 않음
+ * - 서버 메모리 캐시를 두지 않아 회원 삭제 시 Redis만 삭제하면 모든 서버에 바로 반영되고, 서버 간 메시지가 필요 없음
+ * - 저장은 트랜잭션 커밋 후에만 수행하여 롤백된 회원이 캐시에 남지 않도록 함
+ * - member.cache: result(hit, miss)별 조회 수
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/13
+ **/
+@Slf4j
+@Component
+public class MemberCacheService {
+
+    private static final String EMAIL_KEY_PREFIX = "MemberCache:email:";
+    private static final String ID_KEY_PREFIX = "MemberCache:id:";
+
+    private final RedisCacheService redisCacheService;
+    private final Duration redisDuration;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public MemberCacheService(RedisCacheService redisCacheService,
+                              MeterRegistry meterRegistry,
+                              @Value("${member.cache.redis-ttl-seconds:1800}") long redisTtlSeconds) {
+        this.redisCacheService = redisCacheService;
+        this.redisDuration = Duration.ofSeconds(redisTtlSeconds);
+        this.hitCounter = this.registerCounter(meterRegistry, "hit");
+        this.missCounter = this.registerCounter(meterRegistry, "miss");
+    }
+
+    public Optional<CachedMember> getByEmail(String email) {
+        return this.get(EMAIL_KEY_PREFIX + email);
+    }
+
+    public Optional<CachedMember> getById(Long id) {
+        return this.get(ID_KEY_PREFIX + id);
+    }
+
+    public void put(CachedMember cachedMember) {
+        this.runAfterCommit(() -> {
+            try {
+                redisCacheService.put(EMAIL_KEY_PREFIX + cachedMember.getEmail(), cachedMember, redisDuration);
+                redisCacheService.put(ID_KEY_PREFIX + cachedMember.getId(), cachedMember, redisDuration);
+            } catch (DataAccessException e) {
+                log.warn("MemberCacheService.put redis exception occur id : {}", cachedMember.getId(), e);
+            }
+        });
+    }
+
+    // 회원 삭제 시 호출, 커밋 전 다른 요청이 삭제 전 회원을 다시 캐시할 수 있으므로 지금 한 번, 커밋 후 한 번 더 삭제
+    public void evict(Long id, String email) {
+        this.evictAll(id, email);
+        this.runAfterCommit(() -> this.evictAll(id, email));
+    }
+
+    private Optional<CachedMember> get(String key) {
+        Optional<CachedMember> cachedMember;
+        try {
+            cachedMember = redisCacheService.get(key, CachedMember.class);
+        } catch (DataAccessException e) {
+            log.warn("MemberCacheService.get redis exception occur key : {}", key, e);
+            cachedMember = Optional.empty();
+        }
+        if (cachedMember.isPresent()) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+        }
+
+        return cachedMember;
+    }
+
+    private void evictAll(Long id, String email) {
+        try {
+            redisCacheService.evict(EMAIL_KEY_PREFIX + email);
+            redisCacheService.evict(ID_KEY_PREFIX + id);
+        } catch (DataAccessException e) {
+            log.warn("MemberCacheService.evictAll redis exception occur id : {}", id, e);
+        }
+    }
+
+    // 트랜잭션 밖에서 호출되면 바로 실행
+    private void runAfterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    private Counter registerCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("member.cache")
+                .description("회원 캐시 조회 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
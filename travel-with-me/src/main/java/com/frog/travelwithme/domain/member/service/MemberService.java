@@ -6,6 +6,7 @@ import com.frog.travelwithme.domain.member.entity.Interest;
 import com.frog.travelwithme.domain.member.entity.Member;
 import com.frog.travelwithme.domain.member.mapper.MemberMapper;
 import com.frog.travelwithme.domain.member.repository.MemberRepository;
+import com.frog.travelwithme.domain.member.service.dto.CachedMember;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ExceptionCode;
 import com.frog.travelwithme.global.file.FileUploadService;
@@ -13,6 +14,7 @@ import com.frog.travelwithme.global.mail.MailService;
 import com.frog.travelwithme.global.redis.RedisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.persistence.EntityNotFoundException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.time.Duration;
@@ -33,6 +36,11 @@ import static com.frog.travelwithme.global.enums.EnumCollection.OAuthStatus.NORM
 import static com.frog.travelwithme.global.security.auth.utils.CustomAuthorityUtils.verifiedRole;
 
 /**
+ * MemberService 설명: 회원 가입, 조회, 수정, 삭제, 팔로우
+ * - findMember는 회원 캐시(email/id -> id)에 있으면 SELECT 없이 프록시를 반환하므로
+ *   연관관계 설정만 하는 호출은 조회가 생략되고, 필드를 읽는 호출은 처음 읽을 때 id로 조회
+ * - 캐시는 회원 필드를 보관하지 않으므로 회원 정보 수정 시 삭제하지 않고, 회원 삭제 시에만 삭제
+ * - 필드를 읽는 조회/수정은 loadMember로 프록시를 바로 초기화하고, 삭제 커밋 직전에 캐시된 회원은 캐시를 지우고 MEMBER_NOT_FOUND
  * 작성자: 김찬빈
  * 버전 정보: 1.0.0
  * 작성일자: 2023/03/29
@@ -61,6 +69,8 @@ public class MemberService {
 
     private final FollowService followService;
 
+    private final MemberCacheService memberCacheService;
+
     @Value("${spring.mail.auth-code-expiration-millis}")
     private long authCodeExpirationMillis;
 
@@ -79,20 +89,20 @@ public class MemberService {
 
     @Transactional(readOnly = true)
     public MemberDto.Response findMemberByEmail(String email) {
-        Member findMember = this.findMember(email);
+        Member findMember = this.loadMember(this.findMember(email));
 
         return memberMapper.toDto(findMember);
     }
 
     @Transactional(readOnly = true)
     public MemberDto.Response findMemberById(Long id) {
-        Member findMember = this.findMember(id);
+        Member findMember = this.loadMember(this.findMember(id));
 
         return memberMapper.toDto(findMember);
     }
 
     public MemberDto.Response updateMember(MemberDto.Patch patchDto, String email) {
-        Member findMember = this.findMember(email);
+        Member findMember = this.loadMember(this.findMember(email));
         findMember.updateMemberData(patchDto);
         List<Interest> newInterests = interestService
                 .findInterests(Optional.ofNullable(patchDto.getInterests()).orElse(Collections.emptyList()));
@@ -101,23 +111,32 @@ public class MemberService {
         return memberMapper.toDto(findMember);
     }
 
+    // 캐시에 있는 회원은 SELECT 없이 프록시를 반환하고, 필드에 접근할 때 id로 조회
     @Transactional(readOnly = true)
     public Member findMember(Long id) {
-        return memberRepository.findById(id)
+        Optional<CachedMember> cachedMember = memberCacheService.getById(id);
+        if (cachedMember.isPresent()) {
+            return memberRepository.getReferenceById(cachedMember.get().getId());
+        }
+        Member findMember = memberRepository.findById(id)
                 .orElseThrow(() -> {
                     log.debug("MemberService.findMemberAndCheckMemberExists exception occur id: {}", id);
                     throw new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND);
                 });
+        memberCacheService.put(CachedMember.from(findMember));
+
+        return findMember;
     }
 
     public void deleteMember(String email) {
-        Member member = this.findMember(email);
+        Member member = this.loadMember(this.findMember(email));
         fileUploadService.remove(member.getImage());
         memberRepository.deleteByEmail(email);
+        memberCacheService.evict(member.getId(), email);
     }
 
     public MemberDto.Response changeProfileImage(@RequestPart MultipartFile file, String email) {
-        Member findMember = this.findMember(email);
+        Member findMember = this.loadMember(this.findMember(email));
         String beforeImageUrl = findMember.getImage();
         String newImageUrl = fileUploadService.upload(file, PROFILEIMAGE);
         findMember.changeImage(newImageUrl);
@@ -126,7 +145,7 @@ public class MemberService {
     }
 
     public MemberDto.Response removeProfileImage(String email) {
-        Member member = this.findMember(email);
+        Member member = this.loadMember(this.findMember(email));
         String currentProfileImageUrl = member.getImage();
         member.changeImage("defaultImageUrl");
         fileUploadService.remove(currentProfileImageUrl);
@@ -136,21 +155,29 @@ public class MemberService {
 
     @Transactional(readOnly = true)
     public Member findMember(String email) {
-        return memberRepository.findByEmail(email)
+        Optional<CachedMember> cachedMember = memberCacheService.getByEmail(email);
+        if (cachedMember.isPresent()) {
+            return memberRepository.getReferenceById(cachedMember.get().getId());
+        }
+        Member findMember = memberRepository.findByEmail(email)
                 .orElseThrow(() -> {
                     log.debug("MemberService.findMemberAndCheckMemberExists exception occur email: {}", email);
                     return new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND);
                 });
+        memberCacheService.put(CachedMember.from(findMember));
+
+        return findMember;
     }
 
     public void sendCodeToEmail(String toEmail) {
         this.checkDuplicatedEmail(toEmail);
         String title = "Travel with me 이메일 인증 번호";
         String authCode = this.createCode();
-        mailService.sendEmail(toEmail, title, authCode);
         // 이메일 인증 요청 시 인증 번호 Redis에 저장 ( key = "AuthCode " + Email / value = AuthCode )
         redisService.setValues(AUTH_CODE_PREFIX + toEmail,
                 authCode, Duration.ofMillis(this.authCodeExpirationMillis));
+        // 메일은 발송 큐에 넣고 바로 반환, 인증 번호가 먼저 저장되어 있어야 메일 도착 직후 검증 가능
+        mailService.sendEmail(toEmail, title, authCode);
     }
 
     public EmailVerificationResult verifiedCode(String email, String authCode) {
@@ -189,6 +216,21 @@ public class MemberService {
         }
     }
 
+    // 캐시에서 얻은 프록시를 초기화, 캐시에만 남아 있고 DB에서 삭제된 회원이면 캐시를 지우고 예외 발생
+    private Member loadMember(Member member) {
+        try {
+            Hibernate.initialize(member);
+        } catch (EntityNotFoundException e) {
+            Long id = member.getId();
+            memberCacheService.getById(id)
+                    .ifPresent(cachedMember -> memberCacheService.evict(cachedMember.getId(), cachedMember.getEmail()));
+            log.debug("MemberService.loadMember exception occur id: {}", id);
+            throw new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND);
+        }
+
+        return member;
+    }
+
     private String createCode() {
         int lenth = 6;
         try {
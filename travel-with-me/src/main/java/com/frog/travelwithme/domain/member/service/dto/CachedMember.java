@@ -0,0 +1,33 @@
+package com.frog.travelwithme.domain.member.service.dto;
+
+import com.frog.travelwithme.domain.member.entity.Member;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * CachedMember 설명: 회원 캐시에 저장하는 email -> id 매핑
+ * - 캐시는 회원 존재 여부와 id만 보관하고, MemberService는 캐시에 있으면 SELECT 없이 엔티티 프록시를 반환
+ * - 프록시의 필드는 처음 접근할 때 id로 조회하므로 닉네임, 이미지 등 필드 값은 캐시하지 않음
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/13
+ **/
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CachedMember {
+
+    private Long id;
+    private String email;
+
+    public static CachedMember from(Member member) {
+        return CachedMember.builder()
+                .id(member.getId())
+                .email(member.getEmail())
+                .build();
+    }
+}
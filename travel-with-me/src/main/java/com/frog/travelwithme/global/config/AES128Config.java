@@ -13,6 +13,7 @@ import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
@@ -21,6 +22,8 @@ import java.util.function.Predicate;
 
 /**
  * AES128Config 설명: AES-128 양방향 암호화
+ * - Cipher는 thread-safe 하지 않으므로 스레드마다 암호화/복호화 Cipher를 한 번만 init 하여 재사용
+ * - doFinal 이후 Cipher는 init 직후 상태로 돌아가므로 요청마다 다시 init 하지 않음
  * 작성자: 김찬빈
  * 버전 정보: 1.0.0
  * 작성일자: 2023/03/28
@@ -30,12 +33,15 @@ import java.util.function.Predicate;
 public class AES128Config {
     private static final Charset ENCODING_TYPE = StandardCharsets.UTF_8;
     private static final String INSTANCE_TYPE = "AES/CBC/PKCS5Padding";
+    private static final Base64.Encoder BASE64_ENCODER = Base64.getEncoder();
+    private static final Base64.Decoder BASE64_DECODER = Base64.getDecoder();
 
     @Value("${aes.secret-key}")
     private String secretKey;   // 16bytes = 128bits
     private IvParameterSpec ivParameterSpec;
     private SecretKeySpec secretKeySpec;
-    private Cipher cipher;
+    private final ThreadLocal<Cipher> encryptCipher = ThreadLocal.withInitial(() -> this.createCipher(Cipher.ENCRYPT_MODE));
+    private final ThreadLocal<Cipher> decryptCipher = ThreadLocal.withInitial(() -> this.createCipher(Cipher.DECRYPT_MODE));
 
     @PostConstruct
     public void init() throws NoSuchPaddingException, NoSuchAlgorithmException {
@@ -45,16 +51,17 @@ public class AES128Config {
         secureRandom.nextBytes(keyBytes);
         secretKeySpec = new SecretKeySpec(keyBytes, "AES");
         ivParameterSpec = new IvParameterSpec(keyBytes);
-        cipher = Cipher.getInstance(INSTANCE_TYPE);
+        // 지원하지 않는 알고리즘이면 첫 요청이 아닌 Bean 생성 시점에 실패하도록 확인
+        Cipher.getInstance(INSTANCE_TYPE);
     }
 
     // AES 암호화
     public String encryptAes(String plaintext) {
         try {
-            cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec, ivParameterSpec);
-            byte[] encryted = cipher.doFinal(plaintext.getBytes(ENCODING_TYPE));
-            return new String(Base64.getEncoder().encode(encryted), ENCODING_TYPE);
+            byte[] encryted = encryptCipher.get().doFinal(plaintext.getBytes(ENCODING_TYPE));
+            return BASE64_ENCODER.encodeToString(encryted);
         } catch (Exception e) {
+            encryptCipher.remove();
             log.debug("decryptAes.encryptAes exception occur plaintext: {}", plaintext);
             throw new BusinessLogicException(ExceptionCode.ENCRYPTION_FAILED);
         }
@@ -63,15 +70,26 @@ public class AES128Config {
     // AES 복호화
     public String decryptAes(String plaintext) {
         try {
-            cipher.init(Cipher.DECRYPT_MODE, secretKeySpec, ivParameterSpec);
-            byte[] decoded = Base64.getDecoder().decode(plaintext.getBytes(ENCODING_TYPE));
-            return new String(cipher.doFinal(decoded), ENCODING_TYPE);
+            byte[] decoded = BASE64_DECODER.decode(plaintext.getBytes(ENCODING_TYPE));
+            return new String(decryptCipher.get().doFinal(decoded), ENCODING_TYPE);
         } catch (Exception e) {
+            // 예외가 발생한 Cipher는 상태를 보장할 수 없으므로 폐기하고 다음 요청에서 새로 생성
+            decryptCipher.remove();
             log.debug("AES128Config.decryptAes exception occur plaintext: {}", plaintext);
             throw new BusinessLogicException(ExceptionCode.DECRYPTION_FAILED);
         }
     }
 
+    private Cipher createCipher(int mode) {
+        try {
+            Cipher cipher = Cipher.getInstance(INSTANCE_TYPE);
+            cipher.init(mode, secretKeySpec, ivParameterSpec);
+            return cipher;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     // SecretKey가 16자리가 맞는지 검증
     public void validation(String secretKey) {
         Optional.ofNullable(secretKey)
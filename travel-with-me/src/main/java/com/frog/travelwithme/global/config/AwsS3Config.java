@@ -5,6 +5,8 @@ import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +21,10 @@ import org.springframework.context.annotation.Profile;
 @Configuration
 @Profile("!test")
 public class AwsS3Config {
+    // 이 크기 이상의 파일은 임시 파일에서 멀티파트로 나누어 업로드
+    public static final long MULTIPART_UPLOAD_THRESHOLD = 16L * 1024 * 1024;
+    private static final long MINIMUM_UPLOAD_PART_SIZE = 8L * 1024 * 1024;
+
     @Value("${cloud.aws.credentials.accessKey}")
     private String accessKey;
 
@@ -38,4 +44,14 @@ public class AwsS3Config {
                 .withRegion(region)
                 .build();
     }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public TransferManager transferManager(AmazonS3 amazonS3) {
+        return TransferManagerBuilder
+                .standard()
+                .withS3Client(amazonS3)
+                .withMultipartUploadThreshold(MULTIPART_UPLOAD_THRESHOLD)
+                .withMinimumUploadPartSize(MINIMUM_UPLOAD_PART_SIZE)
+                .build();
+    }
 }
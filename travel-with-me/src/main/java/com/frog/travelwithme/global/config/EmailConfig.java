@@ -5,11 +5,13 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.Properties;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
- * EmailConfig 설명: 이메일 전송을 위한 JavaMailSender 설정 관리
+ * EmailConfig 설명: 이메일 전송을 위한 JavaMailSender, 메일 발송 스레드 풀 설정 관리
  * 작성자: 김찬빈
  * 버전 정보: 1.0.0
  * 작성일자: 2023/04/21
@@ -47,6 +49,8 @@ public class EmailConfig {
     @Value("${spring.mail.properties.mail.smtp.writetimeout}")
     private int writeTimeout;
 
+    @Value("${mail.dispatch.worker-count:2}")
+    private int dispatchWorkerCount;
 
     @Bean
     public JavaMailSender javaMailSender() {
@@ -61,6 +65,21 @@ public class EmailConfig {
         return mailSender;
     }
 
+    // SMTP 발송은 대기 시간이 길어 요청 스레드와 분리, 큐가 가득 차면 스케줄러 스레드에서 직접 발송
+    @Bean
+    public ThreadPoolTaskExecutor mailSendExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(dispatchWorkerCount);
+        executor.setMaxPoolSize(dispatchWorkerCount);
+        executor.setQueueCapacity(dispatchWorkerCount);
+        executor.setThreadNamePrefix("mail-send-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        return executor;
+    }
+
     private Properties getMailProperties() {
         Properties properties = new Properties();
         properties.put("mail.smtp.auth", auth);
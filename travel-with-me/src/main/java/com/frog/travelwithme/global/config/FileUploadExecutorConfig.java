@@ -0,0 +1,61 @@
+package com.frog.travelwithme.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * FileUploadExecutorConfig 설명: 파일 병렬 업로드, 이미지 리사이즈용 스레드 풀 설정
+ * - 큐가 가득 차면 요청 스레드에서 직접 실행하여 S3 호출 수와 리사이즈 동시 실행 수를 제한
+ * - 리사이즈는 CPU 작업이므로 코어 수만큼만 실행
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/22
+ **/
+@Configuration
+public class FileUploadExecutorConfig {
+
+    @Value("${file.upload.executor.core-pool-size:8}")
+    private int corePoolSize;
+
+    @Value("${file.upload.executor.max-pool-size:16}")
+    private int maxPoolSize;
+
+    @Value("${file.upload.executor.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${file.resize.executor.queue-capacity:50}")
+    private int resizeQueueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor fileUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("file-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor imageResizeExecutor() {
+        int poolSize = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(resizeQueueCapacity);
+        executor.setThreadNamePrefix("image-resize-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        return executor;
+    }
+}
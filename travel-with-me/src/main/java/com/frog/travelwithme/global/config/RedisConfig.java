@@ -1,17 +1,38 @@
 package com.frog.travelwithme.global.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
 
 /**
  * RedisConfig 설명: Redis 연결 설정 및 RedisTemplate 구성
+ * - 일반 명령은 공유 연결 하나로 처리하고, 블로킹/트랜잭션 명령은 커넥션 풀(spring.redis.lettuce.pool.*)에서 빌려 사용
+ * - 명령 타임아웃(spring.redis.timeout), 연결 타임아웃(spring.redis.connect-timeout)을 적용하여 Redis 장애 시 요청 스레드가 무한정 대기하지 않음
+ * - I/O 스레드 수는 redis.io-thread-pool-size로 조정하고, 명령별 지연 시간 히스토그램을 Micrometer로 기록
+ * - 객체 캐시는 문자열 템플릿과 분리된 바이너리 템플릿(binaryRedisTemplate)으로 저장
  * 작성자: 김찬빈
  * 버전 정보: 1.0.0
  * 작성일자: 2023/03/30
@@ -20,12 +41,51 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 @Configuration
 @EnableRedisRepositories
 public class RedisConfig {
+    private static final Duration DEFAULT_COMMAND_TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(3);
+
     private final RedisProperties redisProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${redis.io-thread-pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int ioThreadPoolSize;
+
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources lettuceClientResources() {
+        return DefaultClientResources.builder()
+                .ioThreadPoolSize(ioThreadPoolSize)
+                .computationThreadPoolSize(ioThreadPoolSize)
+                .commandLatencyRecorder(new MicrometerCommandLatencyRecorder(meterRegistry,
+                        MicrometerOptions.builder().histogram(true).build()))
+                .build();
+    }
 
     // RedisProperties로 yaml에 저장한 host, post를 연결
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(redisProperties.getHost(), redisProperties.getPort());
+        RedisStandaloneConfiguration redisConfiguration =
+                new RedisStandaloneConfiguration(redisProperties.getHost(), redisProperties.getPort());
+        if (StringUtils.hasText(redisProperties.getPassword())) {
+            redisConfiguration.setPassword(redisProperties.getPassword());
+        }
+
+        Duration commandTimeout = redisProperties.getTimeout() == null
+                ? DEFAULT_COMMAND_TIMEOUT : redisProperties.getTimeout();
+        Duration connectTimeout = redisProperties.getConnectTimeout() == null
+                ? DEFAULT_CONNECT_TIMEOUT : redisProperties.getConnectTimeout();
+        ClientOptions clientOptions = ClientOptions.builder()
+                .socketOptions(SocketOptions.builder().connectTimeout(connectTimeout).build())
+                .timeoutOptions(TimeoutOptions.enabled(commandTimeout))
+                .build();
+
+        LettucePoolingClientConfiguration clientConfiguration = LettucePoolingClientConfiguration.builder()
+                .poolConfig(this.createPoolConfig())
+                .clientResources(lettuceClientResources())
+                .clientOptions(clientOptions)
+                .commandTimeout(commandTimeout)
+                .build();
+
+        return new LettuceConnectionFactory(redisConfiguration, clientConfiguration);
     }
 
     // serializer 설정으로 redis-cli를 통해 직접 데이터를 조회할 수 있도록 설정
@@ -38,4 +98,39 @@ public class RedisConfig {
 
         return redisTemplate;
     }
+
+    // RedisValueCodec으로 직렬화한 바이트 배열을 그대로 저장, 키는 redis-cli로 조회할 수 있도록 문자열 유지
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate() {
+        RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.setConnectionFactory(redisConnectionFactory());
+
+        return redisTemplate;
+    }
+
+    // pub/sub 메시지 수신용 컨테이너, 각 리스너가 구독할 채널을 직접 등록
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+
+        return container;
+    }
+
+    private GenericObjectPoolConfig<?> createPoolConfig() {
+        GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+        RedisProperties.Pool pool = redisProperties.getLettuce().getPool();
+        if (pool != null) {
+            poolConfig.setMaxTotal(pool.getMaxActive());
+            poolConfig.setMaxIdle(pool.getMaxIdle());
+            poolConfig.setMinIdle(pool.getMinIdle());
+            if (pool.getMaxWait() != null) {
+                poolConfig.setMaxWait(pool.getMaxWait());
+            }
+        }
+
+        return poolConfig;
+    }
 }
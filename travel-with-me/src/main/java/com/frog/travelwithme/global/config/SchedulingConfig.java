@@ -0,0 +1,15 @@
+package com.frog.travelwithme.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * SchedulingConfig 설명: @Scheduled 작업(좋아요 반영, 메일 발송, 모집글 만료 등) 활성화
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/15
+ **/
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+}
@@ -1,7 +1,7 @@
 package com.frog.travelwithme.global.config;
 
-import com.frog.travelwithme.domain.member.service.MemberService;
 import com.frog.travelwithme.global.redis.RedisService;
+import com.frog.travelwithme.global.security.auth.filter.ExcludePathMatcher;
 import com.frog.travelwithme.global.security.auth.filter.JwtAuthenticationFilter;
 import com.frog.travelwithme.global.security.auth.filter.JwtVerificationFilter;
 import com.frog.travelwithme.global.security.auth.handler.CustomAccessDeniedHandler;
@@ -9,8 +9,11 @@ import com.frog.travelwithme.global.security.auth.handler.CustomAuthenticationEn
 import com.frog.travelwithme.global.security.auth.handler.LoginFailurHandler;
 import com.frog.travelwithme.global.security.auth.handler.LoginSuccessHandler;
 import com.frog.travelwithme.global.security.auth.jwt.JwtTokenProvider;
+import com.frog.travelwithme.global.security.auth.service.LogoutTokenStore;
+import com.frog.travelwithme.global.security.auth.trace.AuthRequestTracer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -37,9 +40,14 @@ import static org.springframework.security.config.http.SessionCreationPolicy.STA
 @RequiredArgsConstructor
 public class SecurityConfiguration {
     private final JwtTokenProvider jwtTokenProvider;
-    private final MemberService memberService;
     private final AES128Config aes128Config;
     private final RedisService redisService;
+    private final LogoutTokenStore logoutTokenStore;
+    private final AuthRequestTracer authRequestTracer;
+
+    // 인증에서 제외할 url 패턴, "*"는 한 segment, "**"는 나머지 경로 전체와 일치
+    @Value("${auth.exclude-urls:/,/h2,/members/signup,/auth/login,/auth/reissue,/members/emails/*}")
+    private String[] excludeUrls;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -88,8 +96,9 @@ public class SecurityConfiguration {
             log.info("SecurityConfiguration.CustomFilterConfigurer.configure excute");
             AuthenticationManager authenticationManager = builder.getSharedObject(AuthenticationManager.class);
             JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(authenticationManager,
-                    jwtTokenProvider, aes128Config, memberService, redisService);
-            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenProvider, redisService);
+                    jwtTokenProvider, aes128Config, redisService);
+            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenProvider,
+                    logoutTokenStore, authRequestTracer, ExcludePathMatcher.compile(Arrays.asList(excludeUrls)));
 
             jwtAuthenticationFilter.setFilterProcessesUrl("/auth/login");
             jwtAuthenticationFilter.setAuthenticationSuccessHandler(new LoginSuccessHandler());
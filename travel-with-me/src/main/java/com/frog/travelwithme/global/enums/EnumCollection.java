@@ -139,6 +139,38 @@ public class EnumCollection {
         }
     }
 
+    public enum ImageVariant {
+        THUMBNAIL(320),
+        FEED(1080),
+        ORIGINAL(0);
+
+        @Getter
+        private final int width;
+
+        ImageVariant(int width) {
+            this.width = width;
+        }
+
+        public boolean isResized() {
+            return this != ORIGINAL;
+        }
+    }
+
+    // JwtVerificationFilter 요청 추적 단계, 메트릭 태그와 샘플링 로그에 사용
+    public enum AuthTraceStage {
+        PARSE("parse"),
+        REVOCATION_CHECK("revocation"),
+        VERIFY("verify"),
+        CONTEXT_SET("context");
+
+        @Getter
+        private final String tag;
+
+        AuthTraceStage(String tag) {
+            this.tag = tag;
+        }
+    }
+
     public enum Nation {
         CH,
         FR,
@@ -32,6 +32,9 @@ public enum ExceptionCode {
     MATCHING_CANCEL_NOT_ALLOWED(404, "동행매칭 취소가 불가능한 상태입니다."),
     MATCHING_APPROVE_NOT_ALLOWED(404, "동행매칭 승인이 불가능한 상태입니다."),
     MATCHING_REJECT_NOT_ALLOWED(404, "동행매칭 거절이 불가능한 상태입니다."),
+    CONCURRENT_MODIFICATION(409, "다른 요청이 먼저 변경하였습니다. 다시 시도해주세요."),
+    MATCHING_DUPLICATE_REQUEST(409, "이미 처리된 동행 매칭신청입니다."),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(409, "같은 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."),
     MEMBER_INTEREST_NOT_FOUND(404, "회원 관심사를 찾을 수 없습니다."),
 
     // Feed
@@ -75,6 +78,10 @@ public enum ExceptionCode {
     STRING_IS_NOT_LOCAL_DATE_TIME_FORMAT(404,"문자열 데이터 형식이 LocalDateTime 형식이 아닙니다."),
     UNABLE_TO_CONVERT_LIST_TO_STRING(404, "리스트를 문자열로 변환할 수 없습니다."),
     UNABLE_TO_CONVERT_STRING_TO_LIST(404, "문자열을 리스트로 변환할 수 없습니다."),
+    UNABLE_TO_CONVERT_MAP_TO_STRING(404, "맵을 문자열로 변환할 수 없습니다."),
+    UNABLE_TO_CONVERT_STRING_TO_MAP(404, "문자열을 맵으로 변환할 수 없습니다."),
+    UNABLE_TO_ENCODE_CACHE_VALUE(404, "캐시 데이터를 직렬화할 수 없습니다."),
+    UNABLE_TO_DECODE_CACHE_VALUE(404, "캐시 데이터를 역직렬화할 수 없습니다."),
 
     // File
     FILE_DOES_NOT_EXIST(404, "파일이 존재하지 않습니다."),
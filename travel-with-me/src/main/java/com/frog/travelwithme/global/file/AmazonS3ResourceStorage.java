@@ -1,8 +1,11 @@
 package com.frog.travelwithme.global.file;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
 import com.frog.travelwithme.global.enums.EnumCollection;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ExceptionCode;
@@ -10,25 +13,32 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.UUID;
 
+import static com.frog.travelwithme.global.config.AwsS3Config.MULTIPART_UPLOAD_THRESHOLD;
+import static org.springframework.http.MediaType.IMAGE_JPEG_VALUE;
+
 /**
  * AmazonS3ResourceStorage 설명: S3 파일 업로드 및 삭제 로직 구현
+ * - 크기, 타입 메타데이터를 함께 전달해 SDK가 스트림 전체를 메모리에 버퍼링하지 않도록 함
+ * - 큰 파일은 임시 파일로 옮긴 뒤 TransferManager로 멀티파트 업로드
  * 작성자: 김찬빈
  * 버전 정보: 1.0.0
  * 작성일자: 2023/05/20
  **/
 @Slf4j
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class AmazonS3ResourceStorage {
     private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
@@ -43,16 +53,45 @@ public class AmazonS3ResourceStorage {
         String originalFilename = image.getOriginalFilename();
         String storeFileName = this.createStoreFileName(originalFilename);
 
-        try (InputStream inputStream = image.getInputStream()) {
-            amazonS3.putObject(new PutObjectRequest(
-                    bucketName + awsS3Path.getPath(), storeFileName, inputStream, null));
-        } catch (IOException e) {
+        String bucketPath = bucketName + awsS3Path.getPath();
+        ObjectMetadata objectMetadata = this.createObjectMetadata(image);
+        try {
+            if (image.getSize() >= MULTIPART_UPLOAD_THRESHOLD) {
+                this.uploadMultipart(image, bucketPath, storeFileName, objectMetadata);
+            } else {
+                this.uploadSingle(image, bucketPath, storeFileName, objectMetadata);
+            }
+        } catch (IOException | AmazonClientException e) {
             log.debug("FileService.storeImage exception occur image : {}, awsS3Path : {}",
                     image, awsS3Path);
             throw new BusinessLogicException(ExceptionCode.FAIL_TO_UPLOAD_FILE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.debug("FileService.storeImage interrupted image : {}, awsS3Path : {}",
+                    image, awsS3Path);
+            throw new BusinessLogicException(ExceptionCode.FAIL_TO_UPLOAD_FILE);
+        }
+
+        return amazonS3.getUrl(bucketPath, storeFileName).toString();
+    }
+
+    // 서버에서 리사이즈한 JPEG 이미지 업로드
+    public String uploadImage(byte[] image, EnumCollection.AwsS3Path awsS3Path) {
+        String storeFileName = UUID.randomUUID() + ".jpg";
+        String bucketPath = bucketName + awsS3Path.getPath();
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(image.length);
+        objectMetadata.setContentType(IMAGE_JPEG_VALUE);
+        try {
+            amazonS3.putObject(new PutObjectRequest(
+                    bucketPath, storeFileName, new ByteArrayInputStream(image), objectMetadata));
+        } catch (AmazonClientException e) {
+            log.debug("AmazonS3ResourceStorage.uploadImage exception occur size : {}, awsS3Path : {}",
+                    image.length, awsS3Path);
+            throw new BusinessLogicException(ExceptionCode.FAIL_TO_UPLOAD_FILE);
         }
 
-        return amazonS3.getUrl(bucketName + awsS3Path.getPath(), storeFileName).toString();
+        return amazonS3.getUrl(bucketPath, storeFileName).toString();
     }
 
     public void removeImage(String imageUrl) {
@@ -65,6 +104,35 @@ public class AmazonS3ResourceStorage {
         }
     }
 
+    private void uploadSingle(MultipartFile image, String bucketPath, String storeFileName,
+                              ObjectMetadata objectMetadata) throws IOException {
+        try (InputStream inputStream = image.getInputStream()) {
+            amazonS3.putObject(new PutObjectRequest(bucketPath, storeFileName, inputStream, objectMetadata));
+        }
+    }
+
+    // 업로드 요청의 임시 파일을 옮겨 part 단위로 읽으므로 파일 크기와 무관하게 힙 사용량이 일정
+    private void uploadMultipart(MultipartFile image, String bucketPath, String storeFileName,
+                                 ObjectMetadata objectMetadata) throws IOException, InterruptedException {
+        File tempFile = Files.createTempFile("upload-", "." + extractExt(storeFileName)).toFile();
+        try {
+            image.transferTo(tempFile);
+            transferManager.upload(new PutObjectRequest(bucketPath, storeFileName, tempFile)
+                            .withMetadata(objectMetadata))
+                    .waitForCompletion();
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
+        }
+    }
+
+    private ObjectMetadata createObjectMetadata(MultipartFile image) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(image.getSize());
+        objectMetadata.setContentType(image.getContentType());
+
+        return objectMetadata;
+    }
+
     private String createStoreFileName(String originalFilename) {
         return UUID.randomUUID() + "." + extractExt(originalFilename);
     }
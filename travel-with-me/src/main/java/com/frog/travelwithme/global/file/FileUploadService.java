@@ -1,34 +1,83 @@
 package com.frog.travelwithme.global.file;
 
 import com.frog.travelwithme.global.enums.EnumCollection.AwsS3Path;
+import com.frog.travelwithme.global.enums.EnumCollection.ImageVariant;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ExceptionCode;
+import com.frog.travelwithme.global.file.dto.UploadedImage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
 import static org.springframework.http.MediaType.IMAGE_JPEG_VALUE;
 import static org.springframework.http.MediaType.IMAGE_PNG_VALUE;
 
 /**
  * FileUploadService 설명: 파일 유효성 검사 및 업로드,삭제 요청
+ * - 여러 파일은 fileUploadExecutor에서 병렬로 업로드하고, 일부 실패 시 업로드된 파일을 삭제
+ * - 여러 파일 업로드 시 imageResizeExecutor에서 리사이즈한 variant 이미지도 함께 업로드
+ * - DB 작업이 없으므로 트랜잭션(커넥션)을 잡지 않음
  * 작성자: 김찬빈
  * 버전 정보: 1.0.0
  * 작성일자: 2023/05/20
  **/
 @Slf4j
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class FileUploadService {
     private final AmazonS3ResourceStorage amazonS3ResourceStorage;
+    private final ImageResizer imageResizer;
+    private final ThreadPoolTaskExecutor fileUploadExecutor;
+    private final ThreadPoolTaskExecutor imageResizeExecutor;
+    private final MeterRegistry meterRegistry;
 
     public String upload(MultipartFile multipartFile, AwsS3Path awsS3Path) {
         this.verifiedExenstion(multipartFile);
-        return amazonS3ResourceStorage.uploadImage(multipartFile, awsS3Path);
+        return this.uploadImage(multipartFile, awsS3Path);
+    }
+
+    public List<UploadedImage> uploadAll(List<MultipartFile> multipartFiles, AwsS3Path awsS3Path) {
+        if (multipartFiles == null || multipartFiles.isEmpty()) {
+            return new ArrayList<>();
+        }
+        multipartFiles.forEach(this::verifiedExenstion);
+
+        Queue<String> uploadedUrls = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<UploadedImage>> futures = multipartFiles.stream()
+                .map(multipartFile -> CompletableFuture.supplyAsync(
+                        () -> this.uploadWithVariants(multipartFile, awsS3Path, uploadedUrls), fileUploadExecutor))
+                .collect(Collectors.toList());
+
+        List<UploadedImage> uploadedImages = new ArrayList<>();
+        RuntimeException failure = null;
+        for (CompletableFuture<UploadedImage> future : futures) {
+            try {
+                uploadedImages.add(future.join());
+            } catch (CompletionException e) {
+                failure = failure == null ? this.toUploadException(e.getCause()) : failure;
+            }
+        }
+
+        if (failure != null) {
+            log.debug("FileUploadService.uploadAll exception occur fileCount : {}, uploadedCount : {}",
+                    multipartFiles.size(), uploadedImages.size());
+            uploadedUrls.forEach(this::removeQuietly);
+            throw failure;
+        }
+
+        return uploadedImages;
     }
 
     public void remove(String imageUrl) {
@@ -37,6 +86,57 @@ public class FileUploadService {
         }
     }
 
+    private UploadedImage uploadWithVariants(MultipartFile multipartFile, AwsS3Path awsS3Path,
+                                             Queue<String> uploadedUrls) {
+        Map<ImageVariant, byte[]> resizedImages = CompletableFuture
+                .supplyAsync(() -> imageResizer.resize(multipartFile), imageResizeExecutor)
+                .join();
+        String originalUrl = this.uploadImage(multipartFile, awsS3Path);
+        uploadedUrls.add(originalUrl);
+
+        Map<ImageVariant, String> variantUrls = new EnumMap<>(ImageVariant.class);
+        resizedImages.forEach((imageVariant, resizedImage) -> {
+            String variantUrl = this.recordUploadTime(awsS3Path,
+                    () -> amazonS3ResourceStorage.uploadImage(resizedImage, awsS3Path));
+            uploadedUrls.add(variantUrl);
+            variantUrls.put(imageVariant, variantUrl);
+        });
+
+        return UploadedImage.builder()
+                .originalUrl(originalUrl)
+                .variantUrls(variantUrls)
+                .build();
+    }
+
+    private String uploadImage(MultipartFile multipartFile, AwsS3Path awsS3Path) {
+        return this.recordUploadTime(awsS3Path, () -> amazonS3ResourceStorage.uploadImage(multipartFile, awsS3Path));
+    }
+
+    private String recordUploadTime(AwsS3Path awsS3Path, Supplier<String> upload) {
+        return Timer.builder("file.upload")
+                .tag("path", awsS3Path.name())
+                .register(meterRegistry)
+                .record(upload);
+    }
+
+    private RuntimeException toUploadException(Throwable cause) {
+        if (cause instanceof BusinessLogicException) {
+            return (BusinessLogicException) cause;
+        }
+        log.warn("FileUploadService.uploadImage exception occur", cause);
+
+        return new BusinessLogicException(ExceptionCode.FAIL_TO_UPLOAD_FILE);
+    }
+
+    // 보상 삭제 실패가 원래 업로드 예외를 가리지 않도록 로그만 남김
+    private void removeQuietly(String imageUrl) {
+        try {
+            this.remove(imageUrl);
+        } catch (BusinessLogicException e) {
+            log.warn("FileUploadService.removeQuietly exception occur imageUrl : {}", imageUrl);
+        }
+    }
+
     private void verifiedExenstion(MultipartFile multipartFile) {
         String contentType = multipartFile.getContentType();
 
@@ -0,0 +1,169 @@
+package com.frog.travelwithme.global.file;
+
+import com.frog.travelwithme.global.enums.EnumCollection.ImageVariant;
+import com.frog.travelwithme.global.utils.ExifOrientationUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.*;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * ImageResizer 설명: 업로드 이미지를 ImageVariant 너비에 맞춰 JPEG으로 리사이즈
+ * - 원본보다 큰 variant는 만들지 않고, 읽을 수 없는 이미지는 리사이즈 없이 원본만 사용
+ * - EXIF Orientation이 있는 JPEG은 보이는 방향으로 회전/반전한 뒤 보이는 너비 기준으로 리사이즈
+ * - 원본 전체 해상도로 디코딩하지 않도록 가장 큰 variant 너비 이상이 되는 만큼 subsampling 하여 읽음
+ * - 큐가 가득 차면 요청 스레드에서도 실행되므로 동시 리사이즈 수를 코어 수만큼 semaphore로 제한,
+ *   대기 시간 안에 실행하지 못하면 리사이즈 없이 원본만 사용
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/22
+ **/
+@Slf4j
+@Component
+public class ImageResizer {
+
+    private static final String IMAGE_FORMAT = "jpg";
+    private static final long PERMIT_TIMEOUT_SECONDS = 30;
+
+    private final Semaphore resizePermits = new Semaphore(Runtime.getRuntime().availableProcessors());
+
+    public Map<ImageVariant, byte[]> resize(MultipartFile multipartFile) {
+        if (!this.acquirePermit(multipartFile)) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            return this.resizeImage(multipartFile);
+        } finally {
+            resizePermits.release();
+        }
+    }
+
+    private boolean acquirePermit(MultipartFile multipartFile) {
+        try {
+            if (resizePermits.tryAcquire(PERMIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.debug("ImageResizer.acquirePermit exception occur fileName : {}", multipartFile.getOriginalFilename());
+
+        return false;
+    }
+
+    private Map<ImageVariant, byte[]> resizeImage(MultipartFile multipartFile) {
+        try (InputStream inputStream = multipartFile.getInputStream();
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            ImageReader reader = this.getImageReader(imageInputStream);
+            if (reader == null) {
+                return Collections.emptyMap();
+            }
+
+            try {
+                reader.setInput(imageInputStream, true, false);
+                int orientation = ExifOrientationUtils.readOrientation(reader);
+                boolean transposed = ExifOrientationUtils.isTransposed(orientation);
+                int sourceWidth = transposed ? reader.getHeight(0) : reader.getWidth(0);
+                int sourceHeight = transposed ? reader.getWidth(0) : reader.getHeight(0);
+                List<ImageVariant> imageVariants = this.getResizedVariants(sourceWidth);
+                if (imageVariants.isEmpty()) {
+                    return Collections.emptyMap();
+                }
+                int maxWidth = imageVariants.get(imageVariants.size() - 1).getWidth();
+                BufferedImage image = ExifOrientationUtils.applyOrientation(
+                        reader.read(0, this.getSubsamplingParam(reader, sourceWidth, maxWidth)), orientation);
+
+                double aspectRatio = (double) sourceHeight / sourceWidth;
+
+                return this.toResizedImages(multipartFile, image, aspectRatio, imageVariants);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            log.debug("ImageResizer.resizeImage exception occur fileName : {}", multipartFile.getOriginalFilename());
+            return Collections.emptyMap();
+        }
+    }
+
+    private ImageReader getImageReader(ImageInputStream imageInputStream) {
+        if (imageInputStream == null) {
+            return null;
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+
+        return readers.hasNext() ? readers.next() : null;
+    }
+
+    // 원본 너비 기준으로 만들 variant를 결정, 너비 오름차순
+    private List<ImageVariant> getResizedVariants(int sourceWidth) {
+        return Arrays.stream(ImageVariant.values())
+                .filter(imageVariant -> imageVariant.isResized() && sourceWidth > imageVariant.getWidth())
+                .sorted(Comparator.comparingInt(ImageVariant::getWidth))
+                .collect(Collectors.toList());
+    }
+
+    // 디코딩한 이미지 너비가 가장 큰 variant 너비보다 작아지지 않는 만큼만 건너뛰며 읽음
+    private ImageReadParam getSubsamplingParam(ImageReader reader, int sourceWidth, int maxWidth) {
+        int subsampling = Math.max(1, sourceWidth / maxWidth);
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+        return param;
+    }
+
+    private Map<ImageVariant, byte[]> toResizedImages(MultipartFile multipartFile,
+                                                      BufferedImage image,
+                                                      double aspectRatio,
+                                                      List<ImageVariant> imageVariants) {
+        Map<ImageVariant, byte[]> resizedImages = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant imageVariant : imageVariants) {
+            try {
+                resizedImages.put(imageVariant, this.toJpeg(this.scale(image, imageVariant.getWidth(), aspectRatio)));
+            } catch (IOException e) {
+                log.debug("ImageResizer.resize exception occur fileName : {}, imageVariant : {}",
+                        multipartFile.getOriginalFilename(), imageVariant);
+            }
+        }
+
+        return resizedImages;
+    }
+
+    // JPEG은 투명도를 지원하지 않으므로 흰 배경 위에 그림
+    // subsampling 하면 크기가 올림/내림되므로 높이는 원본 비율로 계산
+    private BufferedImage scale(BufferedImage image, int width, double aspectRatio) {
+        int height = Math.max(1, (int) Math.round(width * aspectRatio));
+        BufferedImage scaledImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaledImage.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return scaledImage;
+    }
+
+    private byte[] toJpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, IMAGE_FORMAT, outputStream);
+
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,36 @@
+package com.frog.travelwithme.global.file.dto;
+
+import com.frog.travelwithme.global.enums.EnumCollection.ImageVariant;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UploadedImage 설명: 업로드된 원본 이미지 url과 리사이즈 이미지 url
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/22
+ **/
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UploadedImage {
+
+    private String originalUrl;
+    private Map<ImageVariant, String> variantUrls;
+
+    public List<String> getAllUrls() {
+        List<String> allUrls = new ArrayList<>();
+        allUrls.add(originalUrl);
+        allUrls.addAll(variantUrls.values());
+
+        return allUrls;
+    }
+}
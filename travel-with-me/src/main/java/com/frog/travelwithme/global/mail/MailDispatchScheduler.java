@@ -0,0 +1,109 @@
+package com.frog.travelwithme.global.mail;
+
+import com.frog.travelwithme.global.mail.dto.MailMessage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * MailDispatchScheduler 설명: 메일 발송 큐를 주기적으로 비우며 mailSendExecutor에서 배치 단위로 발송
+ * - 발송에 실패한 메일은 2, 4, 8, 16초 간격으로 재시도하고, 최대 횟수를 넘기면 버림
+ * - mail.queue.size: 발송 대기 중인 메일 수, mail.send: 배치 발송 소요 시간
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/08
+ **/
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mail.dispatch.enabled", havingValue = "true", matchIfMissing = true)
+public class MailDispatchScheduler {
+
+    private static final int BATCH_SIZE = 20;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long BASE_BACKOFF_MILLIS = 1000;
+
+    private final MailQueueService mailQueueService;
+    private final MailService mailService;
+    private final ThreadPoolTaskExecutor mailSendExecutor;
+    private final Timer sendTimer;
+
+    public MailDispatchScheduler(MailQueueService mailQueueService,
+                                 MailService mailService,
+                                 ThreadPoolTaskExecutor mailSendExecutor,
+                                 MeterRegistry meterRegistry) {
+        this.mailQueueService = mailQueueService;
+        this.mailService = mailService;
+        this.mailSendExecutor = mailSendExecutor;
+        this.sendTimer = Timer.builder("mail.send")
+                .description("메일 배치 발송 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("mail.queue.size", this, MailDispatchScheduler::getQueueSize)
+                .description("발송 대기 중인 메일 수")
+                .register(meterRegistry);
+    }
+
+    // 작업 스레드 수만큼 배치를 꺼내 동시에 발송하고, 모두 끝난 뒤 다음 주기를 시작
+    @Scheduled(fixedDelayString = "${mail.dispatch.delay-millis:1000}")
+    public void dispatch() {
+        int workerCount = mailSendExecutor.getCorePoolSize();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        try {
+            mailQueueService.moveDueRetries(BATCH_SIZE * workerCount);
+            for (int i = 0; i < workerCount; i++) {
+                List<MailMessage> mailMessages = mailQueueService.poll(BATCH_SIZE);
+                if (mailMessages.isEmpty()) {
+                    break;
+                }
+                futures.add(CompletableFuture.runAsync(() -> this.send(mailMessages), mailSendExecutor));
+            }
+        } catch (DataAccessException e) {
+            log.warn("MailDispatchScheduler.dispatch redis exception occur", e);
+        }
+        futures.forEach(CompletableFuture::join);
+    }
+
+    private void send(List<MailMessage> mailMessages) {
+        List<MailMessage> failedMessages;
+        try {
+            failedMessages = sendTimer.record(() -> mailService.sendEmails(mailMessages));
+        } catch (RuntimeException e) {
+            log.warn("MailDispatchScheduler.send exception occur mailCount : {}", mailMessages.size(), e);
+            failedMessages = mailMessages;
+        }
+        failedMessages.forEach(this::retry);
+    }
+
+    private void retry(MailMessage mailMessage) {
+        MailMessage nextMessage = mailMessage.nextAttempt();
+        if (nextMessage.getAttempt() >= MAX_ATTEMPTS) {
+            log.warn("MailDispatchScheduler.retry give up toEmail : {}, attempt : {}",
+                    nextMessage.getToEmail(), nextMessage.getAttempt());
+            return;
+        }
+        try {
+            mailQueueService.retryLater(nextMessage,
+                    Duration.ofMillis(BASE_BACKOFF_MILLIS << nextMessage.getAttempt()));
+        } catch (DataAccessException e) {
+            log.warn("MailDispatchScheduler.retry redis exception occur toEmail : {}", nextMessage.getToEmail(), e);
+        }
+    }
+
+    private double getQueueSize() {
+        try {
+            return mailQueueService.getQueueSize();
+        } catch (DataAccessException e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.frog.travelwithme.global.mail;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.global.exception.ExceptionCode;
+import com.frog.travelwithme.global.mail.dto.MailMessage;
+import com.frog.travelwithme.global.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MailQueueService 설명: Redis list 기반 메일 발송 큐
+ * - 발송 대기 메일은 MailQueue list, 재시도 대기 메일은 다음 발송 시각을 score로 MailRetry sorted set에 저장
+ * - 꺼내기/재시도 이동은 Lua 스크립트로 처리하여 여러 서버가 같은 메일을 중복 발송하지 않음
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/08
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MailQueueService {
+
+    private static final String MAIL_QUEUE_KEY = "MailQueue";
+    private static final String MAIL_RETRY_KEY = "MailRetry";
+
+    // KEYS: queue / ARGV: count
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POLL_SCRIPT = new DefaultRedisScript<>(
+            "local messages = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1) " +
+            "if #messages > 0 then redis.call('LTRIM', KEYS[1], #messages, -1) end " +
+            "return messages", List.class);
+
+    // KEYS: retry, queue / ARGV: now, count
+    private static final RedisScript<Long> MOVE_DUE_RETRIES_SCRIPT = new DefaultRedisScript<>(
+            "local messages = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+            "for _, message in ipairs(messages) do " +
+            "  redis.call('ZREM', KEYS[1], message) " +
+            "  redis.call('RPUSH', KEYS[2], message) " +
+            "end " +
+            "return #messages", Long.class);
+
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+
+    public void enqueue(MailMessage mailMessage) {
+        try {
+            redisService.pushListValue(MAIL_QUEUE_KEY, this.writeMessage(mailMessage));
+        } catch (DataAccessException e) {
+            log.debug("MailQueueService.enqueue exception occur toEmail: {}", mailMessage.getToEmail());
+            throw new BusinessLogicException(ExceptionCode.UNABLE_TO_SEND_EMAIL);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<MailMessage> poll(int count) {
+        List<Object> result = redisService.executeScript(POLL_SCRIPT,
+                List.of(MAIL_QUEUE_KEY), String.valueOf(count));
+        List<MailMessage> mailMessages = new ArrayList<>();
+        if (result == null) {
+            return mailMessages;
+        }
+        for (Object message : result) {
+            try {
+                mailMessages.add(objectMapper.readValue(String.valueOf(message), MailMessage.class));
+            } catch (JsonProcessingException e) {
+                log.warn("MailQueueService.poll exception occur message: {}", message);
+            }
+        }
+
+        return mailMessages;
+    }
+
+    public void retryLater(MailMessage mailMessage, Duration delay) {
+        redisService.addZSetValue(MAIL_RETRY_KEY, this.writeMessage(mailMessage),
+                System.currentTimeMillis() + delay.toMillis());
+    }
+
+    // 다음 발송 시각이 지난 재시도 메일을 발송 큐로 이동
+    public long moveDueRetries(int count) {
+        Long moved = redisService.executeScript(MOVE_DUE_RETRIES_SCRIPT, List.of(MAIL_RETRY_KEY, MAIL_QUEUE_KEY),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(count));
+
+        return moved == null ? 0 : moved;
+    }
+
+    public long getQueueSize() {
+        return redisService.getListSize(MAIL_QUEUE_KEY);
+    }
+
+    private String writeMessage(MailMessage mailMessage) {
+        try {
+            return objectMapper.writeValueAsString(mailMessage);
+        } catch (JsonProcessingException e) {
+            log.debug("MailQueueService.writeMessage exception occur toEmail: {}", mailMessage.getToEmail());
+            throw new BusinessLogicException(ExceptionCode.UNABLE_TO_SEND_EMAIL);
+        }
+    }
+}
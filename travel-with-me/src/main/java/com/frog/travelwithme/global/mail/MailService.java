@@ -1,37 +1,64 @@
 package com.frog.travelwithme.global.mail;
 
-import com.frog.travelwithme.global.exception.BusinessLogicException;
-import com.frog.travelwithme.global.exception.ExceptionCode;
+import com.frog.travelwithme.global.mail.dto.MailMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
+ * MailService 설명: 메일 발송 요청을 큐에 넣고, 큐에서 꺼낸 메일을 묶어서 발송
+ * - 요청 스레드는 SMTP 전송을 기다리지 않고, MailDispatchScheduler가 mailSendExecutor에서 발송
+ * - 여러 메일을 한 번에 넘기면 JavaMailSender가 하나의 SMTP 연결로 발송
  * 작성자: 김찬빈
  * 버전 정보: 1.0.0
  * 작성일자: 2023/04/20
  **/
 @Slf4j
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class MailService {
 
     private final JavaMailSender emailSender;
+    private final MailQueueService mailQueueService;
 
     public void sendEmail(String toEmail,
                           String title,
                           String text) {
-        SimpleMailMessage emailForm = this.createEmailForm(toEmail, title, text);
+        mailQueueService.enqueue(MailMessage.of(toEmail, title, text));
+    }
+
+    // 메일을 한 번에 발송하고 발송에 실패한 메일을 반환
+    public List<MailMessage> sendEmails(List<MailMessage> mailMessages) {
+        Map<SimpleMailMessage, MailMessage> emailForms = new IdentityHashMap<>();
+        mailMessages.forEach(mailMessage -> emailForms.put(this.createEmailForm(mailMessage.getToEmail(),
+                mailMessage.getTitle(), mailMessage.getText()), mailMessage));
         try {
-            emailSender.send(emailForm);
-        } catch (RuntimeException e) {
-            log.debug("MailService.sendEmail exception occur toEmail: {}, " +
-                    "title: {}, text: {}", toEmail, title, text);
-            throw new BusinessLogicException(ExceptionCode.UNABLE_TO_SEND_EMAIL);
+            emailSender.send(emailForms.keySet().toArray(new SimpleMailMessage[0]));
+            return Collections.emptyList();
+        } catch (MailSendException e) {
+            log.debug("MailService.sendEmails exception occur mailCount: {}, failedCount: {}",
+                    mailMessages.size(), e.getFailedMessages().size());
+            if (e.getFailedMessages().isEmpty()) {
+                return mailMessages;
+            }
+            return e.getFailedMessages().keySet().stream()
+                    .map(emailForms::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        } catch (MailException e) {
+            log.debug("MailService.sendEmails exception occur mailCount: {}", mailMessages.size());
+            return mailMessages;
         }
     }
 
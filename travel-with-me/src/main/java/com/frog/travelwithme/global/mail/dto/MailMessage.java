@@ -0,0 +1,49 @@
+package com.frog.travelwithme.global.mail.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * MailMessage 설명: 메일 발송 큐에 저장되는 메일 정보
+ * - id는 같은 내용의 메일이 재시도 대기열에서 하나로 합쳐지지 않도록 구분
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/08
+ **/
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MailMessage {
+
+    private String id;
+    private String toEmail;
+    private String title;
+    private String text;
+    private int attempt;
+
+    public static MailMessage of(String toEmail, String title, String text) {
+        return MailMessage.builder()
+                .id(UUID.randomUUID().toString())
+                .toEmail(toEmail)
+                .title(title)
+                .text(text)
+                .attempt(0)
+                .build();
+    }
+
+    public MailMessage nextAttempt() {
+        return MailMessage.builder()
+                .id(id)
+                .toEmail(toEmail)
+                .title(title)
+                .text(text)
+                .attempt(attempt + 1)
+                .build();
+    }
+}
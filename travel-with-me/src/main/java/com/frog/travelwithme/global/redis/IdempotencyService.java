@@ -0,0 +1,77 @@
+package com.frog.travelwithme.global.redis;
+
+import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.global.exception.ExceptionCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * IdempotencyService 설명: 클라이언트가 보낸 Idempotency-Key로 같은 요청을 한 번만 처리
+ * - 처음 들어온 요청이 SET NX로 처리 중 표시를 남기고, 처리 결과(enum 이름)를 저장
+ * - 처리가 끝난 key로 다시 요청하면 저장된 결과를 그대로 반환, 처리 중이면 409 응답
+ * - 처리 중 예외가 발생하면 key를 삭제하여 같은 key로 재시도할 수 있도록 함
+ * - 트랜잭션이 커밋된 후 결과를 저장해야 하므로 @Transactional 서비스 바깥(컨트롤러)에서 호출
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private static final String KEY_PREFIX = "Idempotency:";
+    private static final String PROCESSING = "PROCESSING";
+    private static final Duration PROCESSING_DURATION = Duration.ofSeconds(30);
+    private static final Duration RESULT_DURATION = Duration.ofHours(24);
+
+    private final RedisService redisService;
+
+    public <T extends Enum<T>> T execute(String scope, String idempotencyKey, Class<T> type, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+
+        String key = KEY_PREFIX + scope + ":" + idempotencyKey;
+        if (!redisService.setValuesIfAbsent(key, PROCESSING, PROCESSING_DURATION)) {
+            return this.getCompletedResult(key, type);
+        }
+
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            this.releaseKey(key, e);
+            throw e;
+        }
+        redisService.setValues(key, result.name(), RESULT_DURATION);
+
+        return result;
+    }
+
+    // key 삭제에 실패해도 요청 처리 중 발생한 예외를 던지도록 삭제 예외는 suppressed로 남김
+    // 삭제하지 못한 key는 처리 중 표시가 만료된 뒤 재시도 가능
+    private void releaseKey(String key, RuntimeException cause) {
+        try {
+            redisService.deleteValues(key);
+        } catch (RuntimeException e) {
+            log.debug("IdempotencyService.releaseKey exception occur key: {}, message: {}", key, e.getMessage());
+            cause.addSuppressed(e);
+        }
+    }
+
+    private <T extends Enum<T>> T getCompletedResult(String key, Class<T> type) {
+        String result = redisService.getValues(key);
+        // getValues는 key가 없으면 "false"를 반환, 처리 중 표시가 방금 만료된 경우도 처리 중으로 응답
+        if (result.equals(PROCESSING) || result.equals("false")) {
+            log.debug("IdempotencyService.getCompletedResult exception occur key: {}", key);
+            throw new BusinessLogicException(ExceptionCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+
+        return Enum.valueOf(type, result);
+    }
+}
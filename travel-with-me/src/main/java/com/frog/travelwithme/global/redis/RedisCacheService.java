@@ -0,0 +1,75 @@
+package com.frog.travelwithme.global.redis;
+
+import com.frog.travelwithme.global.exception.BusinessLogicException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * RedisCacheService 설명: 객체를 바이너리로 직렬화하여 Redis에 캐시
+ * - 값은 RedisValueCodec으로 인코딩하여 binaryRedisTemplate에 저장
+ * - 역직렬화에 실패한 값(클래스 구조 변경 등)은 캐시 미스로 처리하고 삭제
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/12
+ **/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisCacheService {
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final RedisValueCodec redisValueCodec;
+
+    public <T> void put(String key, T value, Duration duration) {
+        binaryRedisTemplate.opsForValue().set(key, redisValueCodec.encode(value), duration);
+    }
+
+    public <T> Optional<T> get(String key, Class<T> type) {
+        byte[] encoded = binaryRedisTemplate.opsForValue().get(key);
+        if (encoded == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(this.decodeOrEvict(key, encoded, type));
+    }
+
+    // MGET 한 번으로 여러 key 조회, 결과는 key 순서를 따르고 없는 key는 null
+    public <T> List<T> getAll(List<String> keys, Class<T> type) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<byte[]> values = binaryRedisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return Collections.nCopies(keys.size(), null);
+        }
+
+        List<T> result = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] encoded = values.get(i);
+            result.add(encoded == null ? null : this.decodeOrEvict(keys.get(i), encoded, type));
+        }
+
+        return result;
+    }
+
+    public void evict(String key) {
+        binaryRedisTemplate.delete(key);
+    }
+
+    private <T> T decodeOrEvict(String key, byte[] encoded, Class<T> type) {
+        try {
+            return redisValueCodec.decode(encoded, type);
+        } catch (BusinessLogicException e) {
+            log.warn("RedisCacheService.decodeOrEvict invalid cache value, key : {}", key);
+            this.evict(key);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.frog.travelwithme.global.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * RedisLockService 설명: 여러 서버 중 한 곳에서만 작업을 실행하기 위한 Redis 락
+ * - SET NX PX로 락을 잡고, 락을 잡은 서버만 알 수 있는 토큰을 값으로 저장
+ * - 해제는 Lua 스크립트로 토큰이 같을 때만 삭제하여, 만료 후 다른 서버가 잡은 락을 지우지 않음
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/15
+ **/
+@Component
+@RequiredArgsConstructor
+public class RedisLockService {
+
+    // KEYS: lock / ARGV: token
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    private final RedisService redisService;
+
+    // 락을 잡으면 해제에 사용할 토큰 반환
+    public Optional<String> tryLock(String key, Duration leaseTime) {
+        String token = UUID.randomUUID().toString();
+        if (redisService.setValuesIfAbsent(key, token, leaseTime)) {
+            return Optional.of(token);
+        }
+
+        return Optional.empty();
+    }
+
+    public void unlock(String key, String token) {
+        redisService.executeScript(UNLOCK_SCRIPT, List.of(key), token);
+    }
+}
@@ -2,15 +2,16 @@ package com.frog.travelwithme.global.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.HashOperations;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.*;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
-import java.util.Map;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * RedisDao 설명: Redis 저장, 조회, 삭제 메서드 구현
@@ -34,13 +35,50 @@ public class RedisService {
         values.set(key, data, duration);
     }
 
+    // key가 없을 때만 저장(SET NX PX), 저장했으면 true
+    public boolean setValuesIfAbsent(String key, String data, Duration duration) {
+        Boolean result = redisTemplate.opsForValue().setIfAbsent(key, data, duration);
+        return Boolean.TRUE.equals(result);
+    }
+
     @Transactional(readOnly = true)
     public String getValues(String key) {
         ValueOperations<String, Object> values = redisTemplate.opsForValue();
-        if (values.get(key) == null) {
+        Object value = values.get(key);
+        if (value == null) {
             return "false";
         }
-        return (String) values.get(key);
+        return (String) value;
+    }
+
+    // MGET 한 번으로 여러 key 조회, 결과는 key 순서를 따르고 없는 key는 null
+    public List<String> getMultiValues(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return Collections.nCopies(keys.size(), null);
+        }
+
+        return values.stream()
+                .map(value -> value == null ? null : String.valueOf(value))
+                .collect(Collectors.toList());
+    }
+
+    // MSET은 만료 시간을 지정할 수 없으므로 SET EX 명령들을 파이프라인으로 한 번에 전송
+    public void setMultiValues(Map<String, String> data, Duration duration) {
+        if (data.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                data.forEach((key, value) -> operations.opsForValue().set(key, value, duration));
+                return null;
+            }
+        });
     }
 
     public void deleteValues(String key) {
@@ -67,6 +105,138 @@ public class RedisService {
         values.delete(key, hashKey);
     }
 
+    public void setHashOps(String key, Map<String, String> data, Duration duration) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForHash().putAll(key, data);
+                operations.expire(key, duration);
+                return null;
+            }
+        });
+    }
+
+    // 여러 key의 hash를 한 번의 왕복으로 조회, 결과는 keys 순서를 따르며 없는 key는 빈 Map
+    @SuppressWarnings("unchecked")
+    public List<Map<Object, Object>> getHashOpsEntries(List<String> keys) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                keys.forEach(key -> operations.opsForHash().entries(key));
+                return null;
+            }
+        });
+
+        return results.stream()
+                .map(result -> result == null ? Collections.<Object, Object>emptyMap() : (Map<Object, Object>) result)
+                .collect(Collectors.toList());
+    }
+
+    public void addZSetValue(String key, String value, double score) {
+        ZSetOperations<String, Object> values = redisTemplate.opsForZSet();
+        values.add(key, value, score);
+    }
+
+    public void addZSetValues(String key, Map<String, Double> data) {
+        ZSetOperations<String, Object> values = redisTemplate.opsForZSet();
+        Set<ZSetOperations.TypedTuple<Object>> tuples = data.entrySet().stream()
+                .map(entry -> new DefaultTypedTuple<Object>(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toSet());
+        values.add(key, tuples);
+    }
+
+    // score가 max 이하인 값을 score 내림차순으로 count개 조회
+    public List<String> getZSetReverseRangeByScore(String key, double max, long count) {
+        ZSetOperations<String, Object> values = redisTemplate.opsForZSet();
+        Set<Object> result = values.reverseRangeByScore(key, Double.NEGATIVE_INFINITY, max, 0, count);
+        if (result == null) {
+            return Collections.emptyList();
+        }
+
+        return result.stream()
+                .map(String::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    // score 내림차순으로 start ~ end 순위의 값과 score 조회
+    public Map<String, Double> getZSetReverseRangeWithScores(String key, long start, long end) {
+        ZSetOperations<String, Object> values = redisTemplate.opsForZSet();
+        Set<ZSetOperations.TypedTuple<Object>> result = values.reverseRangeWithScores(key, start, end);
+        Map<String, Double> scores = new LinkedHashMap<>();
+        if (result != null) {
+            result.forEach(tuple -> scores.put(String.valueOf(tuple.getValue()), tuple.getScore()));
+        }
+
+        return scores;
+    }
+
+    public Optional<Double> getZSetMinScore(String key) {
+        ZSetOperations<String, Object> values = redisTemplate.opsForZSet();
+        Set<ZSetOperations.TypedTuple<Object>> result = values.rangeWithScores(key, 0, 0);
+        if (result == null || result.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(result.iterator().next().getScore());
+    }
+
+    public long getZSetSize(String key) {
+        Long size = redisTemplate.opsForZSet().zCard(key);
+        return size == null ? 0 : size;
+    }
+
+    public void removeZSetValue(String key, String value) {
+        redisTemplate.opsForZSet().remove(key, value);
+    }
+
+    public void removeZSetRangeByScore(String key, double min, double max) {
+        redisTemplate.opsForZSet().removeRangeByScore(key, min, max);
+    }
+
+    // score 오름차순 기준 앞부분을 잘라 최대 maxSize개만 유지
+    public void trimZSet(String key, long maxSize) {
+        redisTemplate.opsForZSet().removeRange(key, 0, -(maxSize + 1));
+    }
+
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, Object... args) {
+        return redisTemplate.execute(script, keys, args);
+    }
+
+    // 여러 명령을 한 번의 왕복으로 실행, 결과는 명령 순서를 따름
+    public List<Object> executePipelined(SessionCallback<?> callback) {
+        return redisTemplate.executePipelined(callback);
+    }
+
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    public void pushListValue(String key, String value) {
+        redisTemplate.opsForList().rightPush(key, value);
+    }
+
+    public long getListSize(String key) {
+        Long size = redisTemplate.opsForList().size(key);
+        return size == null ? 0 : size;
+    }
+
+    public List<String> popSetValues(String key, long count) {
+        List<Object> result = redisTemplate.opsForSet().pop(key, count);
+        if (result == null) {
+            return Collections.emptyList();
+        }
+
+        return result.stream()
+                .map(String::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    public long getSetSize(String key) {
+        Long size = redisTemplate.opsForSet().size(key);
+        return size == null ? 0 : size;
+    }
+
     public boolean checkExistsValue(String value) {
         return !value.equals("false");
     }
@@ -0,0 +1,123 @@
+package com.frog.travelwithme.global.redis;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.global.exception.ExceptionCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * RedisValueCodec 설명: Redis에 캐시할 객체를 Jackson Smile(바이너리 JSON)로 직렬화
+ * - 첫 바이트에 형식을 기록하고, 직렬화 결과가 redis.cache.compression-threshold 이상이면 Deflate로 압축
+ * - Jackson 어노테이션(@JsonProperty, @JsonIgnore)은 JSON 응답과 동일하게 적용
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/12
+ **/
+@Slf4j
+@Component
+public class RedisValueCodec {
+
+    private static final byte PLAIN = 0;
+    private static final byte DEFLATED = 1;
+    private static final int BUFFER_SIZE = 512;
+
+    private final ObjectMapper smileMapper = SmileMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final int compressionThreshold;
+
+    public RedisValueCodec(@Value("${redis.cache.compression-threshold:1024}") int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public byte[] encode(Object value) {
+        byte[] serialized;
+        try {
+            serialized = smileMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            log.debug("RedisValueCodec.encode exception occur type: {}", value.getClass().getName());
+            throw new BusinessLogicException(ExceptionCode.UNABLE_TO_ENCODE_CACHE_VALUE);
+        }
+
+        if (serialized.length < compressionThreshold) {
+            return this.withHeader(PLAIN, serialized);
+        }
+        return this.deflate(serialized);
+    }
+
+    public <T> T decode(byte[] encoded, Class<T> type) {
+        // 형식 바이트조차 없는 값은 다른 손상된 값과 같이 캐시 miss로 처리되도록 같은 예외로 변환
+        if (encoded == null || encoded.length == 0) {
+            log.debug("RedisValueCodec.decode exception occur empty value type: {}", type.getName());
+            throw new BusinessLogicException(ExceptionCode.UNABLE_TO_DECODE_CACHE_VALUE);
+        }
+        try {
+            byte[] serialized = encoded[0] == DEFLATED
+                    ? this.inflate(encoded)
+                    : Arrays.copyOfRange(encoded, 1, encoded.length);
+            return smileMapper.readValue(serialized, type);
+        } catch (IOException | DataFormatException e) {
+            log.debug("RedisValueCodec.decode exception occur type: {}", type.getName());
+            throw new BusinessLogicException(ExceptionCode.UNABLE_TO_DECODE_CACHE_VALUE);
+        }
+    }
+
+    private byte[] deflate(byte[] serialized) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(serialized);
+            deflater.finish();
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(serialized.length / 2 + 1);
+            outputStream.write(DEFLATED);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                outputStream.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return outputStream.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(byte[] encoded) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(encoded, 1, encoded.length - 1);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(encoded.length * 2);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("truncated cache value");
+                }
+                outputStream.write(buffer, 0, length);
+            }
+            return outputStream.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private byte[] withHeader(byte header, byte[] body) {
+        byte[] encoded = new byte[body.length + 1];
+        encoded[0] = header;
+        System.arraycopy(body, 0, encoded, 1, body.length);
+
+        return encoded;
+    }
+}
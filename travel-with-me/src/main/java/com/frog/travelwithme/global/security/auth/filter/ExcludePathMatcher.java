@@ -0,0 +1,118 @@
+package com.frog.travelwithme.global.security.auth.filter;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ExcludePathMatcher 설명: 인증을 생략할 url 패턴을 경로 segment 단위 trie로 미리 컴파일하여 요청 경로를 한 번만 훑어 판별
+ * - "*"는 한 segment, 마지막 "**"는 0개 이상의 segment와 일치하며 대소문자는 구분하지 않음
+ * - 컴파일 시 "*" 하위 패턴을 같은 위치의 일반 segment에도 합쳐 두어 매칭 중 되돌아가지 않음
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/10
+ **/
+public class ExcludePathMatcher {
+
+    private static final String SINGLE_WILDCARD = "*";
+    private static final String MULTI_WILDCARD = "**";
+
+    private final Node root;
+
+    private ExcludePathMatcher(Node root) {
+        this.root = root;
+    }
+
+    public static ExcludePathMatcher compile(Collection<String> patterns) {
+        Node root = new Node();
+        patterns.forEach(pattern -> insert(root, pattern.trim()));
+        determinize(root);
+
+        return new ExcludePathMatcher(root);
+    }
+
+    public boolean matches(String path) {
+        if (path == null || path.isEmpty() || path.charAt(0) != '/') {
+            return false;
+        }
+
+        int length = path.length();
+        if (length == 1) {
+            return root.terminal || root.matchesRest;
+        }
+
+        Node node = root;
+        int start = 1;
+        while (start <= length) {
+            if (node.matchesRest) {
+                return true;
+            }
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            String segment = path.substring(start, end).toLowerCase(Locale.ROOT);
+            Node next = node.children.get(segment);
+            if (next == null && !segment.isEmpty()) {
+                next = node.wildcard;
+            }
+            if (next == null) {
+                return false;
+            }
+            node = next;
+            start = end + 1;
+        }
+
+        return node.terminal || node.matchesRest;
+    }
+
+    private static void insert(Node root, String pattern) {
+        Node node = root;
+        String[] segments = pattern.substring(pattern.startsWith("/") ? 1 : 0).split("/", -1);
+        if (segments.length == 1 && segments[0].isEmpty()) {
+            root.terminal = true;
+            return;
+        }
+        for (String segment : segments) {
+            if (MULTI_WILDCARD.equals(segment)) {
+                node.matchesRest = true;
+                return;
+            }
+            if (SINGLE_WILDCARD.equals(segment)) {
+                node.wildcard = node.wildcard == null ? new Node() : node.wildcard;
+                node = node.wildcard;
+            } else {
+                node = node.children.computeIfAbsent(segment.toLowerCase(Locale.ROOT), key -> new Node());
+            }
+        }
+        node.terminal = true;
+    }
+
+    // "*" 하위 패턴을 형제 segment에 복사하여 일반 segment로 내려간 뒤에도 "*" 패턴과 일치하도록 함
+    private static void determinize(Node node) {
+        if (node.wildcard != null) {
+            node.children.values().forEach(child -> merge(child, node.wildcard));
+            determinize(node.wildcard);
+        }
+        node.children.values().forEach(ExcludePathMatcher::determinize);
+    }
+
+    private static void merge(Node target, Node source) {
+        target.terminal |= source.terminal;
+        target.matchesRest |= source.matchesRest;
+        source.children.forEach((segment, child) ->
+                merge(target.children.computeIfAbsent(segment, key -> new Node()), child));
+        if (source.wildcard != null) {
+            target.wildcard = target.wildcard == null ? new Node() : target.wildcard;
+            merge(target.wildcard, source.wildcard);
+        }
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Node wildcard;
+        private boolean terminal;
+        private boolean matchesRest;
+    }
+}
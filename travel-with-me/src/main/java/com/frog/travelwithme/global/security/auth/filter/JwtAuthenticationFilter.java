@@ -1,8 +1,6 @@
 package com.frog.travelwithme.global.security.auth.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.frog.travelwithme.domain.member.entity.Member;
-import com.frog.travelwithme.domain.member.service.MemberService;
 import com.frog.travelwithme.global.config.AES128Config;
 import com.frog.travelwithme.global.redis.RedisService;
 import com.frog.travelwithme.global.security.auth.controller.dto.TokenDto;
@@ -29,6 +27,7 @@ import static com.frog.travelwithme.global.security.auth.controller.dto.AuthDto.
 
 /**
  * JwtAuthenticationFilter 설명: 로그인 검증 및 JWT 발급
+ * - 로그인 응답은 인증 시 불러온 CustomUserDetails로 만들어 회원을 한 번만 조회
  * 작성자: 김찬빈
  * 버전 정보: 1.0.0
  * 작성일자: 2023/03/28
@@ -37,21 +36,20 @@ import static com.frog.travelwithme.global.security.auth.controller.dto.AuthDto.
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
     private final AES128Config aes128Config;
-    private final MemberService memberService;
     private final RedisService redisService;
 
     @SneakyThrows
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request,
                                                 HttpServletResponse response) throws AuthenticationException {
-        log.info("JwtAuthenticationFilter.attemptAuthentication excute");
-        ObjectMapper objectMapper = new ObjectMapper();
-
+        log.debug("JwtAuthenticationFilter.attemptAuthentication excute");
         // ServletInputStream을 LoginDto 객체로 역직렬화
-        LoginDto loginDto = objectMapper.readValue(request.getInputStream(), LoginDto.class);
+        LoginDto loginDto = OBJECT_MAPPER.readValue(request.getInputStream(), LoginDto.class);
         UsernamePasswordAuthenticationToken authenticationToken =
                 new UsernamePasswordAuthenticationToken(loginDto.getEmail(), loginDto.getPassword());
 
@@ -63,7 +61,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
                                             HttpServletResponse response,
                                             FilterChain chain,
                                             Authentication authResult) throws IOException, ServletException {
-        log.info("JwtAuthenticationFilter.successfulAuthentication excute");
+        log.debug("JwtAuthenticationFilter.successfulAuthentication excute");
         CustomUserDetails customUserDetails = (CustomUserDetails) authResult.getPrincipal();
         TokenDto tokenDto = jwtTokenProvider.generateTokenDto(customUserDetails);
         String accessToken = tokenDto.getAccessToken();
@@ -71,12 +69,11 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         String encryptedRefreshToken = aes128Config.encryptAes(refreshToken);
         jwtTokenProvider.accessTokenSetHeader(accessToken, response);
         jwtTokenProvider.refresshTokenSetHeader(encryptedRefreshToken, response);
-        Member findMember = memberService.findMember(customUserDetails.getId());
-        Responder.loginSuccessResponse(response, findMember);
+        Responder.loginSuccessResponse(response, customUserDetails);
 
         // 로그인 성공시 Refresh Token Redis 저장 ( key = Email / value = Refresh Token )
         long refreshTokenExpirationMillis = jwtTokenProvider.getRefreshTokenExpirationMillis();
-        redisService.setValues(findMember.getEmail(), refreshToken, Duration.ofMillis(refreshTokenExpirationMillis));
+        redisService.setValues(customUserDetails.getEmail(), refreshToken, Duration.ofMillis(refreshTokenExpirationMillis));
 
         this.getSuccessHandler().onAuthenticationSuccess(request, response, authResult);
     }
@@ -1,12 +1,19 @@
 package com.frog.travelwithme.global.security.auth.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frog.travelwithme.global.enums.EnumCollection.AuthTraceStage;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ErrorResponse;
-import com.frog.travelwithme.global.redis.RedisService;
+import com.frog.travelwithme.global.exception.ExceptionCode;
 import com.frog.travelwithme.global.security.auth.jwt.JwtTokenProvider;
+import com.frog.travelwithme.global.security.auth.service.LogoutTokenStore;
+import com.frog.travelwithme.global.security.auth.trace.AuthRequestTracer;
+import com.frog.travelwithme.global.security.auth.trace.AuthTrace;
+import com.frog.travelwithme.global.security.auth.utils.Responder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
@@ -17,10 +24,12 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.List;
 
 /**
  * JwtVerificationFilter 설명: JWT 검증
+ * - 요청마다 실행되므로 로그를 남기지 않고, 단계별 소요 시간은 AuthRequestTracer로 추적
+ * - 검증에 실패한 토큰은 상태 코드를 먼저 설정하고 에러 응답을 쓴 뒤 다음 필터를 진행하지 않음
+ * - 응답 Writer를 닫으면 응답이 커밋되어 이후 상태 코드가 무시되므로 Writer는 닫지 않음
  * 작성자: 김찬빈
  * 버전 정보: 1.0.0
  * 작성일자: 2023/03/29
@@ -28,62 +37,82 @@ import java.util.List;
 @Slf4j
 @RequiredArgsConstructor
 public class JwtVerificationFilter extends OncePerRequestFilter {
-    // 인증에서 제외할 url
-    private static final List<String> EXCLUDE_URL =
-            List.of("/",
-                    "/h2",
-                    "/members/signup",
-                    "/auth/login",
-                    "/auth/reissue",
-                    "/members/emails/*");
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisService redisService;
+    private final LogoutTokenStore logoutTokenStore;
+    private final AuthRequestTracer authRequestTracer;
+    private final ExcludePathMatcher excludePathMatcher;
 
     // JWT 인증 정보를 현재 쓰레드의 SecurityContext에 저장(가입/로그인/재발급 Request 제외)
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        log.info("JwtVerificationFilter.doFilterInternal excute");
+        AuthTrace authTrace = authRequestTracer.start();
+        boolean verified;
         try {
-            String accessToken = jwtTokenProvider.resolveAccessToken(request);
-            log.info("StringUtils.hasText(accessToken) = {}", StringUtils.hasText(accessToken));
-            log.info("doNotLogout(accessToken) = {}", doNotLogout(accessToken));
-            log.info("jwtTokenProvider.validateToken(accessToken, response) = {}", jwtTokenProvider.validateToken(accessToken, response));
-            if (StringUtils.hasText(accessToken) && doNotLogout(accessToken)
-                    && jwtTokenProvider.validateToken(accessToken, response)) {
-                setAuthenticationToContext(accessToken);
-            }
-        // TODO: 예외처리 리팩토링
+            verified = verifyAccessToken(request, response, authTrace);
+        } catch (BusinessLogicException e) {
+            sendErrorResponse(response, e.getExceptionCode());
+            verified = false;
         } catch (RuntimeException e) {
-            if (e instanceof BusinessLogicException) {
-                ObjectMapper objectMapper = new ObjectMapper();
-                String json = objectMapper.writeValueAsString(ErrorResponse.of(((BusinessLogicException) e).getExceptionCode()));
-                response.getWriter().write(json);
-                response.setStatus(((BusinessLogicException) e).getExceptionCode().getStatus());
-            }
+            Responder.sendErrorResponse(response, HttpStatus.UNAUTHORIZED);
+            verified = false;
         }
-        filterChain.doFilter(request, response);
+        authTrace.finish(request.getServletPath());
+        if (verified) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    // 토큰이 없거나 로그아웃된 토큰이면 인증 없이 진행, 형식이 잘못된 토큰이면 401 응답 후 false 반환
+    private boolean verifyAccessToken(HttpServletRequest request,
+                                      HttpServletResponse response,
+                                      AuthTrace authTrace) throws IOException {
+        String accessToken = jwtTokenProvider.resolveAccessToken(request);
+        authTrace.record(AuthTraceStage.PARSE);
+        if (!StringUtils.hasText(accessToken)) {
+            return true;
+        }
+
+        boolean notLogout = doNotLogout(accessToken);
+        authTrace.record(AuthTraceStage.REVOCATION_CHECK);
+        if (notLogout && !setAuthenticationToContext(accessToken, response, authTrace)) {
+            Responder.sendErrorResponse(response, HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        return true;
+    }
+
+    // 상태 코드를 먼저 설정하고, Writer를 닫지 않도록 문자열로 직렬화하여 기록
+    private void sendErrorResponse(HttpServletResponse response, ExceptionCode exceptionCode) throws IOException {
+        response.setStatus(exceptionCode.getStatus());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write(OBJECT_MAPPER.writeValueAsString(ErrorResponse.of(exceptionCode)));
     }
 
+    // 로그아웃 여부는 서버 메모리에서 확인하여 요청마다 Redis를 조회하지 않음
     private boolean doNotLogout(String accessToken) {
-        String isLogout = redisService.getValues(accessToken);
-        return isLogout.equals("false");
+        return !logoutTokenStore.isLogout(accessToken);
     }
 
-    // EXCLUDE_URL과 동일한 요청이 들어왔을 경우, 현재 필터를 진행하지 않고 다음 필터 진행
+    // 인증에서 제외할 url 패턴과 일치하는 요청이 들어왔을 경우, 현재 필터를 진행하지 않고 다음 필터 진행
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        log.info("JwtVerificationFilter.shouldNotFilter excute, path = {}", request.getServletPath());
-        boolean result = EXCLUDE_URL.stream().anyMatch(exclude -> exclude.equalsIgnoreCase(request.getServletPath()));
-        log.info("# Exclude url check = {}, result check = {}", request.getServletPath(), result);
-
-        return result;
+        return excludePathMatcher.matches(request.getServletPath());
     }
 
-    private void setAuthenticationToContext(String accessToken) {
-        Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
+    // 토큰 검증과 Authentication 생성은 한 번의 파싱으로 처리, 형식이 잘못된 토큰이면 false 반환
+    private boolean setAuthenticationToContext(String accessToken, HttpServletResponse response, AuthTrace authTrace) {
+        Authentication authentication = jwtTokenProvider.getVerifiedAuthentication(accessToken, response);
+        authTrace.record(AuthTraceStage.VERIFY);
+        if (authentication == null) {
+            return false;
+        }
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        log.info("# Token verification success!");
+        authTrace.record(AuthTraceStage.CONTEXT_SET);
+
+        return true;
     }
 }
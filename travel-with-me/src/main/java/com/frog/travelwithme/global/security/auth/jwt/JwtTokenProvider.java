@@ -5,11 +5,16 @@ import com.frog.travelwithme.global.exception.ExceptionCode;
 import com.frog.travelwithme.global.security.auth.controller.dto.TokenDto;
 import com.frog.travelwithme.global.security.auth.userdetails.CustomUserDetails;
 import com.frog.travelwithme.global.security.auth.utils.Responder;
+import com.frog.travelwithme.global.security.auth.utils.TokenHashUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.io.Encoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -26,9 +31,12 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JwtTokenProvider 설명: JWT 토큰 생성, 복호화 및 정보 추출, 유효성 검증.
+ * - 서명 검증용 JwtParser는 한 번만 만들어 재사용
+ * - 검증된 Access Token의 Authentication은 토큰 만료 시각까지 캐시하여 같은 토큰의 서명 검증/파싱을 생략
  * 작성자: 김찬빈
  * 버전 정보: 1.0.0
  * 작성일자: 2023/03/27
@@ -40,6 +48,7 @@ public class JwtTokenProvider {
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String REFRESH_HEADER = "Refresh";
     public static final String BEARER_PREFIX = "Bearer ";
+    private static final int AUTHENTICATION_CACHE_SIZE = 10_000;
 
     @Getter
     @Value("${jwt.secret-key}")
@@ -53,27 +62,35 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-expiration-millis}")
     private long refreshTokenExpirationMillis;
     private Key key;
+    private JwtParser jwtParser;
+
+    // Access Token 해시 -> 검증된 Authentication, 크기를 넘으면 Caffeine이 자주 쓰이지 않는 항목부터 제거
+    // 각 항목은 해당 토큰의 만료 시각에 만료되므로 조회 시 만료 여부를 따로 확인하지 않음
+    private final Cache<String, VerifiedAuthentication> authenticationCache = Caffeine.newBuilder()
+            .maximumSize(AUTHENTICATION_CACHE_SIZE)
+            .expireAfter(new TokenExpiry())
+            .build();
 
     // Bean 등록후 Key SecretKey HS256 decode
     @PostConstruct
     public void init() {
         String base64EncodedSecretKey = encodeBase64SecretKey(this.secretKey);
         this.key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     public String encodeBase64SecretKey(String secretKey) {
-        log.info("JwtTokenProvider.encodeBase64SecretKey excute, secretKey = {}", secretKey);
         return Encoders.BASE64.encode(secretKey.getBytes(StandardCharsets.UTF_8));
     }
 
     private Key getKeyFromBase64EncodedKey(String base64EncodedSecretKey) {
-        log.info("JwtTokenProvider.getKeyFromBase64EncodedKey excute, base64EncodedSecretKey = {}", base64EncodedSecretKey);
         byte[] keyBytes = Decoders.BASE64.decode(base64EncodedSecretKey);
         return Keys.hmacShaKeyFor(keyBytes);
     }
 
     public TokenDto generateTokenDto(CustomUserDetails customUserDetails) {
-        log.info("JwtTokenProvider.generateTokenDto excute, customUserDetails = {}", customUserDetails.toString());
         Date accessTokenExpiresIn = getTokenExpiration(accessTokenExpirationMillis);
         Date refreshTokenExpiresIn = getTokenExpiration(refreshTokenExpirationMillis);
         Map<String, Object> claims = new HashMap<>();
@@ -105,9 +122,32 @@ public class JwtTokenProvider {
 
     // JWT 토큰을 복호화하여 토큰 정보를 반환
     public Authentication getAuthentication(String accessToken) {
-        log.info("JwtTokenProvider.getAuthentication excute, accessToken = {}", accessToken);
-        Claims claims = parseClaims(accessToken);
+        return createAuthentication(parseClaims(accessToken), accessToken);
+    }
+
+    // 토큰을 한 번만 파싱하여 검증과 Authentication 생성을 함께 처리, 유효하지 않은 토큰이면 null 반환
+    public Authentication getVerifiedAuthentication(String accessToken, HttpServletResponse response) {
+        String tokenHash = TokenHashUtils.hash(accessToken);
+        VerifiedAuthentication cached = authenticationCache.getIfPresent(tokenHash);
+        if (cached != null) {
+            return cached.getAuthentication();
+        }
+
+        Claims claims = verifyClaims(accessToken, response);
+        if (claims == null) {
+            return null;
+        }
 
+        Authentication authentication = createAuthentication(claims, accessToken);
+        if (claims.getExpiration() != null) {
+            authenticationCache.put(tokenHash,
+                    new VerifiedAuthentication(authentication, claims.getExpiration().getTime()));
+        }
+
+        return authentication;
+    }
+
+    private Authentication createAuthentication(Claims claims, String accessToken) {
         if (claims.get("role") == null) {
             log.debug("JwtTokenProvider.getAuthentication exception occur accessToken: {}", accessToken);
             throw new BusinessLogicException(ExceptionCode.NO_ACCESS_TOKEN);
@@ -119,38 +159,41 @@ public class JwtTokenProvider {
                 claims.getSubject(),
                 authority);
 
-        log.info("# AuthMember.getRoles 권한 체크 = {}", customUserDetails.getAuthorities().toString());
-
         return new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
     }
 
     // 토큰 검증
     public boolean validateToken(String token, HttpServletResponse response) {
-        log.info("JwtTokenProvider.validateToken excute, token = {}", token);
+        verifyClaims(token, response);
+        return true;
+    }
+
+    // 서명 오류 외의 토큰 예외는 응답에 에러를 기록, 형식이 잘못된 토큰은 null 반환
+    private Claims verifyClaims(String token, HttpServletResponse response) {
         try {
-            parseClaims(token);
+            return parseClaims(token);
         } catch (MalformedJwtException e) {
-            log.info("Invalid JWT token");
+            log.debug("Invalid JWT token");
             log.trace("Invalid JWT token trace = {}", e);
             log.debug("JwtTokenProvider.validateToken exception occur token: {}", token);
 
         } catch (ExpiredJwtException e) {
-            log.info("Expired JWT token");
+            log.debug("Expired JWT token");
             log.trace("Expired JWT token trace = {}", e);
             log.debug("JwtTokenProvider.validateToken exception occur token: {}", token);
             Responder.sendErrorResponse(response, ExceptionCode.TOKEN_EXPIRED);
         } catch (UnsupportedJwtException e) {
-            log.info("Unsupported JWT token");
+            log.debug("Unsupported JWT token");
             log.trace("Unsupported JWT token trace = {}", e);
             log.debug("JwtTokenProvider.validateToken exception occur token: {}", token);
             Responder.sendErrorResponse(response, ExceptionCode.TOKEN_UNSUPPORTED);
         } catch (IllegalArgumentException e) {
-            log.info("JWT claims string is empty.");
+            log.debug("JWT claims string is empty.");
             log.trace("JWT claims string is empty trace = {}", e);
             log.debug("JwtTokenProvider.validateToken exception occur token: {}", token);
             Responder.sendErrorResponse(response, ExceptionCode.TOKEN_ILLEGAL_ARGUMENT);
         }
-        return true;
+        return null;
     }
 
     private Date getTokenExpiration(long expirationMillisecond) {
@@ -161,10 +204,7 @@ public class JwtTokenProvider {
 
     // Token 복호화 및 예외 발생(토큰 만료, 시그니처 오류)시 Claims 객체가 안만들어짐.
     public Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
+        return jwtParser.parseClaimsJws(token)
                 .getBody();
     }
 
@@ -179,7 +219,6 @@ public class JwtTokenProvider {
 
     // Request Header에 Access Token 정보를 추출하는 메서드
     public String resolveAccessToken(HttpServletRequest request) {
-        log.info("JwtTokenProvider.resolveAccessToken excute, request = {}", request.toString());
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
             return bearerToken.substring(7);
@@ -189,11 +228,38 @@ public class JwtTokenProvider {
 
     // Request Header에 Refresh Token 정보를 추출하는 메서드
     public String resolveRefreshToken(HttpServletRequest request) {
-        log.info("JwtTokenProvider.resolveRefreshToken excute, request = {}", request.toString());
         String bearerToken = request.getHeader(REFRESH_HEADER);
         if (StringUtils.hasText(bearerToken)) {
             return bearerToken;
         }
         return null;
     }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class VerifiedAuthentication {
+        private final Authentication authentication;
+        private final long expiresAt;
+    }
+
+    // 캐시 항목의 수명을 토큰의 남은 유효 시간으로 설정, 같은 토큰을 다시 저장해도 만료 시각은 그대로 유지
+    private static class TokenExpiry implements Expiry<String, VerifiedAuthentication> {
+        @Override
+        public long expireAfterCreate(String tokenHash, VerifiedAuthentication verifiedAuthentication, long currentTime) {
+            long remainingMillis = verifiedAuthentication.getExpiresAt() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, VerifiedAuthentication verifiedAuthentication,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenHash, verifiedAuthentication, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, VerifiedAuthentication verifiedAuthentication,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
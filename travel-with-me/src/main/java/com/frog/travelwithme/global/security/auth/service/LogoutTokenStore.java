@@ -0,0 +1,106 @@
+package com.frog.travelwithme.global.security.auth.service;
+
+import com.frog.travelwithme.global.redis.RedisService;
+import com.frog.travelwithme.global.security.auth.utils.TokenHashUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LogoutTokenStore 설명: 로그아웃된 Access Token을 서버 메모리에 보관하여 요청마다 Redis를 조회하지 않도록 함
+ * - 토큰 해시와 만료 시각을 Redis sorted set에 저장하고 pub/sub으로 다른 서버에 즉시 전파
+ * - 메시지 유실에 대비해 주기적으로 sorted set 전체를 다시 읽어 병합
+ * - 동기화가 한 번도 성공하지 못했다면 기존처럼 Redis에서 로그아웃 여부 조회
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/06
+ **/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogoutTokenStore implements MessageListener {
+
+    private static final String LOGOUT_TOKENS_KEY = "LogoutTokens";
+    private static final String LOGOUT_TOKEN_CHANNEL = "LogoutTokenChannel";
+    private static final String LOGOUT_VALUE = "logout";
+    private static final String MESSAGE_DELIMITER = ":";
+
+    private final RedisService redisService;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 토큰 해시 -> 만료 시각(epoch millis)
+    private final Map<String, Long> logoutTokens = new ConcurrentHashMap<>();
+    private volatile boolean synced = false;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(LOGOUT_TOKEN_CHANNEL));
+    }
+
+    public void logout(String accessToken, Duration duration) {
+        String tokenHash = TokenHashUtils.hash(accessToken);
+        long expiresAt = System.currentTimeMillis() + duration.toMillis();
+        redisService.setValues(accessToken, LOGOUT_VALUE, duration);
+        redisService.addZSetValue(LOGOUT_TOKENS_KEY, tokenHash, expiresAt);
+        logoutTokens.put(tokenHash, expiresAt);
+        redisService.publish(LOGOUT_TOKEN_CHANNEL, tokenHash + MESSAGE_DELIMITER + expiresAt);
+    }
+
+    public boolean isLogout(String accessToken) {
+        String tokenHash = TokenHashUtils.hash(accessToken);
+        Long expiresAt = logoutTokens.get(tokenHash);
+        if (expiresAt != null) {
+            return expiresAt > System.currentTimeMillis();
+        }
+        if (!synced) {
+            return LOGOUT_VALUE.equals(redisService.getValues(accessToken));
+        }
+
+        return false;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiterIndex = body.lastIndexOf(MESSAGE_DELIMITER);
+        if (delimiterIndex < 0) {
+            log.warn("LogoutTokenStore.onMessage invalid message : {}", body);
+            return;
+        }
+        logoutTokens.put(body.substring(0, delimiterIndex), Long.parseLong(body.substring(delimiterIndex + 1)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncOnStartup() {
+        this.sync();
+    }
+
+    // 만료된 토큰을 정리하고 Redis의 로그아웃 토큰을 병합, 로컬에만 있는 토큰은 만료 전까지 유지
+    @Scheduled(fixedDelayString = "${auth.logout.sync-delay-millis:30000}")
+    public void sync() {
+        long now = System.currentTimeMillis();
+        logoutTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        try {
+            redisService.removeZSetRangeByScore(LOGOUT_TOKENS_KEY, Double.NEGATIVE_INFINITY, now);
+            redisService.getZSetReverseRangeWithScores(LOGOUT_TOKENS_KEY, 0, -1)
+                    .forEach((tokenHash, expiresAt) -> logoutTokens.put(tokenHash, expiresAt.longValue()));
+            synced = true;
+        } catch (DataAccessException e) {
+            log.warn("LogoutTokenStore.sync redis exception occur", e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.frog.travelwithme.global.security.auth.trace;
+
+import com.frog.travelwithme.global.enums.EnumCollection.AuthTraceStage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthRequestTracer 설명: JwtVerificationFilter의 단계별(토큰 추출, 로그아웃 확인, 검증, SecurityContext 저장) 소요 시간 추적
+ * - auth.trace.enabled=true 일 때만 동작하며, 꺼져 있으면 요청마다 NOOP 추적을 반환
+ * - 단계별 시간은 auth.filter.stage, 전체 시간은 auth.filter 메트릭으로 기록
+ * - auth.trace.sample-rate 비율의 요청만 단계별 시간을 한 줄 로그로 남김
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/09
+ **/
+@Slf4j
+@Component
+public class AuthRequestTracer {
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final Timer totalTimer;
+    private final Map<AuthTraceStage, Timer> stageTimers = new EnumMap<>(AuthTraceStage.class);
+
+    public AuthRequestTracer(@Value("${auth.trace.enabled:false}") boolean enabled,
+                             @Value("${auth.trace.sample-rate:0.01}") double sampleRate,
+                             MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.totalTimer = Timer.builder("auth.filter")
+                .description("JWT 인증 필터 전체 소요 시간")
+                .register(meterRegistry);
+        for (AuthTraceStage stage : AuthTraceStage.values()) {
+            stageTimers.put(stage, Timer.builder("auth.filter.stage")
+                    .description("JWT 인증 필터 단계별 소요 시간")
+                    .tag("stage", stage.getTag())
+                    .register(meterRegistry));
+        }
+    }
+
+    public AuthTrace start() {
+        if (!enabled) {
+            return AuthTrace.NOOP;
+        }
+
+        return new AuthTrace(this, ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    // 실행되지 않은 단계(토큰 없음, 로그아웃 토큰 등)는 메트릭에 기록하지 않음
+    void report(String path, long[] stageNanos, long totalNanos, boolean sampled) {
+        AuthTraceStage[] stages = AuthTraceStage.values();
+        for (AuthTraceStage stage : stages) {
+            if (stageNanos[stage.ordinal()] > 0) {
+                stageTimers.get(stage).record(stageNanos[stage.ordinal()], TimeUnit.NANOSECONDS);
+            }
+        }
+        totalTimer.record(totalNanos, TimeUnit.NANOSECONDS);
+
+        if (sampled && log.isInfoEnabled()) {
+            StringBuilder message = new StringBuilder("auth trace path=").append(path);
+            for (AuthTraceStage stage : stages) {
+                message.append(' ').append(stage.getTag()).append('=')
+                        .append(TimeUnit.NANOSECONDS.toMicros(stageNanos[stage.ordinal()])).append("us");
+            }
+            message.append(" total=").append(TimeUnit.NANOSECONDS.toMicros(totalNanos)).append("us");
+            log.info(message.toString());
+        }
+    }
+}
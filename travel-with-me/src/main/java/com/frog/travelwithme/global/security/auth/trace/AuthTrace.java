@@ -0,0 +1,47 @@
+package com.frog.travelwithme.global.security.auth.trace;
+
+import com.frog.travelwithme.global.enums.EnumCollection.AuthTraceStage;
+
+/**
+ * AuthTrace 설명: 한 요청의 인증 단계별 소요 시간 기록
+ * - 추적이 꺼져 있으면 NOOP을 사용하여 시간 측정과 객체 생성을 하지 않음
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/09
+ **/
+public class AuthTrace {
+
+    static final AuthTrace NOOP = new AuthTrace(null, false) {
+        @Override
+        public void record(AuthTraceStage stage) {
+        }
+
+        @Override
+        public void finish(String path) {
+        }
+    };
+
+    private final AuthRequestTracer authRequestTracer;
+    private final boolean sampled;
+    private final long startNanos;
+    private final long[] stageNanos = new long[AuthTraceStage.values().length];
+    private long lastMarkNanos;
+
+    AuthTrace(AuthRequestTracer authRequestTracer, boolean sampled) {
+        this.authRequestTracer = authRequestTracer;
+        this.sampled = sampled;
+        this.startNanos = System.nanoTime();
+        this.lastMarkNanos = startNanos;
+    }
+
+    // 직전 기록 시점부터 지금까지를 해당 단계의 소요 시간으로 기록
+    public void record(AuthTraceStage stage) {
+        long now = System.nanoTime();
+        stageNanos[stage.ordinal()] += now - lastMarkNanos;
+        lastMarkNanos = now;
+    }
+
+    public void finish(String path) {
+        authRequestTracer.report(path, stageNanos, lastMarkNanos - startNanos, sampled);
+    }
+}
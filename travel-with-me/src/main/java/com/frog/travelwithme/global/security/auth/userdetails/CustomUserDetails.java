@@ -12,6 +12,7 @@ import java.util.List;
 
 /**
  * CustomUserDetails 설명: Spring Security에서 관리하는 User 정보 관리
+ * - 로그인 응답에 필요한 nickname도 함께 보관하여 로그인 성공 후 회원을 다시 조회하지 않음
  * 작성자: 김찬빈
  * 버전 정보: 1.0.0
  * 작성일자: 2023/03/28
@@ -22,12 +23,14 @@ import java.util.List;
 public class CustomUserDetails extends Member implements UserDetails {
     private Long id;
     private String email;
+    private String nickname;
     private String role;
     private String password;
 
     private CustomUserDetails(Member member) {
         this.id = member.getId();
         this.email = member.getEmail();
+        this.nickname = member.getNickname();
         this.password = member.getPassword();
         this.role = member.getRole();
     }
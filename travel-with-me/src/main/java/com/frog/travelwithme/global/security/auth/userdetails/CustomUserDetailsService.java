@@ -20,7 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
  **/
 @Slf4j
 @Service
-@Transactional
+@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
     private final MemberRepository memberRepository;
@@ -20,12 +20,10 @@ import static com.frog.travelwithme.global.enums.EnumCollection.Roles.USER;
 @Slf4j
 public class CustomAuthorityUtils {
     public static List<GrantedAuthority> createAuthorities(String role) {
-        log.info("CustomAuthorityUtils.createAuthorities excute, role = {}", role);
         return List.of(new SimpleGrantedAuthority("ROLE_" + role));
     }
 
     public static void verifiedRole(String role) {
-        log.info("CustomAuthorityUtils.verifiedRole excute, role = {}", role);
         if (role == null) {
             log.debug("CustomAuthorityUtils.verifiedRole exception occur role: {}", (Object) null);
             throw new BusinessLogicException(ExceptionCode.MEMBER_ROLE_DOES_NOT_EXISTS);
@@ -1,11 +1,11 @@
 package com.frog.travelwithme.global.security.auth.utils;
 
-import com.frog.travelwithme.domain.member.entity.Member;
 import com.frog.travelwithme.global.dto.SingleResponseDto;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ErrorResponse;
 import com.frog.travelwithme.global.exception.ExceptionCode;
 import com.frog.travelwithme.global.security.auth.controller.dto.AuthDto.LoginResponse;
+import com.frog.travelwithme.global.security.auth.userdetails.CustomUserDetails;
 import com.google.gson.Gson;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -15,17 +15,19 @@ import java.io.IOException;
 
 /**
  * Responder 설명: ErrorResponse를 클라이언트에게 전송
+ * - Gson은 thread-safe 하므로 하나만 만들어 재사용하고, 응답 Writer에 바로 직렬화
  * 작성자: 김찬빈
  * 버전 정보: 1.0.0
  * 작성일자: 2023/03/29
  **/
 public class Responder {
+    private static final Gson GSON = new Gson();
+
     public static void sendErrorResponse(HttpServletResponse response, HttpStatus status) throws IOException {
-        Gson gson = new Gson();
         ErrorResponse errorResponse = ErrorResponse.of(status);
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.setStatus(status.value());
-        response.getWriter().write(gson.toJson(errorResponse, ErrorResponse.class));
+        GSON.toJson(errorResponse, ErrorResponse.class, response.getWriter());
     }
 
     public static void sendErrorResponse(HttpServletResponse response, ExceptionCode code) {
@@ -33,16 +35,16 @@ public class Responder {
         throw new BusinessLogicException(code);
     }
 
-    public static void loginSuccessResponse(HttpServletResponse response, Member member) throws IOException {
-        Gson gson = new Gson();
+    public static void loginSuccessResponse(HttpServletResponse response,
+                                            CustomUserDetails customUserDetails) throws IOException {
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         LoginResponse lgoinResponse = LoginResponse.builder()
-                .id(member.getId())
-                .email(member.getEmail())
-                .nickname(member.getNickname())
-                .role(member.getRole())
+                .id(customUserDetails.getId())
+                .email(customUserDetails.getEmail())
+                .nickname(customUserDetails.getNickname())
+                .role(customUserDetails.getRole())
                 .build();
 
-        response.getWriter().write(gson.toJson(new SingleResponseDto<>(lgoinResponse), SingleResponseDto.class));
+        GSON.toJson(new SingleResponseDto<>(lgoinResponse), SingleResponseDto.class, response.getWriter());
     }
 }
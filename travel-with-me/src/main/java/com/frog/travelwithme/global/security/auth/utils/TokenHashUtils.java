@@ -0,0 +1,30 @@
+package com.frog.travelwithme.global.security.auth.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * TokenHashUtils 설명: 토큰 원문 대신 메모리/Redis에 보관할 SHA-256 해시 생성
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/07
+ **/
+public class TokenHashUtils {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private TokenHashUtils() {
+    }
+
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance(HASH_ALGORITHM)
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
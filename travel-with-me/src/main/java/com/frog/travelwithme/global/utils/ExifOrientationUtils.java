@@ -0,0 +1,156 @@
+package com.frog.travelwithme.global.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.w3c.dom.Node;
+
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ExifOrientationUtils 설명: JPEG EXIF Orientation 태그를 읽어 이미지를 보이는 방향으로 회전/반전
+ * - 카메라는 픽셀을 센서 방향 그대로 저장하고 Orientation 태그로 보이는 방향을 알려줌
+ * - JDK JPEG reader가 APP1(EXIF) 세그먼트를 unknown 마커로 보관하므로 별도 라이브러리 없이 IFD0만 파싱
+ * - Orientation 값: 1 그대로, 2 좌우 반전, 3 180도, 4 상하 반전, 5 transpose, 6 시계 90도, 7 transverse, 8 반시계 90도
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/22
+ **/
+@Slf4j
+public class ExifOrientationUtils {
+
+    public static final int NORMAL = 1;
+
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final String APP1_MARKER_TAG = "225";
+    private static final String EXIF_HEADER = "Exif";
+    // "Exif\0\0" 뒤부터 TIFF 헤더 시작
+    private static final int TIFF_HEADER_OFFSET = 6;
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final int IFD_ENTRY_SIZE = 12;
+
+    private ExifOrientationUtils() {
+    }
+
+    // reader는 metadata를 무시하지 않도록 setInput(input, true, false)로 설정되어 있어야 함
+    public static int readOrientation(ImageReader reader) {
+        try {
+            IIOMetadata metadata = reader.getImageMetadata(0);
+            if (metadata == null || !JPEG_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName())) {
+                return NORMAL;
+            }
+            byte[] exif = findExifSegment(metadata.getAsTree(JPEG_METADATA_FORMAT));
+
+            return exif == null ? NORMAL : parseOrientation(exif);
+        } catch (IOException | RuntimeException e) {
+            log.debug("ExifOrientationUtils.readOrientation exception occur message : {}", e.getMessage());
+            return NORMAL;
+        }
+    }
+
+    // 90도 회전이 포함된 방향이면 보이는 너비가 저장된 높이가 됨
+    public static boolean isTransposed(int orientation) {
+        return orientation >= 5 && orientation <= 8;
+    }
+
+    public static BufferedImage applyOrientation(BufferedImage image, int orientation) {
+        if (orientation <= NORMAL || orientation > 8) {
+            return image;
+        }
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        boolean transposed = isTransposed(orientation);
+        BufferedImage orientedImage = new BufferedImage(transposed ? height : width, transposed ? width : height,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = orientedImage.createGraphics();
+        try {
+            graphics.drawImage(image, getTransform(orientation, width, height), null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return orientedImage;
+    }
+
+    // AffineTransform(m00, m10, m01, m11, m02, m12): x' = m00 * x + m01 * y + m02, y' = m10 * x + m11 * y + m12
+    private static AffineTransform getTransform(int orientation, int width, int height) {
+        switch (orientation) {
+            case 2:
+                return new AffineTransform(-1, 0, 0, 1, width, 0);
+            case 3:
+                return new AffineTransform(-1, 0, 0, -1, width, height);
+            case 4:
+                return new AffineTransform(1, 0, 0, -1, 0, height);
+            case 5:
+                return new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6:
+                return new AffineTransform(0, 1, -1, 0, height, 0);
+            case 7:
+                return new AffineTransform(0, -1, -1, 0, height, width);
+            default:
+                return new AffineTransform(0, -1, 1, 0, 0, width);
+        }
+    }
+
+    private static byte[] findExifSegment(Node root) {
+        for (Node child = root.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (!"markerSequence".equals(child.getNodeName())) {
+                continue;
+            }
+            for (Node marker = child.getFirstChild(); marker != null; marker = marker.getNextSibling()) {
+                if (isExifSegment(marker)) {
+                    return (byte[]) ((IIOMetadataNode) marker).getUserObject();
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isExifSegment(Node marker) {
+        if (!"unknown".equals(marker.getNodeName()) || !(marker instanceof IIOMetadataNode)) {
+            return false;
+        }
+        Node markerTag = marker.getAttributes().getNamedItem("MarkerTag");
+        Object data = ((IIOMetadataNode) marker).getUserObject();
+
+        return markerTag != null && APP1_MARKER_TAG.equals(markerTag.getNodeValue())
+                && data instanceof byte[] && ((byte[]) data).length > TIFF_HEADER_OFFSET
+                && EXIF_HEADER.equals(new String((byte[]) data, 0, EXIF_HEADER.length(), StandardCharsets.US_ASCII));
+    }
+
+    // TIFF 헤더: 바이트 순서(II/MM) 2바이트, 42, IFD0 offset 4바이트 / IFD 엔트리: tag, type, count, value 12바이트
+    private static int parseOrientation(byte[] exif) {
+        ByteBuffer tiff = ByteBuffer.wrap(exif, TIFF_HEADER_OFFSET, exif.length - TIFF_HEADER_OFFSET).slice();
+        if (tiff.limit() < 8) {
+            return NORMAL;
+        }
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        int ifdOffset = tiff.getInt(4);
+        if (ifdOffset < 8 || ifdOffset + 2 > tiff.limit()) {
+            return NORMAL;
+        }
+
+        int entryCount = tiff.getShort(ifdOffset) & 0xFFFF;
+        for (int i = 0; i < entryCount; i++) {
+            int entryOffset = ifdOffset + 2 + i * IFD_ENTRY_SIZE;
+            if (entryOffset + IFD_ENTRY_SIZE > tiff.limit()) {
+                break;
+            }
+            if ((tiff.getShort(entryOffset) & 0xFFFF) == ORIENTATION_TAG) {
+                int orientation = tiff.getShort(entryOffset + 8) & 0xFFFF;
+                return orientation >= NORMAL && orientation <= 8 ? orientation : NORMAL;
+            }
+        }
+
+        return NORMAL;
+    }
+}
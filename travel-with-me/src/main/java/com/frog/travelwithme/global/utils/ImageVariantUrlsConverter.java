@@ -0,0 +1,53 @@
+package com.frog.travelwithme.global.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frog.travelwithme.global.enums.EnumCollection.ImageVariant;
+import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.global.exception.ExceptionCode;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.persistence.AttributeConverter;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ImageVariantUrlsConverter 설명: 원본 이미지 url별 리사이즈 이미지 url Map을 DB에 String(JSON)으로 저장하고 가져올 때 Map으로 반환하는 클래스
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/22
+ **/
+@Slf4j
+public class ImageVariantUrlsConverter implements AttributeConverter<Map<String, Map<ImageVariant, String>>, String> {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final TypeReference<Map<String, Map<ImageVariant, String>>> IMAGE_VARIANT_URLS_TYPE =
+            new TypeReference<>() {
+            };
+
+    // DB에 저장 될 때 사용
+    @Override
+    public String convertToDatabaseColumn(Map<String, Map<ImageVariant, String>> attribute) {
+        try {
+            return mapper.writeValueAsString(attribute == null ? new HashMap<>() : attribute);
+        } catch (JsonProcessingException e) {
+            log.debug("ImageVariantUrlsConverter.convertToDatabaseColumn exception occur attribute: {}", attribute);
+            throw new BusinessLogicException(ExceptionCode.UNABLE_TO_CONVERT_MAP_TO_STRING);
+        }
+    }
+
+    // DB의 데이터를 Object로 매핑할 때 사용, 리사이즈 이전에 저장된 피드는 빈 Map으로 반환
+    @Override
+    public Map<String, Map<ImageVariant, String>> convertToEntityAttribute(String dbData) {
+        if (dbData == null) {
+            return new HashMap<>();
+        }
+        try {
+            return mapper.readValue(dbData, IMAGE_VARIANT_URLS_TYPE);
+        } catch (JsonProcessingException e) {
+            log.debug("ImageVariantUrlsConverter.convertToEntityAttribute exception occur dbData: {}", dbData);
+            throw new BusinessLogicException(ExceptionCode.UNABLE_TO_CONVERT_STRING_TO_MAP);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.frog.travelwithme.domain.member.controller.dto.MemberDto;
 import com.frog.travelwithme.domain.member.repository.InterestRepository;
 import com.frog.travelwithme.domain.member.service.MemberService;
 import com.frog.travelwithme.global.config.AES128Config;
+import com.frog.travelwithme.global.exception.ExceptionCode;
 import com.frog.travelwithme.global.redis.RedisService;
 import com.frog.travelwithme.global.security.auth.controller.dto.AuthDto.LoginDto;
 import com.frog.travelwithme.global.security.auth.controller.dto.AuthDto.LoginResponse;
@@ -18,15 +19,22 @@ import com.frog.travelwithme.utils.ObjectMapperUtils;
 import com.frog.travelwithme.utils.ResultActionsUtils;
 import com.frog.travelwithme.utils.StubData;
 import com.frog.travelwithme.utils.snippet.reqeust.RequestSnippet;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.time.Duration;
+import java.util.Date;
 
 import static com.frog.travelwithme.utils.ApiDocumentUtils.getRequestPreProcessor;
 import static com.frog.travelwithme.utils.ApiDocumentUtils.getResponsePreProcessor;
@@ -38,6 +46,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -220,4 +229,44 @@ class AuthIntegrationTest extends BaseIntegrationTest {
 
         redisService.deleteValues(accessToken);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("형식이 잘못된 Access token으로 요청하면 401 Status 반환")
+    void authIntegrationTest7() throws Exception {
+        // given
+        String malformedAccessToken = "malformed-access-token";
+
+        // when
+        String uri = UriComponentsBuilder.newInstance().path("/members/" + EMAIL)
+                .build().toUri().toString();
+        ResultActions actions = ResultActionsUtils.getRequestWithToken(mvc, uri, malformedAccessToken, "");
+
+        // then
+        actions
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.status").value(HttpStatus.UNAUTHORIZED.value()));
+    }
+
+    @Test
+    @DisplayName("만료된 Access token으로 요청하면 만료 에러 Status 반환")
+    void authIntegrationTest8() throws Exception {
+        // given
+        Key key = Keys.hmacShaKeyFor(jwtTokenProvider.getSecretKey().getBytes(StandardCharsets.UTF_8));
+        String expiredAccessToken = Jwts.builder()
+                .claim("role", StubData.MockMember.getUserDetails().getRole())
+                .setSubject(EMAIL)
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        // when
+        String uri = UriComponentsBuilder.newInstance().path("/members/" + EMAIL)
+                .build().toUri().toString();
+        ResultActions actions = ResultActionsUtils.getRequestWithToken(mvc, uri, expiredAccessToken, "");
+
+        // then
+        actions
+                .andExpect(status().is(ExceptionCode.TOKEN_EXPIRED.getStatus()))
+                .andExpect(jsonPath("$.message").value(ExceptionCode.TOKEN_EXPIRED.getMessage()));
+    }
+}
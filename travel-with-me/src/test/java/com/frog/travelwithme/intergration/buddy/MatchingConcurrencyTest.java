@@ -0,0 +1,239 @@
+package com.frog.travelwithme.intergration.buddy;
+
+import com.frog.travelwithme.domain.buddy.entity.Recruitment;
+import com.frog.travelwithme.domain.buddy.repository.MatchingRepository;
+import com.frog.travelwithme.domain.buddy.repository.RecruitmentRepository;
+import com.frog.travelwithme.domain.buddy.service.MatchingService;
+import com.frog.travelwithme.domain.member.entity.Member;
+import com.frog.travelwithme.domain.member.repository.MemberRepository;
+import com.frog.travelwithme.domain.member.service.MemberCacheService;
+import com.frog.travelwithme.utils.StubData;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.MatchingStatus;
+import static com.frog.travelwithme.global.enums.EnumCollection.ResponseBody;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * MatchingConcurrencyTest 설명: 같은 매칭에 동시에 요청을 보내 한 요청만 반영되는지 확인
+ * - 서로 다른 회원의 동시 신청은 모집글 행 락 순서가 어긋나면 데드락이 나므로 모두 성공하는지 확인
+ * - 여러 스레드가 커밋된 데이터를 읽어야 하므로 트랜잭션 롤백 대신 테스트가 끝나면 직접 삭제
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {"feed.like.flush.enabled=false", "mail.dispatch.enabled=false",
+        "recruitment.expiry.enabled=false"})
+class MatchingConcurrencyTest {
+
+    private static final int THREAD_COUNT = 10;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private MatchingRepository matchingRepository;
+
+    @Autowired
+    private RecruitmentRepository recruitmentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberCacheService memberCacheService;
+
+    private Member writer;
+    private Member user;
+    private List<Member> applicants = new ArrayList<>();
+    private Long recruitmentId;
+
+    @BeforeEach
+    void beforeEach() {
+        writer = memberRepository.save(
+                StubData.MockMember.getMemberByEmailAndNickname("concurrency-writer@gmail.com", "동시성작성자"));
+        user = memberRepository.save(
+                StubData.MockMember.getMemberByEmailAndNickname("concurrency-user@gmail.com", "동시성신청자"));
+        Recruitment recruitment = StubData.MockRecruitment.getRecruitment();
+        recruitment.addMember(writer);
+        recruitmentId = recruitmentRepository.save(recruitment).getId();
+    }
+
+    @AfterEach
+    void afterEach() {
+        recruitmentRepository.deleteById(recruitmentId);
+        memberRepository.deleteById(writer.getId());
+        memberRepository.deleteById(user.getId());
+        memberCacheService.evict(writer.getId(), writer.getEmail());
+        memberCacheService.evict(user.getId(), user.getEmail());
+        for (Member applicant : applicants) {
+            memberRepository.deleteById(applicant.getId());
+            memberCacheService.evict(applicant.getId(), applicant.getEmail());
+        }
+        applicants.clear();
+    }
+
+    @Test
+    @DisplayName("같은 회원이 동시에 매칭신청을 보내도 매칭은 한 건만 생성됨")
+    void matchingConcurrencyTest1() throws Exception {
+        // when
+        List<Object> outcomes = this.runConcurrently(
+                () -> matchingService.requestMatchingByEmail(recruitmentId, user.getEmail()));
+
+        // then
+        Recruitment recruitment = recruitmentRepository.findById(recruitmentId).get();
+        assertAll(
+                () -> assertEquals(1, this.count(outcomes, ResponseBody.NEW_REQUEST_MATCHING)),
+                () -> assertEquals(1, this.countMatchings()),
+                () -> assertEquals(1L, recruitment.getRequestedCount())
+        );
+    }
+
+    @Test
+    @DisplayName("같은 매칭신청을 동시에 승인해도 한 요청만 승인됨")
+    void matchingConcurrencyTest2() throws Exception {
+        // given
+        Long matchingId = this.requestMatching();
+
+        // when
+        List<Object> outcomes = this.runConcurrently(
+                () -> matchingService.approveMatchingByEmail(recruitmentId, writer.getEmail(), matchingId));
+
+        // then
+        Recruitment recruitment = recruitmentRepository.findById(recruitmentId).get();
+        assertAll(
+                () -> assertEquals(1, this.count(outcomes, ResponseBody.APPROVE_MATCHING)),
+                () -> assertEquals(MatchingStatus.APPROVE, matchingRepository.findById(matchingId).get().getStatus()),
+                () -> assertEquals(0L, recruitment.getRequestedCount()),
+                () -> assertEquals(1L, recruitment.getApprovedCount())
+        );
+    }
+
+    @Test
+    @DisplayName("같은 매칭신청에 승인과 거절이 동시에 들어오면 하나만 반영됨")
+    void matchingConcurrencyTest3() throws Exception {
+        // given
+        Long matchingId = this.requestMatching();
+        List<Callable<ResponseBody>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            tasks.add(i % 2 == 0
+                    ? () -> matchingService.approveMatchingByEmail(recruitmentId, writer.getEmail(), matchingId)
+                    : () -> matchingService.rejectMatchingByEmail(recruitmentId, writer.getEmail(), matchingId));
+        }
+
+        // when
+        List<Object> outcomes = this.runConcurrently(tasks);
+
+        // then
+        long approvedCount = this.count(outcomes, ResponseBody.APPROVE_MATCHING);
+        long rejectedCount = this.count(outcomes, ResponseBody.REJECT_MATCHING);
+        MatchingStatus status = matchingRepository.findById(matchingId).get().getStatus();
+        Recruitment recruitment = recruitmentRepository.findById(recruitmentId).get();
+        assertAll(
+                () -> assertEquals(1, approvedCount + rejectedCount),
+                () -> assertEquals(approvedCount == 1 ? MatchingStatus.APPROVE : MatchingStatus.REJECT, status),
+                () -> assertEquals(0L, recruitment.getRequestedCount()),
+                () -> assertEquals(approvedCount, recruitment.getApprovedCount()),
+                () -> assertEquals(rejectedCount, recruitment.getRejectedCount())
+        );
+    }
+
+    @Test
+    @DisplayName("서로 다른 회원이 같은 모집글에 동시에 매칭신청을 보내면 모두 반영되고 인원 수가 유실되지 않음")
+    void matchingConcurrencyTest4() throws Exception {
+        // given
+        List<Callable<ResponseBody>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            Member applicant = memberRepository.save(StubData.MockMember.getMemberByEmailAndNickname(
+                    "concurrency-applicant" + i + "@gmail.com", "동시성신청자" + i));
+            applicants.add(applicant);
+            tasks.add(() -> matchingService.requestMatchingByEmail(recruitmentId, applicant.getEmail()));
+        }
+
+        // when
+        List<Object> outcomes = this.runConcurrently(tasks);
+
+        // then
+        Recruitment recruitment = recruitmentRepository.findById(recruitmentId).get();
+        assertAll(
+                () -> assertEquals(THREAD_COUNT, this.count(outcomes, ResponseBody.NEW_REQUEST_MATCHING)),
+                () -> assertEquals(THREAD_COUNT, this.countMatchings()),
+                () -> assertEquals(THREAD_COUNT, recruitment.getRequestedCount())
+        );
+    }
+
+    private Long requestMatching() {
+        matchingService.requestMatchingByEmail(recruitmentId, user.getEmail());
+        return matchingRepository.findMatchingMembers(recruitmentId, MatchingStatus.REQUEST, null)
+                .get(0).getMatchingId();
+    }
+
+    private List<Object> runConcurrently(Callable<ResponseBody> task) throws Exception {
+        List<Callable<ResponseBody>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            tasks.add(task);
+        }
+        return this.runConcurrently(tasks);
+    }
+
+    // 모든 스레드가 준비된 뒤 동시에 출발시키고, 각 요청의 응답 또는 예외를 모아서 반환
+    private List<Object> runConcurrently(List<Callable<ResponseBody>> tasks) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch readyLatch = new CountDownLatch(tasks.size());
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<ResponseBody>> futures = new ArrayList<>();
+        for (Callable<ResponseBody> task : tasks) {
+            futures.add(executorService.submit(() -> {
+                readyLatch.countDown();
+                startLatch.await();
+                return task.call();
+            }));
+        }
+
+        readyLatch.await();
+        startLatch.countDown();
+
+        List<Object> outcomes = new ArrayList<>();
+        for (Future<ResponseBody> future : futures) {
+            try {
+                outcomes.add(future.get(30, TimeUnit.SECONDS));
+            } catch (ExecutionException e) {
+                log.info("MatchingConcurrencyTest.runConcurrently failed request : {}", e.getCause().toString());
+                outcomes.add(e.getCause());
+            }
+        }
+        executorService.shutdown();
+
+        return outcomes;
+    }
+
+    private long count(List<Object> outcomes, ResponseBody responseBody) {
+        return outcomes.stream().filter(responseBody::equals).count();
+    }
+
+    private long countMatchings() {
+        return matchingRepository.findMatchingMembers(recruitmentId, MatchingStatus.REQUEST, null).size();
+    }
+}
@@ -262,6 +262,7 @@ class RecruitmentIntegrationTest extends BaseIntegrationTest {
         // when
         String uri = UriComponentsBuilder.newInstance()
                 .path(BASE_URL + "/" + recruitmentId + "/" + "matching-request-member-list")
+                .queryParam("lastMatchingId", 0)
                 .build().toUri().toString();
 
         ResultActions actions = ResultActionsUtils.getRequest(
@@ -274,6 +275,7 @@ class RecruitmentIntegrationTest extends BaseIntegrationTest {
                 .andDo(document("get-matching-request-member-list-recruitment",
                         getRequestPreProcessor(),
                         getResponsePreProcessor(),
+                        RequestSnippet.getMatchingMemberListParamSnippet(),
                         ResponseSnippet.getMatchingMemberListSnippet()
                 ));
     }
@@ -389,6 +391,7 @@ class RecruitmentIntegrationTest extends BaseIntegrationTest {
         // when
         String uri = UriComponentsBuilder.newInstance()
                 .path(BASE_URL + "/" + recruitmentId + "/" + "matching-approved-member-list")
+                .queryParam("lastMatchingId", 0)
                 .build().toUri().toString();
 
         ResultActions actions = ResultActionsUtils.getRequest(
@@ -401,6 +404,7 @@ class RecruitmentIntegrationTest extends BaseIntegrationTest {
                 .andDo(document("get-matching-approved-member-list-recruitment",
                         getRequestPreProcessor(),
                         getResponsePreProcessor(),
+                        RequestSnippet.getMatchingMemberListParamSnippet(),
                         ResponseSnippet.getMatchingMemberListSnippet()
                 ));
     }
@@ -10,6 +10,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Slf4j
@@ -32,6 +38,39 @@ class AES128ConfigTest {
         assertThat(dec).isEqualTo(text);
     }
 
+    @Test
+    @DisplayName("여러 스레드에서 동시에 암호화 및 복호화해도 결과가 섞이지 않음")
+    void aes128ConcurrencyTest() throws InterruptedException {
+        // given
+        int threadCount = 16;
+        int roundTripCount = 5000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(roundTripCount);
+        AtomicInteger failCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < roundTripCount; i++) {
+            String text = "refreshToken-" + i;
+            executorService.submit(() -> {
+                try {
+                    if (!text.equals(aes128Config.decryptAes(aes128Config.encryptAes(text)))) {
+                        failCount.incrementAndGet();
+                    }
+                } catch (BusinessLogicException e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(latch.getCount()).isZero();
+        assertThat(failCount.get()).isZero();
+    }
+
     @Test
     @DisplayName("Secret Key 검증 테스트")
     void secretKeyInvalidTest() {
@@ -4,10 +4,12 @@ import com.frog.travelwithme.domain.buddy.controller.MatchingController;
 import com.frog.travelwithme.domain.buddy.service.MatchingService;
 import com.frog.travelwithme.global.dto.MessageResponseDto;
 import com.frog.travelwithme.global.enums.EnumCollection;
+import com.frog.travelwithme.global.redis.IdempotencyService;
 import com.frog.travelwithme.global.security.auth.userdetails.CustomUserDetails;
 import com.frog.travelwithme.utils.ObjectMapperUtils;
 import com.frog.travelwithme.utils.ResultActionsUtils;
 import com.frog.travelwithme.utils.security.WithMockCustomUser;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -21,8 +23,11 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.function.Supplier;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -49,9 +54,18 @@ class MatchingControllerTest {
     @MockBean
     protected MatchingService matchingService;
 
+    @MockBean
+    protected IdempotencyService idempotencyService;
+
     @Mock
     protected CustomUserDetails userDetails;
 
+    @BeforeEach
+    void setUp() {
+        given(idempotencyService.execute(any(), any(), eq(EnumCollection.ResponseBody.class), any()))
+                .willAnswer(invocation -> invocation.getArgument(3, Supplier.class).get());
+    }
+
     @Test
     @DisplayName("동행 매칭신청")
     @WithMockCustomUser
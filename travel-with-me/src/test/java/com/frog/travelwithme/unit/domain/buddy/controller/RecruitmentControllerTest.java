@@ -153,7 +153,7 @@ class RecruitmentControllerTest {
         matchingMemberResponseList.add(matchingMemberResponse2);
         matchingMemberResponseList.add(matchingMemberResponse3);
 
-        given(recruitmentService.getMatchingRequestMemberList(any())).willReturn(matchingMemberResponseList);
+        given(recruitmentService.getMatchingRequestMemberList(any(), any())).willReturn(matchingMemberResponseList);
 
         // when
         String uri = UriComponentsBuilder.newInstance()
@@ -194,7 +194,7 @@ class RecruitmentControllerTest {
         matchingMemberResponseList.add(matchingMemberResponse2);
         matchingMemberResponseList.add(matchingMemberResponse3);
 
-        given(recruitmentService.getMatchingRequestMemberList(any())).willReturn(matchingMemberResponseList);
+        given(recruitmentService.getMatchingRequestMemberList(any(), any())).willReturn(matchingMemberResponseList);
 
         // when
         String uri = UriComponentsBuilder.newInstance()
@@ -1,5 +1,6 @@
 package com.frog.travelwithme.unit.domain.recruitment.repository;
 
+import com.frog.travelwithme.domain.buddy.controller.dto.BuddyDto;
 import com.frog.travelwithme.domain.buddy.entity.Matching;
 import com.frog.travelwithme.domain.buddy.entity.Recruitment;
 import com.frog.travelwithme.domain.buddy.repository.MatchingRepository;
@@ -19,9 +20,11 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import javax.persistence.EntityManager;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
+import static com.frog.travelwithme.global.enums.EnumCollection.MatchingStatus;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -237,4 +240,66 @@ class MatchingRepositoryTest {
                 () -> assertEquals(findRecruitment.getContent(), saveMatching.getRecruitment().getContent())
         );
     }
+
+    @Test
+    @DisplayName("동행매칭 상태별 신청 회원 목록을 매칭 id 이후부터 조회 : Querydsl")
+    void matchingRepositoryTest8() {
+        // given
+        Recruitment saveRecruitment = recruitmentRepository.save(StubData.MockRecruitment.getRecruitment());
+        Matching matching1 = saveMatching(saveRecruitment, "user1@gmail.com", "user1");
+        Matching matching2 = saveMatching(saveRecruitment, "user2@gmail.com", "user2");
+        Matching matching3 = saveMatching(saveRecruitment, "user3@gmail.com", "user3");
+        matching3.approve();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<BuddyDto.MatchingMemberResponse> firstPage = matchingRepository
+                .findMatchingMembers(saveRecruitment.getId(), MatchingStatus.REQUEST, null);
+        List<BuddyDto.MatchingMemberResponse> nextPage = matchingRepository
+                .findMatchingMembers(saveRecruitment.getId(), MatchingStatus.REQUEST, matching1.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(firstPage).extracting(BuddyDto.MatchingMemberResponse::getMatchingId)
+                        .containsExactly(matching1.getId(), matching2.getId()),
+                () -> assertEquals("user1", firstPage.get(0).getNickname()),
+                () -> assertThat(nextPage).extracting(BuddyDto.MatchingMemberResponse::getMatchingId)
+                        .containsExactly(matching2.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("동행매칭 상태는 이전 상태가 같을 때만 변경됨 : Querydsl")
+    void matchingRepositoryTest9() {
+        // given
+        Recruitment saveRecruitment = recruitmentRepository.save(StubData.MockRecruitment.getRecruitment());
+        Matching saveMatching = saveMatching(saveRecruitment, "user1@gmail.com", "user1");
+        entityManager.flush();
+
+        // when
+        boolean approved = matchingRepository
+                .compareAndSetStatus(saveMatching.getId(), MatchingStatus.REQUEST, MatchingStatus.APPROVE);
+        boolean rejected = matchingRepository
+                .compareAndSetStatus(saveMatching.getId(), MatchingStatus.REQUEST, MatchingStatus.REJECT);
+        entityManager.clear();
+        Matching findMatching = matchingRepository.findById(saveMatching.getId()).get();
+
+        // then
+        assertAll(
+                () -> assertThat(approved).isTrue(),
+                () -> assertThat(rejected).isFalse(),
+                () -> assertEquals(MatchingStatus.APPROVE, findMatching.getStatus())
+        );
+    }
+
+    private Matching saveMatching(Recruitment recruitment, String email, String nickname) {
+        Member member = memberRepository.save(StubData.MockMember.getMemberByEmailAndNickname(email, nickname));
+        Matching matching = StubData.MockMatching.getMatching();
+        matching.addMember(member);
+        matching.addRecruitment(recruitment);
+
+        return matchingRepository.save(matching);
+    }
 }
@@ -1,12 +1,13 @@
 package com.frog.travelwithme.unit.domain.buddy.repository;
 
-import com.frog.travelwithme.domain.buddy.entity.Matching;
-import com.frog.travelwithme.domain.buddy.repository.MatchingRepository;
 import com.frog.travelwithme.domain.member.entity.Member;
 import com.frog.travelwithme.domain.member.repository.MemberRepository;
 import com.frog.travelwithme.domain.buddy.entity.Recruitment;
 import com.frog.travelwithme.domain.buddy.repository.RecruitmentRepository;
+import com.frog.travelwithme.domain.buddy.service.dto.RecruitmentSearchCondition;
+import com.frog.travelwithme.domain.common.DeletionEntity;
 import com.frog.travelwithme.global.config.QuerydslConfig;
+import com.frog.travelwithme.global.utils.TimeUtils;
 import com.frog.travelwithme.utils.StubData;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +20,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -50,9 +53,6 @@ class RecruitmentRepositoryTest {
     @Autowired
     protected MemberRepository memberRepository;
 
-    @Autowired
-    protected MatchingRepository matchingRepository;
-
     @Test
     @DisplayName("동행 레포지토리 저장")
     void recruitmentRepositoryTest1() {
@@ -127,94 +127,111 @@ class RecruitmentRepositoryTest {
     }
 
     @Test
-    @DisplayName("동행글 id 조회(Matching Join) : Querydsl")
+    @DisplayName("동행글 목록 검색 (국가, 여행 기간, 모집 상태, 삭제 여부, keyset) : Querydsl")
     void recruitmentRepositoryTest5() {
         // given
-        Member writer = StubData.MockMember.getMember();
-        Member member1 = StubData.MockMember.getMemberByEmailAndNickname("kkd718@naver.com","멤버1");
-        Member member2 = StubData.MockMember.getMemberByEmailAndNickname("dhfif718@naver.com", "멤버2");
-        Member member3 = StubData.MockMember.getMemberByEmailAndNickname("hama@naver.com", "멤버3");
-
-        Member savedWriter = memberRepository.save(writer);
-        Member saveMember1 = memberRepository.save(member1);
-        Member saveMember2 = memberRepository.save(member2);
-        Member saveMember3 = memberRepository.save(member3);
-
-        Recruitment recruitment1 = StubData.MockRecruitment.getRecruitment();
-        recruitment1.addMember(savedWriter);
-        Recruitment saveRecruitment1 = recruitmentRepository.save(recruitment1);
+        Member writer = memberRepository.save(StubData.MockMember.getMember());
+        Recruitment overlapped = saveRecruitment(writer, "The Bahamas", "2023-01-01", "2023-01-05");
+        Recruitment contained = saveRecruitment(writer, "The Bahamas", "2023-01-03", "2023-01-04");
+        saveRecruitment(writer, "The Bahamas", "2023-02-01", "2023-02-05");
+        saveRecruitment(writer, "Peru", "2023-01-01", "2023-01-05");
+        saveRecruitment(writer, "The Bahamas", "2023-01-01", "2023-01-05").end();
+        saveRecruitment(writer, "The Bahamas", "2023-01-01", "2023-01-05").updateDeletionEntity();
 
-        Matching matching1 = StubData.MockMatching.getMatching();
-        matching1.addRecruitment(saveRecruitment1);
-        matching1.addMember(saveMember1);
+        entityManager.flush();
+        entityManager.clear();
 
-        Matching matching2 = StubData.MockMatching.getMatching();
-        matching2.addRecruitment(saveRecruitment1);
-        matching2.addMember(saveMember2);
+        RecruitmentSearchCondition condition = RecruitmentSearchCondition.of(
+                "The Bahamas", "2023-01-04", "2023-01-10", RecruitmentStatus.IN_PROGRESS);
 
-        Matching matching3 = StubData.MockMatching.getMatching();
-        matching3.addRecruitment(saveRecruitment1);
-        matching3.addMember(saveMember3);
-        matching3.approve();
+        // when
+        List<Recruitment> firstPage = recruitmentRepository.findAll(null, condition);
+        List<Recruitment> nextPage = recruitmentRepository.findAll(contained.getId(), condition);
 
-        Matching savedMatching1 = matchingRepository.save(matching1);
-        Matching savedMatching2 = matchingRepository.save(matching2);
-        Matching savedMatching3 = matchingRepository.save(matching3);
+        // then
+        assertAll(
+                () -> assertThat(firstPage).extracting(Recruitment::getId)
+                        .containsExactly(contained.getId(), overlapped.getId()),
+                () -> assertEquals(writer.getNickname(), firstPage.get(0).getMember().getNickname()),
+                () -> assertThat(nextPage).extracting(Recruitment::getId)
+                        .containsExactly(overlapped.getId())
+        );
+    }
 
-        saveRecruitment1.addMatching(savedMatching1);
-        saveRecruitment1.addMatching(savedMatching2);
-        saveRecruitment1.addMatching(savedMatching3);
+    @Test
+    @DisplayName("여행 시작일이 지난 모집중 동행글을 bulk update로 모집 종료 : Querydsl")
+    void recruitmentRepositoryTest6() {
+        // given
+        Member writer = memberRepository.save(StubData.MockMember.getMember());
+        Recruitment started = saveRecruitment(writer, "The Bahamas", "2023-01-01", "2023-01-05");
+        Recruitment upcoming = saveRecruitment(writer, "The Bahamas", "2023-01-10", "2023-01-15");
+        Recruitment ended = saveRecruitment(writer, "Peru", "2023-01-01", "2023-01-05");
+        ended.end();
 
         entityManager.flush();
         entityManager.clear();
-        log.info("1차 캐시 clear");
 
-        // when
-        Recruitment findRecruitment = recruitmentRepository
-                .findRecruitmentByIdAndMatchingStatus(saveRecruitment1.getId(), MatchingStatus.REQUEST).get();
+        LocalDateTime expiredBefore = TimeUtils.stringToLocalDateTime("2023-01-07");
 
-        for (Matching matching : findRecruitment.getMatchingList()) {
-            matching.getMember();
-        }
+        // when
+        List<Long> expiredIds = recruitmentRepository.findExpiredRecruitmentIds(expiredBefore, 10);
+        long endCount = recruitmentRepository.endRecruitments(expiredIds, LocalDateTime.now());
+        entityManager.clear();
 
         // then
         assertAll(
-                () -> assertEquals(findRecruitment.getId(), recruitment1.getId()),
-                () -> assertEquals(findRecruitment.getMatchingList().get(0).getMember().getNickname(), member1.getNickname()),
-                () -> assertEquals(findRecruitment.getMatchingList().get(1).getMember().getNickname(), member2.getNickname()),
-                () -> assertEquals(findRecruitment.getMatchingList().get(0).getMember().getEmail(), member1.getEmail()),
-                () -> assertEquals(findRecruitment.getMatchingList().get(1).getMember().getEmail(), member2.getEmail())
+                () -> assertThat(expiredIds).containsExactly(started.getId()),
+                () -> assertEquals(1L, endCount),
+                () -> assertEquals(RecruitmentStatus.END,
+                        recruitmentRepository.findById(started.getId()).get().getRecruitmentStatus()),
+                () -> assertEquals(RecruitmentStatus.IN_PROGRESS,
+                        recruitmentRepository.findById(upcoming.getId()).get().getRecruitmentStatus())
         );
-        assertThatThrownBy(() -> findRecruitment.getMatchingList().get(2)).isInstanceOf(IndexOutOfBoundsException.class);
     }
 
     @Test
-    @DisplayName("동행글 id 조회 시 매칭이 없는 경우 (Matching Join) : Querydsl")
-    void recruitmentRepositoryTest6() {
+    @DisplayName("매칭 상태별 인원 수를 update로 갱신하고 엔티티 변경이 인원 수를 덮어쓰지 않음 : Querydsl")
+    void recruitmentRepositoryTest7() {
         // given
-        Member writer = StubData.MockMember.getMember();
-        Member member1 = StubData.MockMember.getMemberByEmailAndNickname("kkd718@naver.com","멤버1");
-        Member member2 = StubData.MockMember.getMemberByEmailAndNickname("dhfif718@naver.com", "멤버2");
-        Member member3 = StubData.MockMember.getMemberByEmailAndNickname("hama@naver.com", "멤버3");
-
-        Member savedWriter = memberRepository.save(writer);
-        memberRepository.save(member1);
-        memberRepository.save(member2);
-        memberRepository.save(member3);
-
-        Recruitment recruitment1 = StubData.MockRecruitment.getRecruitment();
-        recruitment1.addMember(savedWriter);
-        Recruitment saveRecruitment1 = recruitmentRepository.save(recruitment1);
-
+        Member writer = memberRepository.save(StubData.MockMember.getMember());
+        Recruitment saveRecruitment = saveRecruitment(writer, "The Bahamas", "2023-01-01", "2023-01-05");
+        Long recruitmentId = saveRecruitment.getId();
         entityManager.flush();
         entityManager.clear();
-        log.info("1차 캐시 clear");
 
         // when
-        Optional<Recruitment> findRecruitment = recruitmentRepository
-                .findRecruitmentByIdAndMatchingStatus(saveRecruitment1.getId(), MatchingStatus.REQUEST);
+        Recruitment staleRecruitment = recruitmentRepository.findById(recruitmentId).get();
+        recruitmentRepository.changeMatchingCount(recruitmentId, null, MatchingStatus.REQUEST);
+        recruitmentRepository.changeMatchingCount(recruitmentId, null, MatchingStatus.REQUEST);
+        recruitmentRepository.changeMatchingCount(recruitmentId, MatchingStatus.REQUEST, MatchingStatus.APPROVE);
+        recruitmentRepository.changeMatchingCount(recruitmentId, MatchingStatus.REJECT, MatchingStatus.CANCEL);
+        staleRecruitment.end();
+        entityManager.flush();
+        entityManager.clear();
 
         // then
-        assertThatThrownBy(() -> findRecruitment.get()).isInstanceOf(NoSuchElementException.class);
+        Recruitment findRecruitment = recruitmentRepository.findById(recruitmentId).get();
+        assertAll(
+                () -> assertEquals(1L, findRecruitment.getRequestedCount()),
+                () -> assertEquals(1L, findRecruitment.getApprovedCount()),
+                () -> assertEquals(0L, findRecruitment.getRejectedCount()),
+                () -> assertEquals(1L, findRecruitment.getCancelledCount()),
+                () -> assertEquals(RecruitmentStatus.END, findRecruitment.getRecruitmentStatus())
+        );
+    }
+
+    private Recruitment saveRecruitment(Member writer, String travelNationality,
+                                        String travelStartDate, String travelEndDate) {
+        Recruitment recruitment = Recruitment.builder()
+                .title("title")
+                .content("content")
+                .travelNationality(travelNationality)
+                .travelStartDate(TimeUtils.stringToLocalDateTime(travelStartDate))
+                .travelEndDate(TimeUtils.stringToLocalDateTime(travelEndDate))
+                .recruitmentStatus(RecruitmentStatus.IN_PROGRESS)
+                .deletionEntity(new DeletionEntity(false, null))
+                .build();
+
+        return recruitmentRepository.save(recruitment.addMember(writer));
     }
 }
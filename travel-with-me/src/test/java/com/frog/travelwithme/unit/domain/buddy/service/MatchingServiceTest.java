@@ -10,17 +10,21 @@ import com.frog.travelwithme.domain.buddy.mapper.RecruitmentMapper;
 import com.frog.travelwithme.domain.buddy.repository.RecruitmentRepository;
 import com.frog.travelwithme.domain.buddy.service.RecruitmentService;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.global.exception.ExceptionCode;
 import com.frog.travelwithme.utils.StubData;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.Optional;
 
+import static com.frog.travelwithme.global.enums.EnumCollection.MatchingStatus;
 import static com.frog.travelwithme.global.enums.EnumCollection.ResponseBody;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -28,6 +32,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -99,6 +106,7 @@ class MatchingServiceTest {
         when(memberService.findMember(member.getEmail())).thenReturn(member);
         when(matchingRepository.findMatchingByMemberAndRecruitment(any(),any()))
                 .thenReturn(Optional.of(matching));
+        when(matchingRepository.compareAndSetStatus(any(), any(), any())).thenReturn(true);
 
 
         //when
@@ -153,6 +161,7 @@ class MatchingServiceTest {
         when(memberService.findMember(member.getEmail())).thenReturn(member);
         when(matchingRepository.findMatchingByMemberAndRecruitment(any(),any()))
                 .thenReturn(Optional.of(matching));
+        when(matchingRepository.compareAndSetStatus(any(), any(), any())).thenReturn(true);
 
 
         //when
@@ -228,6 +237,7 @@ class MatchingServiceTest {
         when(recruitmentService.findRecruitmentAndCheckEqualWriterAndUserAndCheckExpired(recruitment.getId(), writer.getEmail()))
                 .thenReturn(recruitment);
         when(matchingRepository.findById(matching.getId())).thenReturn(Optional.of(matching));
+        when(matchingRepository.compareAndSetStatus(any(), any(), any())).thenReturn(true);
 
 
         //when
@@ -335,6 +345,7 @@ class MatchingServiceTest {
         when(recruitmentService.findRecruitmentAndCheckEqualWriterAndUserAndCheckExpired(recruitment.getId(), writer.getEmail()))
                 .thenReturn(recruitment);
         when(matchingRepository.findById(matching.getId())).thenReturn(Optional.of(matching));
+        when(matchingRepository.compareAndSetStatus(any(), any(), any())).thenReturn(true);
 
 
         //when
@@ -424,4 +435,85 @@ class MatchingServiceTest {
                         .rejectMatchingByEmail(recruitment.getId(), writer.getEmail(), matching.getId()))
                 .isInstanceOf(BusinessLogicException.class);
     }
+
+    @Test
+    @DisplayName("동행 매칭신청 후 승인하면 모집글의 상태별 인원 수가 함께 변경됨")
+    void matchingServiceTest15() {
+        //given
+        Recruitment recruitment = StubData.MockRecruitment.getRecruitment();
+        Member writer = StubData.MockMember.getMember();
+        Member user = StubData.MockMember.getMember();
+        recruitment.addMember(writer);
+
+        when(recruitmentService.findRecruitmentByIdAndCheckExpired(recruitment.getId())).thenReturn(recruitment);
+        when(memberService.findMember(user.getEmail())).thenReturn(user);
+        when(matchingRepository.findMatchingByMemberAndRecruitment(any(), any())).thenReturn(Optional.empty());
+        when(recruitmentService.findRecruitmentAndCheckEqualWriterAndUserAndCheckExpired(recruitment.getId(), writer.getEmail()))
+                .thenReturn(recruitment);
+
+        //when
+        matchingService.requestMatchingByEmail(recruitment.getId(), user.getEmail());
+        Matching matching = recruitment.getMatchingList().get(0);
+        when(matchingRepository.findById(matching.getId())).thenReturn(Optional.of(matching));
+        when(matchingRepository.compareAndSetStatus(any(), any(), any())).thenReturn(true);
+        matchingService.approveMatchingByEmail(recruitment.getId(), writer.getEmail(), matching.getId());
+
+        //then
+        verify(recruitmentRepository).changeMatchingCount(recruitment.getId(), null, MatchingStatus.REQUEST);
+        verify(recruitmentRepository)
+                .changeMatchingCount(recruitment.getId(), MatchingStatus.REQUEST, MatchingStatus.APPROVE);
+    }
+
+    @Test
+    @DisplayName("동행 매칭승인 (다른 요청이 먼저 상태를 변경함)")
+    void matchingServiceTest16() {
+        //given
+        Recruitment recruitment = StubData.MockRecruitment.getRecruitment();
+        Member writer = StubData.MockMember.getMember();
+        Member user = StubData.MockMember.getMember();
+        recruitment.addMember(writer);
+
+        Matching matching = StubData.MockMatching.getMatching();
+        matching.addMember(user);
+        matching.addRecruitment(recruitment);
+        matching.request();
+
+        when(recruitmentService.findRecruitmentAndCheckEqualWriterAndUserAndCheckExpired(recruitment.getId(), writer.getEmail()))
+                .thenReturn(recruitment);
+        when(matchingRepository.findById(matching.getId())).thenReturn(Optional.of(matching));
+        when(matchingRepository.compareAndSetStatus(matching.getId(), MatchingStatus.REQUEST, MatchingStatus.APPROVE))
+                .thenReturn(false);
+
+        //when
+        //then
+        assertThatThrownBy(() -> matchingService.approveMatchingByEmail(recruitment.getId(), writer.getEmail(), matching.getId()))
+                .isInstanceOf(BusinessLogicException.class)
+                .hasMessage(ExceptionCode.CONCURRENT_MODIFICATION.getMessage());
+        assertEquals(MatchingStatus.REQUEST, matching.getStatus());
+        verify(recruitmentRepository, never()).changeMatchingCount(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("동행 매칭신청 (동시에 들어온 신청이 먼저 저장됨)")
+    void matchingServiceTest17() {
+        //given
+        Recruitment recruitment = StubData.MockRecruitment.getRecruitment();
+        Member member = StubData.MockMember.getMember();
+
+        when(recruitmentService.findRecruitmentByIdAndCheckExpired(recruitment.getId())).thenReturn(recruitment);
+        when(memberService.findMember(member.getEmail())).thenReturn(member);
+        when(matchingRepository.findMatchingByMemberAndRecruitment(any(), any())).thenReturn(Optional.empty());
+        when(matchingRepository.saveAndFlush(any())).thenThrow(DataIntegrityViolationException.class);
+
+        //when
+        //then
+        assertThatThrownBy(() -> matchingService.requestMatchingByEmail(recruitment.getId(), member.getEmail()))
+                .isInstanceOf(BusinessLogicException.class)
+                .hasMessage(ExceptionCode.MATCHING_DUPLICATE_REQUEST.getMessage());
+        // 인원 수 갱신은 예외로 트랜잭션이 롤백되면서 함께 취소됨
+        assertEquals(0, recruitment.getMatchingList().size());
+        InOrder inOrder = inOrder(recruitmentRepository, matchingRepository);
+        inOrder.verify(recruitmentRepository).changeMatchingCount(recruitment.getId(), null, MatchingStatus.REQUEST);
+        inOrder.verify(matchingRepository).saveAndFlush(any());
+    }
 }
@@ -0,0 +1,101 @@
+package com.frog.travelwithme.unit.domain.buddy.service;
+
+import com.frog.travelwithme.domain.buddy.service.RecruitmentExpiryScheduler;
+import com.frog.travelwithme.domain.buddy.service.RecruitmentExpiryService;
+import com.frog.travelwithme.global.redis.RedisLockService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/15
+ **/
+@ExtendWith(MockitoExtension.class)
+class RecruitmentExpirySchedulerTest {
+
+    private static final String EXPIRY_LOCK_KEY = "RecruitmentExpiryLock";
+
+    @Mock
+    private RecruitmentExpiryService recruitmentExpiryService;
+
+    @Mock
+    private RedisLockService redisLockService;
+
+    private MeterRegistry meterRegistry;
+
+    private RecruitmentExpiryScheduler recruitmentExpiryScheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        recruitmentExpiryScheduler = new RecruitmentExpiryScheduler(
+                recruitmentExpiryService, redisLockService, meterRegistry, 2);
+    }
+
+    @Test
+    @DisplayName("락을 잡으면 chunk보다 적게 처리될 때까지 반복하고 락을 해제")
+    void recruitmentExpirySchedulerTest1() {
+        // given
+        given(redisLockService.tryLock(eq(EXPIRY_LOCK_KEY), any(Duration.class))).willReturn(Optional.of("token"));
+        given(recruitmentExpiryService.expire(any(LocalDateTime.class), anyInt())).willReturn(2L, 2L, 1L);
+
+        // when
+        recruitmentExpiryScheduler.expire();
+
+        // then
+        verify(recruitmentExpiryService, times(3)).expire(any(LocalDateTime.class), eq(2));
+        verify(redisLockService).unlock(EXPIRY_LOCK_KEY, "token");
+        assertEquals(5.0, meterRegistry.get("recruitment.expiry.rows").counter().count());
+        assertEquals(1L, meterRegistry.get("recruitment.expiry").timer().count());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 락을 잡고 있으면 만료 처리를 하지 않음")
+    void recruitmentExpirySchedulerTest2() {
+        // given
+        given(redisLockService.tryLock(eq(EXPIRY_LOCK_KEY), any(Duration.class))).willReturn(Optional.empty());
+
+        // when
+        recruitmentExpiryScheduler.expire();
+
+        // then
+        verify(recruitmentExpiryService, never()).expire(any(LocalDateTime.class), anyInt());
+        verify(redisLockService, never()).unlock(any(), any());
+    }
+
+    @Test
+    @DisplayName("만료 처리 중 예외가 발생해도 락을 해제")
+    void recruitmentExpirySchedulerTest3() {
+        // given
+        given(redisLockService.tryLock(eq(EXPIRY_LOCK_KEY), any(Duration.class))).willReturn(Optional.of("token"));
+        given(recruitmentExpiryService.expire(any(LocalDateTime.class), anyInt()))
+                .willThrow(new IllegalStateException("database unavailable"));
+
+        // when
+        recruitmentExpiryScheduler.expire();
+
+        // then
+        verify(redisLockService).unlock(EXPIRY_LOCK_KEY, "token");
+        assertEquals(0.0, meterRegistry.get("recruitment.expiry.rows").counter().count());
+    }
+}
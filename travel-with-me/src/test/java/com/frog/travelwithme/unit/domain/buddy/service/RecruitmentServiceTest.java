@@ -4,6 +4,7 @@ import com.frog.travelwithme.domain.buddy.controller.dto.BuddyDto;
 import com.frog.travelwithme.domain.buddy.entity.Matching;
 import com.frog.travelwithme.domain.buddy.entity.Recruitment;
 import com.frog.travelwithme.domain.buddy.mapper.RecruitmentMapper;
+import com.frog.travelwithme.domain.buddy.repository.MatchingRepository;
 import com.frog.travelwithme.domain.buddy.repository.RecruitmentRepository;
 import com.frog.travelwithme.domain.buddy.service.RecruitmentService;
 import com.frog.travelwithme.domain.member.entity.Member;
@@ -45,6 +46,9 @@ class RecruitmentServiceTest {
     @Mock
     protected RecruitmentRepository recruitmentRepository;
 
+    @Mock
+    protected MatchingRepository matchingRepository;
+
     @Mock
     protected RecruitmentMapper recruitmentMapper;
 
@@ -199,14 +203,13 @@ class RecruitmentServiceTest {
         Long recruitmentId = recruitment.getId();
 
 
-        when(recruitmentRepository.findRecruitmentByIdAndMatchingStatus(recruitmentId, MatchingStatus.REQUEST))
-                .thenReturn(Optional.of(recruitment));
-        when(recruitmentMapper.toMatchingMemberResponseBuddyDtoList(recruitment.getMatchingList()))
+        when(recruitmentRepository.findById(recruitmentId)).thenReturn(Optional.of(recruitment));
+        when(matchingRepository.findMatchingMembers(recruitmentId, MatchingStatus.REQUEST, null))
                 .thenReturn(matchingMemberResponseList);
 
         //when
          List<BuddyDto.MatchingMemberResponse> response
-                 = recruitmentService.getMatchingRequestMemberList(recruitmentId);
+                 = recruitmentService.getMatchingRequestMemberList(recruitmentId, null);
 
         //then
         assertThat(response.size()).isEqualTo(3);
@@ -223,13 +226,12 @@ class RecruitmentServiceTest {
         recruitment.end();
         Long recruitmentId = recruitment.getId();
 
-        when(recruitmentRepository.findRecruitmentByIdAndMatchingStatus(recruitmentId, MatchingStatus.REQUEST))
-                .thenReturn(Optional.of(recruitment));
+        when(recruitmentRepository.findById(recruitmentId)).thenReturn(Optional.of(recruitment));
 
         //when
         //then
         assertThatThrownBy(
-                () -> recruitmentService.getMatchingRequestMemberList(recruitmentId)
+                () -> recruitmentService.getMatchingRequestMemberList(recruitmentId, null)
         ).isInstanceOf(BusinessLogicException.class);
     }
 
@@ -240,13 +242,12 @@ class RecruitmentServiceTest {
         Recruitment recruitment = StubData.MockRecruitment.getRecruitment();
         Long recruitmentId = recruitment.getId();
 
-        when(recruitmentRepository.findRecruitmentByIdAndMatchingStatus(recruitmentId, MatchingStatus.REQUEST))
-                .thenReturn(Optional.empty());
+        when(recruitmentRepository.findById(recruitmentId)).thenReturn(Optional.empty());
 
         //when
         //then
         assertThatThrownBy(
-                () -> recruitmentService.getMatchingRequestMemberList(recruitmentId)
+                () -> recruitmentService.getMatchingRequestMemberList(recruitmentId, null)
         ).isInstanceOf(BusinessLogicException.class);
     }
 
@@ -282,14 +283,13 @@ class RecruitmentServiceTest {
         Long recruitmentId = recruitment.getId();
 
 
-        when(recruitmentRepository.findRecruitmentByIdAndMatchingStatus(recruitmentId, MatchingStatus.APPROVE))
-                .thenReturn(Optional.of(recruitment));
-        when(recruitmentMapper.toMatchingMemberResponseBuddyDtoList(recruitment.getMatchingList()))
+        when(recruitmentRepository.findById(recruitmentId)).thenReturn(Optional.of(recruitment));
+        when(matchingRepository.findMatchingMembers(recruitmentId, MatchingStatus.APPROVE, null))
                 .thenReturn(matchingMemberResponseList);
 
         //when
         List<BuddyDto.MatchingMemberResponse> response
-                = recruitmentService.getMatchingApprovedMemberList(recruitmentId);
+                = recruitmentService.getMatchingApprovedMemberList(recruitmentId, null);
 
         //then
         assertThat(response.size()).isEqualTo(3);
@@ -306,13 +306,12 @@ class RecruitmentServiceTest {
         recruitment.end();
         Long recruitmentId = recruitment.getId();
 
-        when(recruitmentRepository.findRecruitmentByIdAndMatchingStatus(recruitmentId, MatchingStatus.APPROVE))
-                .thenReturn(Optional.of(recruitment));
+        when(recruitmentRepository.findById(recruitmentId)).thenReturn(Optional.of(recruitment));
 
         //when
         //then
         assertThatThrownBy(
-                () -> recruitmentService.getMatchingApprovedMemberList(recruitmentId)
+                () -> recruitmentService.getMatchingApprovedMemberList(recruitmentId, null)
         ).isInstanceOf(BusinessLogicException.class);
     }
 
@@ -323,13 +322,12 @@ class RecruitmentServiceTest {
         Recruitment recruitment = StubData.MockRecruitment.getRecruitment();
         Long recruitmentId = recruitment.getId();
 
-        when(recruitmentRepository.findRecruitmentByIdAndMatchingStatus(recruitmentId, MatchingStatus.APPROVE))
-                .thenReturn(Optional.empty());
+        when(recruitmentRepository.findById(recruitmentId)).thenReturn(Optional.empty());
 
         //when
         //then
         assertThatThrownBy(
-                () -> recruitmentService.getMatchingApprovedMemberList(recruitmentId)
+                () -> recruitmentService.getMatchingApprovedMemberList(recruitmentId, null)
         ).isInstanceOf(BusinessLogicException.class);
     }
 }
@@ -0,0 +1,240 @@
+package com.frog.travelwithme.unit.domain.feed.repository;
+
+import com.frog.travelwithme.domain.feed.controller.dto.FeedDto;
+import com.frog.travelwithme.domain.feed.entity.Feed;
+import com.frog.travelwithme.domain.feed.entity.FeedLike;
+import com.frog.travelwithme.domain.feed.entity.Tag;
+import com.frog.travelwithme.domain.feed.mapper.FeedMapper;
+import com.frog.travelwithme.domain.feed.repository.FeedLikeRepository;
+import com.frog.travelwithme.domain.feed.repository.FeedRepository;
+import com.frog.travelwithme.domain.feed.repository.TagRepository;
+import com.frog.travelwithme.domain.feed.service.FeedViewerRelationService;
+import com.frog.travelwithme.domain.member.entity.Follow;
+import com.frog.travelwithme.domain.member.entity.Member;
+import com.frog.travelwithme.domain.member.repository.FollowRepository;
+import com.frog.travelwithme.domain.member.repository.MemberRepository;
+import com.frog.travelwithme.global.config.QuerydslConfig;
+import com.frog.travelwithme.utils.StubData;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.persistence.EntityManager;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/02
+ **/
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.query.fail_on_pagination_over_collection_fetch=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+@ActiveProfiles("test")
+@Import(QuerydslConfig.class)
+@ExtendWith(SpringExtension.class)
+class FeedRepositoryTest {
+
+    private static final int FEED_COUNT = 25;
+
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    protected EntityManager entityManager;
+
+    @Autowired
+    protected FeedRepository feedRepository;
+
+    @Autowired
+    protected TagRepository tagRepository;
+
+    @Autowired
+    protected MemberRepository memberRepository;
+
+    @Autowired
+    protected FeedLikeRepository feedLikeRepository;
+
+    @Autowired
+    protected FollowRepository followRepository;
+
+    private Member member;
+
+    @BeforeEach
+    void beforeEach() {
+        member = memberRepository.save(StubData.MockMember.getMember());
+        Tag firstTag = tagRepository.save(new Tag(StubData.MockFeed.getTagName() + "1"));
+        Tag secondTag = tagRepository.save(new Tag(StubData.MockFeed.getTagName() + "2"));
+        Set<Tag> tags = new LinkedHashSet<>(List.of(firstTag, secondTag));
+        for (int i = 0; i < FEED_COUNT; i++) {
+            feedRepository.save(StubData.MockFeed.getFeed(member, tags));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("피드 전체 조회 시 태그 수와 관계없이 20개씩 id 내림차순으로 조회")
+    void feedRepositoryTest1() {
+        // when
+        List<Feed> firstPage = feedRepository.findAll(null, member.getEmail());
+        Long lastFeedId = firstPage.get(firstPage.size() - 1).getId();
+        List<Feed> secondPage = feedRepository.findAll(lastFeedId, member.getEmail());
+
+        // then
+        List<Long> firstPageIds = firstPage.stream().map(Feed::getId).collect(Collectors.toList());
+        assertAll(
+                () -> assertEquals(PAGE_SIZE, firstPage.size()),
+                () -> assertThat(firstPageIds).isSortedAccordingTo((a, b) -> Long.compare(b, a)),
+                () -> assertEquals(FEED_COUNT - PAGE_SIZE, secondPage.size()),
+                () -> assertThat(secondPage).allMatch(feed -> feed.getId() < lastFeedId)
+        );
+    }
+
+    @Test
+    @DisplayName("닉네임으로 피드 조회 시 페이지 크기 유지")
+    void feedRepositoryTest2() {
+        // when
+        List<Feed> feeds = feedRepository.findAllByNickname(null, member.getNickname(), member.getEmail());
+
+        // then
+        assertAll(
+                () -> assertEquals(PAGE_SIZE, feeds.size()),
+                () -> assertThat(feeds).allMatch(feed -> feed.getMember().getNickname().equals(member.getNickname()))
+        );
+    }
+
+    @Test
+    @DisplayName("태그 이름으로 피드 조회 시 피드의 모든 태그 함께 조회")
+    void feedRepositoryTest3() {
+        // given
+        String tagName = StubData.MockFeed.getTagName() + "1";
+
+        // when
+        List<Feed> feeds = feedRepository.findAllByTagName(null, tagName, member.getEmail());
+
+        // then
+        assertAll(
+                () -> assertEquals(PAGE_SIZE, feeds.size()),
+                () -> assertThat(feeds).allMatch(feed -> feed.getTags().size() == 2)
+        );
+    }
+
+    @Test
+    @DisplayName("좋아요한 피드 id 목록을 한 번에 조회하고 같은 회원의 중복 좋아요는 저장 불가")
+    void feedRepositoryTest4() {
+        // given
+        List<Feed> feeds = feedRepository.findAll(null, member.getEmail());
+        Feed likedFeed = feeds.get(0);
+        Member saveMember = memberRepository.findByEmail(member.getEmail()).orElseThrow();
+        feedLikeRepository.saveAndFlush(FeedLike.builder().feed(likedFeed).member(saveMember).build());
+        List<Long> feedIds = feeds.stream().map(Feed::getId).collect(Collectors.toList());
+
+        // when
+        List<Long> likedFeedIds = feedLikeRepository.findLikedFeedIds(feedIds, member.getEmail());
+
+        // then
+        assertAll(
+                () -> assertEquals(List.of(likedFeed.getId()), likedFeedIds),
+                () -> assertThrows(DataIntegrityViolationException.class, () -> feedLikeRepository.saveAndFlush(
+                        FeedLike.builder().feed(likedFeed).member(saveMember).build()))
+        );
+    }
+
+    @Test
+    @DisplayName("피드 목록 응답 생성 시 페이지 크기와 관계없이 일정한 수의 쿼리로 좋아요, 팔로우 여부 조회")
+    void feedRepositoryTest5() {
+        // given
+        Member writer = memberRepository.findByEmail(member.getEmail()).orElseThrow();
+        Member viewer = memberRepository.save(
+                StubData.MockMember.getMemberByEmailAndNickname("viewer@gmail.com", "viewer"));
+        followRepository.save(Follow.builder().follower(viewer).following(writer).build());
+        Feed likedFeed = feedRepository.findAll(null, viewer.getEmail()).get(0);
+        feedLikeRepository.save(FeedLike.builder().feed(likedFeed).member(viewer).build());
+        entityManager.flush();
+        entityManager.clear();
+        FeedMapper feedMapper = Mappers.getMapper(FeedMapper.class);
+        FeedViewerRelationService feedViewerRelationService =
+                new FeedViewerRelationService(feedLikeRepository, followRepository);
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // when
+        List<Feed> feeds = feedRepository.findAll(null, viewer.getEmail());
+        List<FeedDto.Response> responses = feedMapper.toResponseList(feeds, viewer.getEmail(),
+                feedViewerRelationService.findRelation(feeds, viewer.getEmail()));
+
+        // then
+        // 피드 id 조회, 피드 fetch join 조회, 좋아요 id 조회, 팔로우 email 조회
+        assertAll(
+                () -> assertEquals(PAGE_SIZE, responses.size()),
+                () -> assertEquals(4, statistics.getPrepareStatementCount()),
+                () -> assertThat(responses).allMatch(FeedDto.Response::isFollowing),
+                () -> assertThat(responses).filteredOn(FeedDto.Response::isLiked)
+                        .extracting(FeedDto.Response::getId)
+                        .containsExactly(likedFeed.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("피드 작성자 email만 조회")
+    void feedRepositoryTest6() {
+        // given
+        Long feedId = feedRepository.findRecentFeedIds(1).get(0);
+
+        // when
+        Optional<String> writerEmail = feedRepository.findWriterEmailById(feedId);
+        Optional<String> notExistWriterEmail = feedRepository.findWriterEmailById(feedId + 1);
+
+        // then
+        assertAll(
+                () -> assertEquals(Optional.of(member.getEmail()), writerEmail),
+                () -> assertThat(notExistWriterEmail).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("태그 사용 횟수는 감소해도 0 미만으로 내려가지 않음")
+    void feedRepositoryTest7() {
+        // given
+        Tag savedTag = tagRepository.save(new Tag(StubData.MockFeed.getTagName() + "3"));
+        List<Long> tagIds = List.of(savedTag.getId());
+
+        // when
+        long increasedCount = tagRepository.increaseUsageCounts(tagIds, 1);
+        long firstDecreasedCount = tagRepository.increaseUsageCounts(tagIds, -1);
+        long secondDecreasedCount = tagRepository.increaseUsageCounts(tagIds, -1);
+        entityManager.clear();
+
+        // then
+        Tag tag = tagRepository.findById(savedTag.getId()).orElseThrow();
+        assertAll(
+                () -> assertEquals(1, increasedCount),
+                () -> assertEquals(1, firstDecreasedCount),
+                () -> assertEquals(0, secondDecreasedCount),
+                () -> assertEquals(0L, tag.getUsageCount())
+        );
+    }
+}
@@ -0,0 +1,190 @@
+package com.frog.travelwithme.unit.domain.feed.service;
+
+import com.frog.travelwithme.domain.feed.controller.dto.FeedDto;
+import com.frog.travelwithme.domain.feed.repository.FeedLikeRepository;
+import com.frog.travelwithme.domain.feed.service.FeedLikeBufferService;
+import com.frog.travelwithme.domain.feed.service.dto.FeedLikeDelta;
+import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.global.exception.ExceptionCode;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/15
+ **/
+@Slf4j
+@SpringBootTest(properties = "feed.like.flush.enabled=false")
+@ActiveProfiles("test")
+class FeedLikeBufferServiceTest {
+
+    private static final long FEED_ID = Long.MAX_VALUE;
+
+    private static final String EMAIL = "buffer@gmail.com";
+
+    @Autowired
+    private FeedLikeBufferService feedLikeBufferService;
+
+    @MockBean
+    private FeedLikeRepository feedLikeRepository;
+
+    @AfterEach
+    void tearDown() {
+        // 남아 있는 inflight를 먼저 지워야 새 변경분도 drain 할 수 있음
+        feedLikeBufferService.complete(List.of(FeedLikeDelta.builder().feedId(FEED_ID).build()));
+        feedLikeBufferService.complete(feedLikeBufferService.drain(Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("좋아요는 Redis에 먼저 기록되고 같은 회원의 중복 좋아요는 예외 발생")
+    void feedLikeBufferServiceTest1() {
+        // given
+        when(feedLikeRepository.existsByFeedIdAndMemberEmail(anyLong(), anyString())).thenReturn(false);
+        feedLikeBufferService.doLike(EMAIL, FEED_ID);
+
+        // when // then
+        assertThatThrownBy(() -> feedLikeBufferService.doLike(EMAIL, FEED_ID))
+                .isInstanceOf(BusinessLogicException.class)
+                .hasMessage(ExceptionCode.ALREADY_LIKED_FEED.getMessage());
+        FeedDto.Response response = feedLikeBufferService.applyPendingLikes(
+                FeedDto.Response.builder().id(FEED_ID).likeCount(0).build(), EMAIL);
+        assertAll(
+                () -> assertEquals(1, response.getLikeCount()),
+                () -> assertTrue(response.isLiked())
+        );
+    }
+
+    @Test
+    @DisplayName("DB에 반영된 좋아요 취소 후 변경분을 한 번에 가져오면 버퍼는 비워짐")
+    void feedLikeBufferServiceTest2() {
+        // given
+        when(feedLikeRepository.existsByFeedIdAndMemberEmail(anyLong(), anyString())).thenReturn(true);
+        feedLikeBufferService.cancelLike(EMAIL, FEED_ID);
+
+        // when
+        List<FeedLikeDelta> feedLikeDeltas = feedLikeBufferService.drain(Integer.MAX_VALUE);
+
+        // then
+        assertThat(feedLikeDeltas).hasSize(1);
+        FeedLikeDelta feedLikeDelta = feedLikeDeltas.get(0);
+        assertAll(
+                () -> assertEquals(FEED_ID, feedLikeDelta.getFeedId()),
+                () -> assertEquals(-1, feedLikeDelta.getDelta()),
+                () -> assertEquals(Set.of(EMAIL), feedLikeDelta.getRemovedEmails()),
+                () -> assertTrue(feedLikeDelta.getAddedEmails().isEmpty()),
+                () -> assertEquals(0, feedLikeBufferService.getBacklogSize())
+        );
+    }
+
+    @Test
+    @DisplayName("반영 실패로 lease를 만료시킨 inflight 변경분은 다음 실행에서 다시 가져옴")
+    void feedLikeBufferServiceTest3() {
+        // given
+        when(feedLikeRepository.existsByFeedIdAndMemberEmail(anyLong(), anyString())).thenReturn(false);
+        feedLikeBufferService.doLike(EMAIL, FEED_ID);
+        List<FeedLikeDelta> feedLikeDeltas = feedLikeBufferService.drain(Integer.MAX_VALUE);
+        List<FeedLikeDelta> claimedBeforeRelease = feedLikeBufferService.claimExpiredInflight(Integer.MAX_VALUE);
+
+        // when
+        feedLikeBufferService.release(feedLikeDeltas);
+
+        // then
+        List<FeedLikeDelta> claimedDeltas = feedLikeBufferService.claimExpiredInflight(Integer.MAX_VALUE);
+        assertAll(
+                () -> assertTrue(claimedBeforeRelease.isEmpty()),
+                () -> assertEquals(1, claimedDeltas.size()),
+                () -> assertEquals(1, claimedDeltas.get(0).getDelta()),
+                () -> assertEquals(Set.of(EMAIL), claimedDeltas.get(0).getAddedEmails())
+        );
+    }
+
+    @Test
+    @DisplayName("반영 중인 inflight가 있으면 새 변경분은 커밋 후 다음 실행에서 가져옴")
+    void feedLikeBufferServiceTest4() {
+        // given
+        when(feedLikeRepository.existsByFeedIdAndMemberEmail(anyLong(), anyString())).thenReturn(false);
+        feedLikeBufferService.doLike(EMAIL, FEED_ID);
+        List<FeedLikeDelta> inflightDeltas = feedLikeBufferService.drain(Integer.MAX_VALUE);
+        feedLikeBufferService.doLike("other@gmail.com", FEED_ID);
+
+        // when
+        List<FeedLikeDelta> drainedWhileInflight = feedLikeBufferService.drain(Integer.MAX_VALUE);
+        feedLikeBufferService.complete(inflightDeltas);
+        List<FeedLikeDelta> drainedAfterComplete = feedLikeBufferService.drain(Integer.MAX_VALUE);
+
+        // then
+        assertAll(
+                () -> assertTrue(drainedWhileInflight.isEmpty()),
+                () -> assertEquals(1, drainedAfterComplete.size()),
+                () -> assertEquals(Set.of("other@gmail.com"), drainedAfterComplete.get(0).getAddedEmails())
+        );
+    }
+
+    @Test
+    @DisplayName("DB 조회 후 반영이 커밋되면 DB를 다시 조회하여 중복 좋아요를 막음")
+    void feedLikeBufferServiceTest5() {
+        // given
+        when(feedLikeRepository.existsByFeedIdAndMemberEmail(anyLong(), anyString())).thenReturn(false);
+        feedLikeBufferService.doLike(EMAIL, FEED_ID);
+        List<FeedLikeDelta> inflightDeltas = feedLikeBufferService.drain(Integer.MAX_VALUE);
+        // 첫 번째 DB 조회는 커밋 전 값을 읽고, 그 직후 반영이 커밋되어 inflight가 삭제됨
+        when(feedLikeRepository.existsByFeedIdAndMemberEmail(anyLong(), anyString()))
+                .thenAnswer(invocation -> {
+                    feedLikeBufferService.complete(inflightDeltas);
+                    return false;
+                })
+                .thenReturn(true);
+
+        // when // then
+        assertThatThrownBy(() -> feedLikeBufferService.doLike(EMAIL, FEED_ID))
+                .isInstanceOf(BusinessLogicException.class)
+                .hasMessage(ExceptionCode.ALREADY_LIKED_FEED.getMessage());
+    }
+
+    @Test
+    @DisplayName("반영 중이거나 반영에 실패한 inflight 변경분도 조회 응답에 덮어씀")
+    void feedLikeBufferServiceTest6() {
+        // given
+        when(feedLikeRepository.existsByFeedIdAndMemberEmail(anyLong(), anyString())).thenReturn(false);
+        feedLikeBufferService.doLike(EMAIL, FEED_ID);
+        List<FeedLikeDelta> inflightDeltas = feedLikeBufferService.drain(Integer.MAX_VALUE);
+        FeedDto.Response databaseResponse = FeedDto.Response.builder().id(FEED_ID).likeCount(0).build();
+
+        // when
+        FeedDto.Response inflightResponse = feedLikeBufferService.applyPendingLikes(databaseResponse, EMAIL);
+        feedLikeBufferService.release(inflightDeltas);
+        FeedDto.Response releasedResponse = feedLikeBufferService.applyPendingLikes(databaseResponse, EMAIL);
+        feedLikeBufferService.cancelLike(EMAIL, FEED_ID);
+        FeedDto.Response cancelledResponse = feedLikeBufferService.applyPendingLikes(databaseResponse, EMAIL);
+
+        // then
+        assertAll(
+                () -> assertEquals(1, inflightResponse.getLikeCount()),
+                () -> assertTrue(inflightResponse.isLiked()),
+                () -> assertEquals(1, releasedResponse.getLikeCount()),
+                () -> assertTrue(releasedResponse.isLiked()),
+                () -> assertEquals(0, cancelledResponse.getLikeCount()),
+                () -> assertFalse(cancelledResponse.isLiked())
+        );
+    }
+}
@@ -1,13 +1,31 @@
 package com.frog.travelwithme.unit.domain.feed.service;
 
+import com.frog.travelwithme.domain.feed.controller.dto.FeedDto;
 import com.frog.travelwithme.domain.feed.mapper.FeedMapper;
 import com.frog.travelwithme.domain.feed.repository.FeedRepository;
 import com.frog.travelwithme.domain.feed.service.FeedService;
+import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.global.file.FileUploadService;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DeadlockLoserDataAccessException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class FeedServiceTest {
@@ -21,26 +39,39 @@ class FeedServiceTest {
     @Mock
     private FeedMapper feedMapper;
 
+    @Mock
+    private FileUploadService fileUploadService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @Test
+    @DisplayName("작성자가 아닌 회원이 피드를 수정하면 이미지를 업로드하기 전에 예외 발생")
     void FeedServiceTest1() throws Exception {
         // given
+        given(feedRepository.findWriterEmailById(1L)).willReturn(Optional.of("writer@gmail.com"));
 
-
-        // when
-
-
-        // then
-
+        // when // then
+        assertThatThrownBy(() -> feedService.updateFeed("other@gmail.com", 1L, null, List.of()))
+                .isInstanceOf(BusinessLogicException.class);
+        verify(fileUploadService, never()).uploadAll(anyList(), any());
     }
 
     @Test
+    @DisplayName("피드 저장 트랜잭션이 데드락으로 롤백되면 트랜잭션 전체를 다시 실행")
     void FeedServiceTest2() throws Exception {
         // given
+        FeedDto.Response response = FeedDto.Response.builder().id(1L).build();
+        given(transactionTemplate.execute(any()))
+                .willThrow(new DeadlockLoserDataAccessException("deadlock", null))
+                .willReturn(response);
 
         // when
+        FeedDto.Response savedResponse = feedService.postFeed("writer@gmail.com", null, List.of());
 
         // then
-
+        assertEquals(response, savedResponse);
+        verify(transactionTemplate, times(2)).execute(any());
     }
 
     @Test
@@ -0,0 +1,173 @@
+package com.frog.travelwithme.unit.domain.feed.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frog.travelwithme.domain.feed.controller.dto.FeedDto.Response;
+import com.frog.travelwithme.domain.feed.repository.FeedRepository;
+import com.frog.travelwithme.domain.feed.service.FeedTimelineCacheService;
+import com.frog.travelwithme.domain.feed.service.FeedViewerRelationService;
+import com.frog.travelwithme.domain.feed.service.dto.FeedViewerRelation;
+import com.frog.travelwithme.domain.member.entity.Member;
+import com.frog.travelwithme.domain.member.repository.MemberRepository;
+import com.frog.travelwithme.global.redis.RedisService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/10
+ **/
+@ExtendWith(MockitoExtension.class)
+class FeedTimelineCacheServiceTest {
+
+    private static final String WRITER_EMAIL = "writer@gmail.com";
+
+    private static final String VIEWER_EMAIL = "viewer@gmail.com";
+
+    @InjectMocks
+    private FeedTimelineCacheService feedTimelineCacheService;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private FeedRepository feedRepository;
+
+    @Mock
+    private FeedViewerRelationService feedViewerRelationService;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("캐시된 타임라인 조회 시 작성자, 좋아요, 팔로우 여부는 요청자 기준으로 설정")
+    void feedTimelineCacheServiceTest1() {
+        // given
+        when(redisService.getValues(anyString())).thenReturn("0");
+        when(redisService.checkExistsValue("0")).thenReturn(true);
+        when(redisService.getZSetReverseRangeByScore(anyString(), anyDouble(), anyLong()))
+                .thenReturn(List.of("2", "1"));
+        when(redisService.getHashOpsEntries(anyList()))
+                .thenReturn(List.of(getFeedHash(2L, VIEWER_EMAIL), getFeedHash(1L, WRITER_EMAIL)));
+        when(memberRepository.findAllByEmailIn(Set.of(VIEWER_EMAIL, WRITER_EMAIL)))
+                .thenReturn(List.of(getMember(VIEWER_EMAIL, "viewer"), getMember(WRITER_EMAIL, "writer")));
+        when(feedViewerRelationService.findRelation(List.of(2L, 1L), Set.of(VIEWER_EMAIL, WRITER_EMAIL), VIEWER_EMAIL))
+                .thenReturn(new FeedViewerRelation(Set.of(1L), Set.of(WRITER_EMAIL)));
+
+        // when
+        Optional<List<Response>> timeline = feedTimelineCacheService.findTimeline(null, VIEWER_EMAIL);
+
+        // then
+        assertThat(timeline).isPresent();
+        List<Response> responses = timeline.get();
+        assertAll(
+                () -> assertEquals(2, responses.size()),
+                () -> assertEquals(2L, responses.get(0).getId()),
+                () -> assertTrue(responses.get(0).isWriter()),
+                () -> assertFalse(responses.get(0).isLiked()),
+                () -> assertFalse(responses.get(0).isFollowing()),
+                () -> assertFalse(responses.get(1).isWriter()),
+                () -> assertTrue(responses.get(1).isLiked()),
+                () -> assertTrue(responses.get(1).isFollowing()),
+                () -> assertEquals(List.of("tagName1", "tagName2"), responses.get(1).getTags()),
+                () -> assertEquals("writer", responses.get(1).getNickname()),
+                () -> assertEquals("writer-profile.png", responses.get(1).getProfileImage())
+        );
+    }
+
+    @Test
+    @DisplayName("타임라인 캐시가 없으면 DB 조회로 넘기고 최신 피드 id로 캐시 적재")
+    void feedTimelineCacheServiceTest2() {
+        // given
+        when(redisService.getValues(anyString())).thenReturn("false");
+        when(feedRepository.findRecentFeedIds(anyInt())).thenReturn(List.of(2L, 1L));
+
+        // when
+        Optional<List<Response>> timeline = feedTimelineCacheService.findTimeline(null, VIEWER_EMAIL);
+
+        // then
+        assertThat(timeline).isEmpty();
+        verify(redisService).addZSetValues(anyString(), eq(Map.of("2", 2.0, "1", 1.0)));
+        verify(redisService).setValues(anyString(), eq("0"), any());
+    }
+
+    @Test
+    @DisplayName("캐시 범위를 벗어난 페이지는 DB 조회로 넘김")
+    void feedTimelineCacheServiceTest3() {
+        // given
+        when(redisService.getValues(anyString())).thenReturn("100");
+        when(redisService.checkExistsValue("100")).thenReturn(true);
+        when(redisService.getZSetReverseRangeByScore(anyString(), anyDouble(), anyLong()))
+                .thenReturn(List.of("101"));
+
+        // when
+        Optional<List<Response>> timeline = feedTimelineCacheService.findTimeline(102L, VIEWER_EMAIL);
+
+        // then
+        assertThat(timeline).isEmpty();
+    }
+
+    @Test
+    @DisplayName("작성자를 찾을 수 없는 피드가 있으면 DB 조회로 넘김")
+    void feedTimelineCacheServiceTest4() {
+        // given
+        when(redisService.getValues(anyString())).thenReturn("0");
+        when(redisService.checkExistsValue("0")).thenReturn(true);
+        when(redisService.getZSetReverseRangeByScore(anyString(), anyDouble(), anyLong()))
+                .thenReturn(List.of("2", "1"));
+        when(redisService.getHashOpsEntries(anyList()))
+                .thenReturn(List.of(getFeedHash(2L, VIEWER_EMAIL), getFeedHash(1L, WRITER_EMAIL)));
+        when(memberRepository.findAllByEmailIn(Set.of(VIEWER_EMAIL, WRITER_EMAIL)))
+                .thenReturn(List.of(getMember(VIEWER_EMAIL, "viewer")));
+
+        // when
+        Optional<List<Response>> timeline = feedTimelineCacheService.findTimeline(null, VIEWER_EMAIL);
+
+        // then
+        assertThat(timeline).isEmpty();
+    }
+
+    private Member getMember(String email, String nickname) {
+        return Member.builder()
+                .email(email)
+                .nickname(nickname)
+                .image(nickname + "-profile.png")
+                .build();
+    }
+
+    private Map<Object, Object> getFeedHash(long feedId, String writerEmail) {
+        Map<Object, Object> feedHash = new HashMap<>();
+        feedHash.put("id", String.valueOf(feedId));
+        feedHash.put("writerEmail", writerEmail);
+        feedHash.put("contents", "contents");
+        feedHash.put("likeCount", "0");
+        feedHash.put("commentCount", "0");
+        feedHash.put("tags", "[\"tagName1\",\"tagName2\"]");
+        feedHash.put("imageUrls", "[\"imageUrl\"]");
+
+        return feedHash;
+    }
+}
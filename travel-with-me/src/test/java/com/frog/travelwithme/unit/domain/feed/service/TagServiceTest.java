@@ -0,0 +1,131 @@
+package com.frog.travelwithme.unit.domain.feed.service;
+
+import com.frog.travelwithme.domain.feed.controller.dto.TagDto;
+import com.frog.travelwithme.domain.feed.entity.Tag;
+import com.frog.travelwithme.domain.feed.repository.TagRepository;
+import com.frog.travelwithme.domain.feed.service.TagAutocompleteService;
+import com.frog.travelwithme.domain.feed.service.TagService;
+import com.frog.travelwithme.utils.StubData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/17
+ **/
+@ExtendWith(MockitoExtension.class)
+class TagServiceTest {
+
+    private final String TAG_NAME_ONE = StubData.MockFeed.getTagName() + "1";
+
+    private final String TAG_NAME_TWO = StubData.MockFeed.getTagName() + "2";
+
+    @InjectMocks
+    private TagService tagService;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private TagAutocompleteService tagAutocompleteService;
+
+    @Test
+    @DisplayName("태그 조회 시 이름 목록을 한 번의 쿼리로 조회하고 없는 태그만 한 번에 저장")
+    void tagServiceTest1() {
+        // given
+        List<String> tagNames = List.of(TAG_NAME_ONE, TAG_NAME_TWO, TAG_NAME_ONE);
+        when(tagRepository.findAllByNameIn(List.of(TAG_NAME_ONE, TAG_NAME_TWO)))
+                .thenReturn(List.of(Tag.reference(1L, TAG_NAME_ONE)));
+        when(tagRepository.findAllByNameInForShare(List.of(TAG_NAME_TWO)))
+                .thenReturn(List.of(Tag.reference(2L, TAG_NAME_TWO)));
+
+        // when
+        Set<Tag> tags = tagService.findOrCreateTagsByName(tagNames);
+
+        // then
+        assertAll(
+                () -> assertEquals(List.of(TAG_NAME_ONE, TAG_NAME_TWO),
+                        tags.stream().map(Tag::getName).collect(Collectors.toList())),
+                () -> verify(tagRepository).insertIgnoringDuplicates(List.of(TAG_NAME_TWO))
+        );
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 태그는 캐시에서 id를 가져와 DB를 조회하지 않음")
+    void tagServiceTest2() {
+        // given
+        List<String> tagNames = List.of(TAG_NAME_ONE, TAG_NAME_TWO);
+        when(tagRepository.findAllByNameIn(tagNames))
+                .thenReturn(List.of(Tag.reference(1L, TAG_NAME_ONE), Tag.reference(2L, TAG_NAME_TWO)));
+        tagService.findOrCreateTagsByName(tagNames);
+
+        // when
+        Set<Tag> tags = tagService.findOrCreateTagsByName(tagNames);
+
+        // then
+        assertAll(
+                () -> assertEquals(List.of(1L, 2L), tags.stream().map(Tag::getId).collect(Collectors.toList())),
+                () -> verify(tagRepository, times(1)).findAllByNameIn(anyList()),
+                () -> verify(tagRepository, never()).insertIgnoringDuplicates(anyList())
+        );
+    }
+
+    @Test
+    @DisplayName("자동완성 인덱스에 접두사가 있으면 DB를 조회하지 않고, 없으면 DB에서 사용 횟수 순으로 조회")
+    void tagServiceTest3() {
+        // given
+        List<TagDto.Response> indexedTags = StubData.MockFeed.getTagResponseDtoList(2);
+        when(tagAutocompleteService.findTagsStartWith(TAG_NAME_ONE, 2)).thenReturn(Optional.of(indexedTags));
+        when(tagAutocompleteService.findTagsStartWith(TAG_NAME_TWO, 2)).thenReturn(Optional.empty());
+        when(tagRepository.findTagsStartWith(TAG_NAME_TWO, 2)).thenReturn(List.of());
+
+        // when
+        List<TagDto.Response> indexedResponses = tagService.findTagsStartWith(TAG_NAME_ONE, 2);
+        tagService.findTagsStartWith(TAG_NAME_TWO, 2);
+
+        // then
+        assertAll(
+                () -> assertEquals(indexedTags, indexedResponses),
+                () -> verify(tagRepository, never()).findTagsStartWith(TAG_NAME_ONE, 2),
+                () -> verify(tagRepository).findTagsStartWith(TAG_NAME_TWO, 2)
+        );
+    }
+
+    @Test
+    @DisplayName("새로 저장할 태그는 요청 순서와 관계없이 중복을 제거하고 이름 순으로 저장")
+    void tagServiceTest4() {
+        // given
+        List<String> tagNames = List.of(TAG_NAME_TWO, TAG_NAME_ONE, TAG_NAME_TWO);
+        when(tagRepository.findAllByNameIn(List.of(TAG_NAME_TWO, TAG_NAME_ONE))).thenReturn(List.of());
+        when(tagRepository.findAllByNameInForShare(List.of(TAG_NAME_ONE, TAG_NAME_TWO)))
+                .thenReturn(List.of(Tag.reference(1L, TAG_NAME_ONE), Tag.reference(2L, TAG_NAME_TWO)));
+
+        // when
+        Set<Tag> tags = tagService.findOrCreateTagsByName(tagNames);
+
+        // then
+        assertAll(
+                () -> assertEquals(List.of(TAG_NAME_TWO, TAG_NAME_ONE),
+                        tags.stream().map(Tag::getName).collect(Collectors.toList())),
+                () -> verify(tagRepository).insertIgnoringDuplicates(List.of(TAG_NAME_ONE, TAG_NAME_TWO))
+        );
+    }
+}
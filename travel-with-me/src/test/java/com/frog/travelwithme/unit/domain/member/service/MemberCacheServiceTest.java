@@ -0,0 +1,109 @@
+package com.frog.travelwithme.unit.domain.member.service;
+
+import com.frog.travelwithme.domain.member.service.MemberCacheService;
+import com.frog.travelwithme.domain.member.service.dto.CachedMember;
+import com.frog.travelwithme.global.redis.RedisCacheService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/13
+ **/
+@ExtendWith(MockitoExtension.class)
+class MemberCacheServiceTest {
+
+    private static final String EMAIL = "email@gmail.com";
+
+    @Mock
+    private RedisCacheService redisCacheService;
+
+    private MeterRegistry meterRegistry;
+
+    private MemberCacheService memberCacheService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        memberCacheService = new MemberCacheService(redisCacheService, meterRegistry, 60);
+    }
+
+    @Test
+    @DisplayName("Redis에서 email, id로 회원을 찾고 조회 결과별로 집계")
+    void memberCacheServiceTest1() {
+        // given
+        CachedMember cachedMember = createCachedMember();
+        given(redisCacheService.get("MemberCache:email:" + EMAIL, CachedMember.class))
+                .willReturn(Optional.of(cachedMember));
+        given(redisCacheService.get("MemberCache:id:2", CachedMember.class)).willReturn(Optional.empty());
+
+        // when
+        Optional<CachedMember> byEmail = memberCacheService.getByEmail(EMAIL);
+        Optional<CachedMember> missed = memberCacheService.getById(2L);
+
+        // then
+        assertAll(
+                () -> assertThat(byEmail).containsSame(cachedMember),
+                () -> assertThat(missed).isEmpty(),
+                () -> assertEquals(1.0, counterValue("hit")),
+                () -> assertEquals(1.0, counterValue("miss"))
+        );
+    }
+
+    @Test
+    @DisplayName("회원 캐시 삭제 시 email, id 키를 모두 Redis에서 삭제")
+    void memberCacheServiceTest2() {
+        // when
+        memberCacheService.evict(1L, EMAIL);
+
+        // then
+        // 트랜잭션 밖에서 호출하면 지금 삭제와 커밋 후 삭제가 바로 이어서 실행됨
+        verify(redisCacheService, times(2)).evict("MemberCache:email:" + EMAIL);
+        verify(redisCacheService, times(2)).evict("MemberCache:id:1");
+    }
+
+    @Test
+    @DisplayName("Redis 조회에 실패하면 캐시에 없는 것으로 처리")
+    void memberCacheServiceTest3() {
+        // given
+        given(redisCacheService.get("MemberCache:email:" + EMAIL, CachedMember.class))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        Optional<CachedMember> cachedMember = memberCacheService.getByEmail(EMAIL);
+
+        // then
+        assertAll(
+                () -> assertThat(cachedMember).isEmpty(),
+                () -> assertEquals(1.0, counterValue("miss"))
+        );
+    }
+
+    private CachedMember createCachedMember() {
+        return CachedMember.builder()
+                .id(1L)
+                .email(EMAIL)
+                .build();
+    }
+
+    private double counterValue(String result) {
+        return meterRegistry.get("member.cache").tag("result", result).counter().count();
+    }
+}
@@ -5,11 +5,15 @@ import com.frog.travelwithme.domain.member.entity.Member;
 import com.frog.travelwithme.domain.member.mapper.MemberMapper;
 import com.frog.travelwithme.domain.member.repository.MemberRepository;
 import com.frog.travelwithme.domain.member.service.InterestService;
+import com.frog.travelwithme.domain.member.service.MemberCacheService;
 import com.frog.travelwithme.domain.member.service.MemberService;
+import com.frog.travelwithme.domain.member.service.dto.CachedMember;
 import com.frog.travelwithme.global.enums.EnumCollection.AwsS3Path;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.file.FileUploadService;
 import com.frog.travelwithme.utils.StubData;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +24,7 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.persistence.EntityNotFoundException;
 import java.util.ArrayList;
 import java.util.Optional;
 
@@ -28,6 +33,11 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
 
 /**
  * 작성자: 김찬빈
@@ -55,6 +65,9 @@ class MemberServiceTest {
     @Mock
     private InterestService interestService;
 
+    @Mock
+    private MemberCacheService memberCacheService;
+
     @Test
     @DisplayName("회원가입")
     void memberServiceTest1() {
@@ -244,4 +257,58 @@ class MemberServiceTest {
         assertThat(response.getIntroduction()).isEqualTo(expectedResponse.getIntroduction());
         assertThat(response.getRole()).isEqualTo(expectedResponse.getRole());
     }
+
+    @Test
+    @DisplayName("캐시에 있는 회원은 email로 조회하지 않고 id로 참조를 반환")
+    void memberServiceTest11() {
+        // given
+        String email = "email";
+        Member member = StubData.MockMember.getMember();
+        CachedMember cachedMember = CachedMember.builder().id(1L).email(email).build();
+        given(memberCacheService.getByEmail(email)).willReturn(Optional.of(cachedMember));
+        given(memberRepository.getReferenceById(1L)).willReturn(member);
+
+        // when
+        Member findMember = memberService.findMember(email);
+
+        // then
+        assertThat(findMember).isSameAs(member);
+        verify(memberRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 회원은 조회 후 캐시에 저장")
+    void memberServiceTest12() {
+        // given
+        String email = "email";
+        Member member = StubData.MockMember.getMember();
+        given(memberRepository.findByEmail(email)).willReturn(Optional.of(member));
+
+        // when
+        Member findMember = memberService.findMember(email);
+
+        // then
+        assertThat(findMember).isSameAs(member);
+        verify(memberCacheService).put(any(CachedMember.class));
+    }
+
+    @Test
+    @DisplayName("캐시에만 남아 있고 삭제된 회원을 조회하면 캐시를 지우고 예외 발생")
+    void memberServiceTest13() {
+        // given
+        String email = "email";
+        CachedMember cachedMember = CachedMember.builder().id(1L).email(email).build();
+        LazyInitializer lazyInitializer = mock(LazyInitializer.class);
+        Member proxy = mock(Member.class, withSettings().extraInterfaces(HibernateProxy.class));
+        given(((HibernateProxy) proxy).getHibernateLazyInitializer()).willReturn(lazyInitializer);
+        willThrow(EntityNotFoundException.class).given(lazyInitializer).initialize();
+        given(proxy.getId()).willReturn(1L);
+        given(memberCacheService.getByEmail(email)).willReturn(Optional.of(cachedMember));
+        given(memberCacheService.getById(1L)).willReturn(Optional.of(cachedMember));
+        given(memberRepository.getReferenceById(1L)).willReturn(proxy);
+
+        // when // then
+        assertThrows(BusinessLogicException.class, () -> memberService.findMemberByEmail(email));
+        verify(memberCacheService).evict(1L, email);
+    }
 }
@@ -1,22 +1,37 @@
 package com.frog.travelwithme.unit.file;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
 import com.frog.travelwithme.global.enums.EnumCollection;
 import com.frog.travelwithme.global.file.AmazonS3ResourceStorage;
 import com.frog.travelwithme.utils.StubData;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.File;
 import java.net.URL;
 
+import static com.frog.travelwithme.global.config.AwsS3Config.MULTIPART_UPLOAD_THRESHOLD;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * 작성자: 김찬빈
@@ -32,6 +47,9 @@ public class AmazonS3ResourceStorageTest {
     @Mock
     private AmazonS3 amazonS3;
 
+    @Mock
+    private TransferManager transferManager;
+
     @Test
     @DisplayName("S3 파일 업로드")
     void AmazonS3ResourceStorageTest1() throws Exception {
@@ -48,4 +66,54 @@ public class AmazonS3ResourceStorageTest {
         // then
         assertThat(actualFileUrl).isEqualTo(fileUrl);
     }
+
+    @Test
+    @DisplayName("S3 파일 업로드 시 파일 크기, 타입 메타데이터를 함께 전달")
+    void AmazonS3ResourceStorageTest2() throws Exception {
+        // given
+        MockMultipartFile file = StubData.CustomMockMultipartFile.getFile();
+        given(amazonS3.getUrl(any(), any())).willReturn(new URL("http://example.com"));
+        ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+
+        // when
+        amazonS3ResourceStorage.uploadImage(file, EnumCollection.AwsS3Path.FEEDIMAGE);
+
+        // then
+        verify(amazonS3).putObject(requestCaptor.capture());
+        PutObjectRequest request = requestCaptor.getValue();
+        assertAll(
+                () -> assertEquals(file.getSize(), request.getMetadata().getContentLength()),
+                () -> assertEquals(file.getContentType(), request.getMetadata().getContentType())
+        );
+        verify(transferManager, never()).upload(any(PutObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("멀티파트 기준 크기 이상의 파일은 임시 파일로 옮겨 TransferManager로 업로드한 뒤 임시 파일 삭제")
+    void AmazonS3ResourceStorageTest3() throws Exception {
+        // given
+        MultipartFile file = mock(MultipartFile.class);
+        given(file.isEmpty()).willReturn(false);
+        given(file.getOriginalFilename()).willReturn("originalFilename.png");
+        given(file.getContentType()).willReturn(MediaType.IMAGE_PNG_VALUE);
+        given(file.getSize()).willReturn(MULTIPART_UPLOAD_THRESHOLD * 2);
+        given(transferManager.upload(any(PutObjectRequest.class))).willReturn(mock(Upload.class));
+        given(amazonS3.getUrl(any(), any())).willReturn(new URL("http://example.com"));
+        ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+
+        // when
+        amazonS3ResourceStorage.uploadImage(file, EnumCollection.AwsS3Path.FEEDIMAGE);
+
+        // then
+        verify(transferManager).upload(requestCaptor.capture());
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+        PutObjectRequest request = requestCaptor.getValue();
+        File tempFile = request.getFile();
+        assertAll(
+                () -> assertNull(request.getInputStream()),
+                () -> assertEquals(MULTIPART_UPLOAD_THRESHOLD * 2, request.getMetadata().getContentLength()),
+                () -> assertFalse(tempFile.exists())
+        );
+        verify(file).transferTo(tempFile);
+    }
 }
@@ -5,6 +5,7 @@ import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ExceptionCode;
 import com.frog.travelwithme.global.file.AmazonS3ResourceStorage;
 import com.frog.travelwithme.global.file.FileUploadService;
+import com.frog.travelwithme.global.file.ImageResizer;
 import com.frog.travelwithme.utils.StubData;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,13 +13,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 /**
  * 작성자: 김찬빈
@@ -62,4 +69,41 @@ class FileUploadServiceTest {
                 .isInstanceOf(BusinessLogicException.class)
                 .hasMessage(ExceptionCode.EXTENSION_IS_NOT_VALID.getMessage());
     }
+
+    @Test
+    @DisplayName("여러 파일 병렬 업로드 중 일부가 실패하면 업로드된 파일을 삭제하고 예외 발생")
+    void fileUploadServiceTest3() throws Exception {
+        // given
+        ThreadPoolTaskExecutor fileUploadExecutor = new ThreadPoolTaskExecutor();
+        fileUploadExecutor.initialize();
+        ThreadPoolTaskExecutor imageResizeExecutor = new ThreadPoolTaskExecutor();
+        imageResizeExecutor.initialize();
+        FileUploadService parallelFileUploadService = new FileUploadService(amazonS3ResourceStorage,
+                new ImageResizer(), fileUploadExecutor, imageResizeExecutor, new SimpleMeterRegistry());
+        MockMultipartFile successFile = new MockMultipartFile("files", "success.png",
+                MediaType.IMAGE_PNG_VALUE, "fileContent".getBytes());
+        MockMultipartFile failFile = new MockMultipartFile("files", "fail.png",
+                MediaType.IMAGE_PNG_VALUE, "fileContent".getBytes());
+        String fileUrl = "fileUrl";
+        given(amazonS3ResourceStorage.uploadImage(any(MultipartFile.class), any(AwsS3Path.class)))
+                .willAnswer(invocation -> {
+                    MultipartFile file = invocation.getArgument(0);
+                    if (file.getOriginalFilename().startsWith("fail")) {
+                        throw new BusinessLogicException(ExceptionCode.FAIL_TO_UPLOAD_FILE);
+                    }
+                    return fileUrl;
+                });
+
+        // when // then
+        try {
+            assertThatThrownBy(() -> parallelFileUploadService.uploadAll(
+                    List.<MultipartFile>of(successFile, failFile), AwsS3Path.FEEDIMAGE))
+                    .isInstanceOf(BusinessLogicException.class)
+                    .hasMessage(ExceptionCode.FAIL_TO_UPLOAD_FILE.getMessage());
+            verify(amazonS3ResourceStorage).removeImage(fileUrl);
+        } finally {
+            fileUploadExecutor.shutdown();
+            imageResizeExecutor.shutdown();
+        }
+    }
 }
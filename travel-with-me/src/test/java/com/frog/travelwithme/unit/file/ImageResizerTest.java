@@ -0,0 +1,150 @@
+package com.frog.travelwithme.unit.file;
+
+import com.frog.travelwithme.global.enums.EnumCollection.ImageVariant;
+import com.frog.travelwithme.global.file.ImageResizer;
+import com.frog.travelwithme.utils.StubData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/22
+ **/
+class ImageResizerTest {
+
+    private final ImageResizer imageResizer = new ImageResizer();
+
+    @Test
+    @DisplayName("원본보다 작은 너비의 variant만 비율을 유지한 JPEG으로 리사이즈")
+    void imageResizerTest1() throws Exception {
+        // given
+        MockMultipartFile file = new MockMultipartFile("files", "originalFilename.png",
+                MediaType.IMAGE_PNG_VALUE, createPng(2000, 1000));
+
+        // when
+        Map<ImageVariant, byte[]> resizedImages = imageResizer.resize(file);
+
+        // then
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(resizedImages.get(ImageVariant.THUMBNAIL)));
+        BufferedImage feed = ImageIO.read(new ByteArrayInputStream(resizedImages.get(ImageVariant.FEED)));
+        assertAll(
+                () -> assertThat(resizedImages).containsOnlyKeys(ImageVariant.THUMBNAIL, ImageVariant.FEED),
+                () -> assertEquals(320, thumbnail.getWidth()),
+                () -> assertEquals(160, thumbnail.getHeight()),
+                () -> assertEquals(1080, feed.getWidth()),
+                () -> assertEquals(540, feed.getHeight())
+        );
+    }
+
+    @Test
+    @DisplayName("이미지로 읽을 수 없는 파일은 리사이즈하지 않음")
+    void imageResizerTest2() throws Exception {
+        // given
+        MockMultipartFile file = StubData.CustomMockMultipartFile.getFile();
+
+        // when
+        Map<ImageVariant, byte[]> resizedImages = imageResizer.resize(file);
+
+        // then
+        assertThat(resizedImages).isEmpty();
+    }
+
+    @Test
+    @DisplayName("subsampling 하여 읽은 이미지도 원본 너비 기준으로 variant를 만들고 variant 너비로 리사이즈")
+    void imageResizerTest3() throws Exception {
+        // given
+        MockMultipartFile file = new MockMultipartFile("files", "originalFilename.png",
+                MediaType.IMAGE_PNG_VALUE, createPng(2160, 1080));
+
+        // when
+        Map<ImageVariant, byte[]> resizedImages = imageResizer.resize(file);
+
+        // then
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(resizedImages.get(ImageVariant.THUMBNAIL)));
+        BufferedImage feed = ImageIO.read(new ByteArrayInputStream(resizedImages.get(ImageVariant.FEED)));
+        assertAll(
+                () -> assertThat(resizedImages).containsOnlyKeys(ImageVariant.THUMBNAIL, ImageVariant.FEED),
+                () -> assertEquals(320, thumbnail.getWidth()),
+                () -> assertEquals(160, thumbnail.getHeight()),
+                () -> assertEquals(1080, feed.getWidth()),
+                () -> assertEquals(540, feed.getHeight())
+        );
+    }
+
+    @Test
+    @DisplayName("EXIF Orientation이 있는 JPEG은 보이는 방향으로 회전한 뒤 보이는 너비 기준으로 리사이즈")
+    void imageResizerTest4() throws Exception {
+        // given
+        // 저장된 픽셀은 2000x1000, 왼쪽 절반은 빨간색, 오른쪽 절반은 파란색, 시계 방향 90도 회전(6)으로 표시
+        MockMultipartFile file = new MockMultipartFile("files", "originalFilename.jpg",
+                MediaType.IMAGE_JPEG_VALUE, createOrientedJpeg(2000, 1000, 6));
+
+        // when
+        Map<ImageVariant, byte[]> resizedImages = imageResizer.resize(file);
+
+        // then
+        // 보이는 이미지는 1000x2000이므로 FEED(1080)는 만들지 않고, 회전하면 왼쪽(빨간색)이 위로 감
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(resizedImages.get(ImageVariant.THUMBNAIL)));
+        Color top = new Color(thumbnail.getRGB(160, 100));
+        Color bottom = new Color(thumbnail.getRGB(160, 540));
+        assertAll(
+                () -> assertThat(resizedImages).containsOnlyKeys(ImageVariant.THUMBNAIL),
+                () -> assertEquals(320, thumbnail.getWidth()),
+                () -> assertEquals(640, thumbnail.getHeight()),
+                () -> assertThat(top.getRed()).isGreaterThan(top.getBlue()),
+                () -> assertThat(bottom.getBlue()).isGreaterThan(bottom.getRed())
+        );
+    }
+
+    private byte[] createPng(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+
+        return outputStream.toByteArray();
+    }
+
+    // ImageIO로 만든 JPEG의 APP0(JFIF) 뒤에 Orientation 태그 하나만 있는 APP1(EXIF) 세그먼트를 끼워 넣음
+    private byte[] createOrientedJpeg(int width, int height, int orientation) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(width / 2, 0, width - width / 2, height);
+        graphics.dispose();
+        ByteArrayOutputStream jpegStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", jpegStream);
+        byte[] jpeg = jpegStream.toByteArray();
+
+        byte[] exif = {
+                (byte) 0xFF, (byte) 0xE1, 0x00, 0x22,
+                'E', 'x', 'i', 'f', 0x00, 0x00,
+                'M', 'M', 0x00, 0x2A, 0x00, 0x00, 0x00, 0x08,
+                0x00, 0x01,
+                0x01, 0x12, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01, 0x00, (byte) orientation, 0x00, 0x00,
+                0x00, 0x00, 0x00, 0x00
+        };
+        int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(jpeg, 0, app0End);
+        outputStream.write(exif);
+        outputStream.write(jpeg, app0End, jpeg.length - app0End);
+
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,98 @@
+package com.frog.travelwithme.unit.mail;
+
+import com.frog.travelwithme.global.mail.MailQueueService;
+import com.frog.travelwithme.global.mail.MailService;
+import com.frog.travelwithme.global.mail.dto.MailMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/08
+ **/
+@ExtendWith(MockitoExtension.class)
+class MailServiceTest {
+
+    @Mock
+    private MailQueueService mailQueueService;
+
+    private MailService mailService;
+
+    private final List<String> sentEmails = new ArrayList<>();
+
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    // SMTP 서버 대신 발송 결과를 기록하고, "fail"로 시작하는 수신자는 발송 실패 처리
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl emailSender = new JavaMailSenderImpl() {
+            @Override
+            protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+                batchSizes.add(mimeMessages.length);
+                Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+                for (Object originalMessage : originalMessages) {
+                    String toEmail = ((SimpleMailMessage) originalMessage).getTo()[0];
+                    if (toEmail.startsWith("fail")) {
+                        failedMessages.put(originalMessage, new MessagingException("fail"));
+                    } else {
+                        sentEmails.add(toEmail);
+                    }
+                }
+                if (!failedMessages.isEmpty()) {
+                    throw new MailSendException(failedMessages);
+                }
+            }
+        };
+        mailService = new MailService(emailSender, mailQueueService);
+    }
+
+    @Test
+    @DisplayName("메일 발송 요청은 SMTP 전송 없이 발송 큐에 저장")
+    void mailServiceTest1() {
+        // when
+        mailService.sendEmail("test@gmail.com", "title", "code");
+
+        // then
+        ArgumentCaptor<MailMessage> mailMessageCaptor = ArgumentCaptor.forClass(MailMessage.class);
+        verify(mailQueueService).enqueue(mailMessageCaptor.capture());
+        assertThat(mailMessageCaptor.getValue().getToEmail()).isEqualTo("test@gmail.com");
+        assertThat(mailMessageCaptor.getValue().getAttempt()).isZero();
+        assertThat(sentEmails).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 메일을 한 번에 발송하고 실패한 메일만 반환")
+    void mailServiceTest2() {
+        // given
+        MailMessage success1 = MailMessage.of("success1@gmail.com", "title", "code");
+        MailMessage failure = MailMessage.of("fail@gmail.com", "title", "code");
+        MailMessage success2 = MailMessage.of("success2@gmail.com", "title", "code");
+
+        // when
+        List<MailMessage> failedMessages = mailService.sendEmails(List.of(success1, failure, success2));
+
+        // then
+        assertThat(batchSizes).containsExactly(3);
+        assertThat(sentEmails).containsExactlyInAnyOrder("success1@gmail.com", "success2@gmail.com");
+        assertThat(failedMessages).containsExactly(failure);
+    }
+}
@@ -0,0 +1,138 @@
+package com.frog.travelwithme.unit.redis.service;
+
+import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.global.redis.IdempotencyService;
+import com.frog.travelwithme.global.redis.RedisService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.ResponseBody;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final String KEY = "Idempotency:Matching:request:1:email@gmail.com:key";
+
+    @InjectMocks
+    private IdempotencyService idempotencyService;
+
+    @Mock
+    private RedisService redisService;
+
+    @Test
+    @DisplayName("처음 들어온 key는 요청을 처리하고 결과를 저장함")
+    void idempotencyServiceTest1() {
+        // given
+        given(redisService.setValuesIfAbsent(eq(KEY), eq("PROCESSING"), any())).willReturn(true);
+
+        // when
+        ResponseBody response = idempotencyService.execute("Matching:request:1:email@gmail.com", "key",
+                ResponseBody.class, () -> ResponseBody.NEW_REQUEST_MATCHING);
+
+        // then
+        assertEquals(ResponseBody.NEW_REQUEST_MATCHING, response);
+        verify(redisService).setValues(eq(KEY), eq(ResponseBody.NEW_REQUEST_MATCHING.name()), any());
+    }
+
+    @Test
+    @DisplayName("처리가 끝난 key로 다시 요청하면 요청을 처리하지 않고 저장된 결과를 반환함")
+    void idempotencyServiceTest2() {
+        // given
+        AtomicInteger executedCount = new AtomicInteger();
+        given(redisService.setValuesIfAbsent(eq(KEY), eq("PROCESSING"), any())).willReturn(false);
+        given(redisService.getValues(KEY)).willReturn(ResponseBody.NEW_REQUEST_MATCHING.name());
+
+        // when
+        ResponseBody response = idempotencyService.execute("Matching:request:1:email@gmail.com", "key",
+                ResponseBody.class, () -> {
+                    executedCount.incrementAndGet();
+                    return ResponseBody.RETRY_REQUEST_MATCHING;
+                });
+
+        // then
+        assertAll(
+                () -> assertEquals(ResponseBody.NEW_REQUEST_MATCHING, response),
+                () -> assertEquals(0, executedCount.get())
+        );
+    }
+
+    @Test
+    @DisplayName("같은 key의 요청이 처리 중이면 예외가 발생함")
+    void idempotencyServiceTest3() {
+        // given
+        given(redisService.setValuesIfAbsent(eq(KEY), eq("PROCESSING"), any())).willReturn(false);
+        given(redisService.getValues(KEY)).willReturn("PROCESSING");
+
+        // when // then
+        assertThatThrownBy(() -> idempotencyService.execute("Matching:request:1:email@gmail.com", "key",
+                ResponseBody.class, () -> ResponseBody.NEW_REQUEST_MATCHING))
+                .isInstanceOf(BusinessLogicException.class);
+    }
+
+    @Test
+    @DisplayName("요청 처리 중 예외가 발생하면 key를 삭제하여 재시도할 수 있음")
+    void idempotencyServiceTest4() {
+        // given
+        given(redisService.setValuesIfAbsent(eq(KEY), eq("PROCESSING"), any())).willReturn(true);
+
+        // when
+        assertThatThrownBy(() -> idempotencyService.execute("Matching:request:1:email@gmail.com", "key",
+                ResponseBody.class, () -> {
+                    throw new IllegalStateException();
+                }))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        verify(redisService).deleteValues(KEY);
+        verify(redisService, never()).setValues(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("key가 없으면 Redis를 사용하지 않고 요청을 처리함")
+    void idempotencyServiceTest5() {
+        // when
+        ResponseBody response = idempotencyService.execute("Matching:request:1:email@gmail.com", null,
+                ResponseBody.class, () -> ResponseBody.NEW_REQUEST_MATCHING);
+
+        // then
+        assertEquals(ResponseBody.NEW_REQUEST_MATCHING, response);
+        verify(redisService, never()).setValuesIfAbsent(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("요청 처리 중 예외가 발생한 뒤 key 삭제도 실패하면 요청 처리 중 발생한 예외를 던짐")
+    void idempotencyServiceTest6() {
+        // given
+        given(redisService.setValuesIfAbsent(eq(KEY), eq("PROCESSING"), any())).willReturn(true);
+        willThrow(new IllegalArgumentException()).given(redisService).deleteValues(KEY);
+
+        // when // then
+        assertThatThrownBy(() -> idempotencyService.execute("Matching:request:1:email@gmail.com", "key",
+                ResponseBody.class, () -> {
+                    throw new IllegalStateException();
+                }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasSuppressedException(new IllegalArgumentException());
+    }
+}
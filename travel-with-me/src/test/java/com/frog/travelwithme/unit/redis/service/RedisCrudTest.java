@@ -11,6 +11,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -84,4 +87,21 @@ class RedisCrudTest {
                 }
         );
     }
+
+    @Test
+    @DisplayName("여러 데이터를 만료시간과 함께 한 번에 저장하고 한 번에 조회할 수 있다.")
+    void redisCrudTest5() throws Exception {
+        // given
+        Map<String, String> data = new LinkedHashMap<>();
+        data.put("multiKey1", "value1");
+        data.put("multiKey2", "value2");
+
+        // when
+        redisService.setMultiValues(data, DURATION);
+        List<String> findValues = redisService.getMultiValues(List.of("multiKey1", "notExistKey", "multiKey2", KEY));
+
+        // then
+        assertThat(findValues).containsExactly("value1", null, "value2", VALUE);
+        data.keySet().forEach(redisService::deleteValues);
+    }
 }
@@ -0,0 +1,133 @@
+package com.frog.travelwithme.unit.redis.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.frog.travelwithme.domain.feed.controller.dto.FeedDto;
+import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.global.exception.ExceptionCode;
+import com.frog.travelwithme.global.redis.RedisValueCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/12
+ **/
+class RedisValueCodecTest {
+
+    private final RedisValueCodec redisValueCodec = new RedisValueCodec(1024);
+
+    @Test
+    @DisplayName("직렬화한 피드를 역직렬화하면 같은 값을 반환함")
+    void redisValueCodecTest1() {
+        // given
+        FeedDto.Response feed = createFeed(List.of("tag1", "tag2"));
+
+        // when
+        FeedDto.Response decoded = redisValueCodec.decode(redisValueCodec.encode(feed), FeedDto.Response.class);
+
+        // then
+        assertAll(
+                () -> assertEquals(feed.getId(), decoded.getId()),
+                () -> assertEquals(feed.getNickname(), decoded.getNickname()),
+                () -> assertEquals(feed.getLikeCount(), decoded.getLikeCount()),
+                () -> assertEquals(feed.isWriter(), decoded.isWriter()),
+                () -> assertEquals(feed.isLiked(), decoded.isLiked()),
+                () -> assertEquals(feed.getCreatedAt(), decoded.getCreatedAt()),
+                () -> assertEquals(feed.getTags(), decoded.getTags()),
+                () -> assertEquals(feed.getImageUrls(), decoded.getImageUrls())
+        );
+    }
+
+    @Test
+    @DisplayName("Smile로 직렬화한 값은 JSON 문자열보다 작음")
+    void redisValueCodecTest2() throws Exception {
+        // given
+        FeedDto.Response feed = createFeed(List.of("tag1", "tag2"));
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        // when
+        byte[] encoded = redisValueCodec.encode(feed);
+        byte[] json = objectMapper.writeValueAsBytes(feed);
+
+        // then
+        assertThat(encoded.length).isLessThan(json.length);
+    }
+
+    @Test
+    @DisplayName("임계값 이상의 값은 압축하여 저장하고 역직렬화할 수 있음")
+    void redisValueCodecTest3() {
+        // given
+        FeedDto.Response smallFeed = createFeed(List.of("tag1"));
+        FeedDto.Response largeFeed = createFeed(Collections.nCopies(500, "travel-with-me"));
+
+        // when
+        byte[] smallEncoded = redisValueCodec.encode(smallFeed);
+        byte[] largeEncoded = redisValueCodec.encode(largeFeed);
+        FeedDto.Response decoded = redisValueCodec.decode(largeEncoded, FeedDto.Response.class);
+
+        // then
+        assertAll(
+                () -> assertEquals(0, smallEncoded[0]),
+                () -> assertEquals(1, largeEncoded[0]),
+                () -> assertThat(largeEncoded.length).isLessThan(1024),
+                () -> assertEquals(largeFeed.getTags(), decoded.getTags())
+        );
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 값을 역직렬화하면 예외가 발생함")
+    void redisValueCodecTest4() {
+        // given
+        byte[] invalid = new byte[]{1, 2, 3, 4};
+
+        // when // then
+        assertThrows(BusinessLogicException.class,
+                () -> redisValueCodec.decode(invalid, FeedDto.Response.class));
+    }
+
+    @Test
+    @DisplayName("빈 값을 역직렬화하면 형식이 잘못된 값과 같은 예외가 발생함")
+    void redisValueCodecTest5() {
+        // given
+        byte[] empty = new byte[0];
+
+        // when
+        BusinessLogicException exception = assertThrows(BusinessLogicException.class,
+                () -> redisValueCodec.decode(empty, FeedDto.Response.class));
+
+        // then
+        assertEquals(ExceptionCode.UNABLE_TO_DECODE_CACHE_VALUE, exception.getExceptionCode());
+    }
+
+    private FeedDto.Response createFeed(List<String> tags) {
+        return FeedDto.Response.builder()
+                .id(1L)
+                .nickname("nickname")
+                .profileImage("https://travel-with-me.s3.amazonaws.com/profile.png")
+                .contents("contents")
+                .location("Seoul")
+                .likeCount(10L)
+                .commentCount(3L)
+                .writer(true)
+                .liked(false)
+                .following(true)
+                .createdAt(LocalDateTime.of(2023, 6, 12, 10, 30))
+                .tags(tags)
+                .imageUrls(List.of("https://travel-with-me.s3.amazonaws.com/feed.png"))
+                .build();
+    }
+}
@@ -14,7 +14,9 @@ import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.servlet.http.HttpServletResponse;
 import java.time.Duration;
@@ -112,6 +114,55 @@ class JwtTokenProviderTest {
                 });
     }
 
+    @DisplayName("검증된 Access Token은 다시 파싱하지 않고 캐시된 Authentication을 반환함")
+    @Test
+    void jwtTokenProviderTest7() {
+        // given
+        JwtTokenProvider initializedJwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(initializedJwtTokenProvider, "secretKey", secretKey);
+        ReflectionTestUtils.setField(initializedJwtTokenProvider, "accessTokenExpirationMillis", 60000L);
+        ReflectionTestUtils.setField(initializedJwtTokenProvider, "refreshTokenExpirationMillis", 60000L);
+        initializedJwtTokenProvider.init();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String accessToken = initializedJwtTokenProvider.generateTokenDto(
+                CustomUserDetails.of("email", "USER")).getAccessToken();
+
+        // when
+        Authentication authentication = initializedJwtTokenProvider.getVerifiedAuthentication(accessToken, response);
+        Authentication cachedAuthentication = initializedJwtTokenProvider.getVerifiedAuthentication(accessToken, response);
+        Authentication malformedAuthentication = initializedJwtTokenProvider.getVerifiedAuthentication(
+                "malformedToken", response);
+
+        // then
+        assertNotNull(authentication);
+        assertSame(authentication, cachedAuthentication);
+        assertThat(((CustomUserDetails) authentication.getPrincipal()).getEmail(), is("email"));
+        assertNull(malformedAuthentication);
+    }
+
+    @DisplayName("캐시된 Authentication은 토큰 만료 시각이 지나면 사용하지 않음")
+    @Test
+    void jwtTokenProviderTest8() {
+        // given
+        JwtTokenProvider initializedJwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(initializedJwtTokenProvider, "secretKey", secretKey);
+        ReflectionTestUtils.setField(initializedJwtTokenProvider, "accessTokenExpirationMillis", 2000L);
+        ReflectionTestUtils.setField(initializedJwtTokenProvider, "refreshTokenExpirationMillis", 2000L);
+        initializedJwtTokenProvider.init();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String accessToken = initializedJwtTokenProvider.generateTokenDto(
+                CustomUserDetails.of("email", "USER")).getAccessToken();
+
+        // when
+        Authentication authentication = initializedJwtTokenProvider.getVerifiedAuthentication(accessToken, response);
+
+        // then
+        assertNotNull(authentication);
+        await().pollDelay(Duration.ofMillis(3000)).untilAsserted(
+                () -> assertThrows(BusinessLogicException.class,
+                        () -> initializedJwtTokenProvider.getVerifiedAuthentication(accessToken, response)));
+    }
+
     private String getAccessToken() {
         CustomUserDetails userDetails = CustomUserDetails.of("email", "USER");
         TokenDto tokenDto = jwtTokenProvider.generateTokenDto(userDetails);
@@ -0,0 +1,60 @@
+package com.frog.travelwithme.unit.security.auth.filter;
+
+import com.frog.travelwithme.global.security.auth.filter.ExcludePathMatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/10
+ **/
+class ExcludePathMatcherTest {
+
+    private final ExcludePathMatcher excludePathMatcher = ExcludePathMatcher.compile(List.of(
+            "/", "/h2", "/members/signup", "/auth/login", "/auth/reissue", "/members/emails/*"));
+
+    @Test
+    @DisplayName("등록된 url과 정확히 일치하는 경로는 대소문자 구분 없이 인증 제외")
+    void excludePathMatcherTest1() {
+        assertThat(excludePathMatcher.matches("/")).isTrue();
+        assertThat(excludePathMatcher.matches("/h2")).isTrue();
+        assertThat(excludePathMatcher.matches("/auth/login")).isTrue();
+        assertThat(excludePathMatcher.matches("/Members/SignUp")).isTrue();
+        assertThat(excludePathMatcher.matches("/auth/logout")).isFalse();
+        assertThat(excludePathMatcher.matches("/auth/login/")).isFalse();
+        assertThat(excludePathMatcher.matches("/feeds")).isFalse();
+        assertThat(excludePathMatcher.matches("")).isFalse();
+    }
+
+    @Test
+    @DisplayName("\"*\" 패턴은 한 segment와만 일치")
+    void excludePathMatcherTest2() {
+        assertThat(excludePathMatcher.matches("/members/emails/verification-requests")).isTrue();
+        assertThat(excludePathMatcher.matches("/members/emails/verifications")).isTrue();
+        assertThat(excludePathMatcher.matches("/members/emails")).isFalse();
+        assertThat(excludePathMatcher.matches("/members/emails/")).isFalse();
+        assertThat(excludePathMatcher.matches("/members/emails/a/b")).isFalse();
+    }
+
+    @Test
+    @DisplayName("일반 segment와 \"*\" 패턴이 겹쳐도 되돌아가지 않고 두 패턴 모두 일치")
+    void excludePathMatcherTest3() {
+        // given
+        ExcludePathMatcher overlappingMatcher = ExcludePathMatcher.compile(List.of(
+                "/feeds/recent", "/feeds/*/images", "/docs/**"));
+
+        // when // then
+        assertThat(overlappingMatcher.matches("/feeds/recent")).isTrue();
+        assertThat(overlappingMatcher.matches("/feeds/recent/images")).isTrue();
+        assertThat(overlappingMatcher.matches("/feeds/1/images")).isTrue();
+        assertThat(overlappingMatcher.matches("/feeds/1")).isFalse();
+        assertThat(overlappingMatcher.matches("/docs")).isTrue();
+        assertThat(overlappingMatcher.matches("/docs/index.html")).isTrue();
+        assertThat(overlappingMatcher.matches("/docs/api/member.html")).isTrue();
+    }
+}
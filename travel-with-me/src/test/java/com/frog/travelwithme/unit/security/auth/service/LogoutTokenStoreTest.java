@@ -0,0 +1,98 @@
+package com.frog.travelwithme.unit.security.auth.service;
+
+import com.frog.travelwithme.global.redis.RedisService;
+import com.frog.travelwithme.global.security.auth.service.LogoutTokenStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/06
+ **/
+@ExtendWith(MockitoExtension.class)
+class LogoutTokenStoreTest {
+
+    private static final String ACCESS_TOKEN = "accessToken";
+
+    @InjectMocks
+    private LogoutTokenStore logoutTokenStore;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Test
+    @DisplayName("동기화 이후 로그아웃 여부는 Redis 조회 없이 서버 메모리에서 확인")
+    void logoutTokenStoreTest1() {
+        // given
+        given(redisService.getZSetReverseRangeWithScores(anyString(), anyLong(), anyLong()))
+                .willReturn(Collections.emptyMap());
+        logoutTokenStore.sync();
+
+        // when
+        boolean beforeLogout = logoutTokenStore.isLogout(ACCESS_TOKEN);
+        logoutTokenStore.logout(ACCESS_TOKEN, Duration.ofMinutes(30));
+        boolean afterLogout = logoutTokenStore.isLogout(ACCESS_TOKEN);
+
+        // then
+        assertFalse(beforeLogout);
+        assertTrue(afterLogout);
+        verify(redisService).setValues(eq(ACCESS_TOKEN), eq("logout"), any(Duration.class));
+        verify(redisService, never()).getValues(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 전파된 로그아웃 토큰을 서버 메모리에 반영")
+    void logoutTokenStoreTest2() {
+        // given
+        given(redisService.getZSetReverseRangeWithScores(anyString(), anyLong(), anyLong()))
+                .willReturn(Collections.emptyMap());
+        logoutTokenStore.sync();
+        logoutTokenStore.logout(ACCESS_TOKEN, Duration.ofMinutes(30));
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        verify(redisService).publish(anyString(), messageCaptor.capture());
+        LogoutTokenStore otherServerStore = new LogoutTokenStore(redisService, redisMessageListenerContainer);
+        otherServerStore.sync();
+
+        // when
+        otherServerStore.onMessage(new DefaultMessage("LogoutTokenChannel".getBytes(StandardCharsets.UTF_8),
+                messageCaptor.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertTrue(otherServerStore.isLogout(ACCESS_TOKEN));
+    }
+
+    @Test
+    @DisplayName("Redis와 한 번도 동기화되지 않았다면 Redis에서 로그아웃 여부 조회")
+    void logoutTokenStoreTest3() {
+        // given
+        given(redisService.getValues(ACCESS_TOKEN)).willReturn("logout");
+
+        // when
+        boolean logout = logoutTokenStore.isLogout(ACCESS_TOKEN);
+
+        // then
+        assertTrue(logout);
+    }
+}
@@ -0,0 +1,55 @@
+package com.frog.travelwithme.unit.security.auth.trace;
+
+import com.frog.travelwithme.global.enums.EnumCollection.AuthTraceStage;
+import com.frog.travelwithme.global.security.auth.trace.AuthRequestTracer;
+import com.frog.travelwithme.global.security.auth.trace.AuthTrace;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/09
+ **/
+class AuthRequestTracerTest {
+
+    @Test
+    @DisplayName("추적이 켜져 있으면 실행된 단계의 소요 시간만 메트릭으로 기록")
+    void authRequestTracerTest1() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuthRequestTracer authRequestTracer = new AuthRequestTracer(true, 1.0, meterRegistry);
+
+        // when
+        AuthTrace authTrace = authRequestTracer.start();
+        authTrace.record(AuthTraceStage.PARSE);
+        authTrace.record(AuthTraceStage.REVOCATION_CHECK);
+        authTrace.finish("/feeds");
+
+        // then
+        assertThat(meterRegistry.get("auth.filter").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.filter.stage").tag("stage", "parse").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.filter.stage").tag("stage", "revocation").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.filter.stage").tag("stage", "verify").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("추적이 꺼져 있으면 같은 NOOP 추적을 반환하고 메트릭을 기록하지 않음")
+    void authRequestTracerTest2() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuthRequestTracer authRequestTracer = new AuthRequestTracer(false, 1.0, meterRegistry);
+
+        // when
+        AuthTrace authTrace = authRequestTracer.start();
+        authTrace.record(AuthTraceStage.PARSE);
+        authTrace.finish("/feeds");
+
+        // then
+        assertThat(authRequestTracer.start()).isSameAs(authTrace);
+        assertThat(meterRegistry.get("auth.filter").timer().count()).isZero();
+    }
+}
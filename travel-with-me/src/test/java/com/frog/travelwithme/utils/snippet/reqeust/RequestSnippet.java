@@ -227,4 +227,10 @@ public class RequestSnippet {
                 parameterWithName("tagName").description("조회하려는 Feed들에 포함된 tagName")
         );
     }
+
+    public static Snippet getMatchingMemberListParamSnippet() {
+        return requestParameters(
+                parameterWithName("lastMatchingId").description("이전 조회한 목록 중 마지막 매칭의 인덱스. 첫 번째 조회에서는 해당 파라미터 제외").optional()
+        );
+    }
 }
@@ -87,7 +87,8 @@ public class ResponseSnippet {
                 List.of(
                         fieldWithPath("data[].id").description("회원 ID"),
                         fieldWithPath("data[].nickname").description("작성자 닉네임 및 타입"),
-                        fieldWithPath("data[].image").description("프로필 이미지 url")
+                        fieldWithPath("data[].image").description("프로필 이미지 url"),
+                        fieldWithPath("data[].matchingId").description("매칭 ID, 다음 페이지 조회 시 lastMatchingId로 사용")
                 )
         );
     }
@@ -109,6 +110,7 @@ public class ResponseSnippet {
                 fieldWithPath("data.commentCount").type(JsonFieldType.NUMBER).description("피드 댓글 개수"),
                 fieldWithPath("data.isWriter").type(JsonFieldType.BOOLEAN).description("사용자의 피드 작성자 여부"),
                 fieldWithPath("data.isLiked").type(JsonFieldType.BOOLEAN).description("사용자의 피드 좋아요 여부"),
+                fieldWithPath("data.isFollowing").type(JsonFieldType.BOOLEAN).description("사용자의 피드 작성자 팔로우 여부"),
                 fieldWithPath("data.createdAt").type(JsonFieldType.STRING).description("피드 생성 시간"),
                 fieldWithPath("data.tags").type(JsonFieldType.ARRAY).description("피드 태그 리스트"),
                 fieldWithPath("data.imageUrls").type(JsonFieldType.ARRAY).description("피드 이미지 URL 리스트")
@@ -126,6 +128,7 @@ public class ResponseSnippet {
                         fieldWithPath("data[].commentCount").type(JsonFieldType.NUMBER).description("피드 댓글 개수"),
                         fieldWithPath("data[].isWriter").type(JsonFieldType.BOOLEAN).description("사용자의 피드 작성자 여부"),
                         fieldWithPath("data[].isLiked").type(JsonFieldType.BOOLEAN).description("사용자의 피드 좋아요 여부"),
+                        fieldWithPath("data[].isFollowing").type(JsonFieldType.BOOLEAN).description("사용자의 피드 작성자 팔로우 여부"),
                         fieldWithPath("data[].createdAt").type(JsonFieldType.STRING).description("피드 생성 시간"),
                         fieldWithPath("data[].tags").type(JsonFieldType.ARRAY).description("피드 태그 리스트"),
                         fieldWithPath("data[].imageUrls").type(JsonFieldType.ARRAY).description("피드 이미지 URL 리스트")